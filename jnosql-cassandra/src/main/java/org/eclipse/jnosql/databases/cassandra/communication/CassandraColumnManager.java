@@ -25,6 +25,7 @@ import org.eclipse.jnosql.communication.column.ColumnQuery;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 /**
@@ -82,6 +83,71 @@ public interface CassandraColumnManager extends ColumnManager {
      */
     Iterable<ColumnEntity> save(Iterable<ColumnEntity> entities, Duration ttl, ConsistencyLevel level) throws NullPointerException;
 
+    /**
+     * Inserts an entity asynchronously.
+     *
+     * @param entity the entity
+     * @return the stage completed with the entity inserted
+     * @throws NullPointerException when entity is null
+     */
+    CompletionStage<ColumnEntity> insertAsync(ColumnEntity entity) throws NullPointerException;
+
+    /**
+     * Inserts an entity with the given ttl asynchronously.
+     *
+     * @param entity the entity
+     * @param ttl    the ttl
+     * @return the stage completed with the entity inserted
+     * @throws NullPointerException when either entity or ttl are null
+     */
+    CompletionStage<ColumnEntity> insertAsync(ColumnEntity entity, Duration ttl) throws NullPointerException;
+
+    /**
+     * Saves an entity with a defined {@link ConsistencyLevel} asynchronously.
+     *
+     * @param entity the entity
+     * @param level  the level
+     * @return the stage completed with the entity saved
+     * @throws NullPointerException when either entity or level are null
+     */
+    CompletionStage<ColumnEntity> saveAsync(ColumnEntity entity, ConsistencyLevel level) throws NullPointerException;
+
+    /**
+     * Inserts the entities in bulk asynchronously. The entities of the same partition are grouped into
+     * UNLOGGED batches, and the number of batches executed at the same time is bounded.
+     *
+     * @param entities the entities
+     * @return the stage completed with the entities inserted, or completed exceptionally when any batch fails
+     * @throws NullPointerException when entities is null
+     * @see CassandraConfigurations#BATCH_SIZE
+     * @see CassandraConfigurations#BATCH_IN_FLIGHT
+     */
+    CompletionStage<Iterable<ColumnEntity>> insertAsync(Iterable<ColumnEntity> entities) throws NullPointerException;
+
+    /**
+     * Inserts the entities in bulk with the given ttl asynchronously.
+     *
+     * @param entities the entities
+     * @param ttl      the ttl
+     * @return the stage completed with the entities inserted, or completed exceptionally when any batch fails
+     * @throws NullPointerException when either entities or ttl are null
+     * @see #insertAsync(Iterable)
+     */
+    CompletionStage<Iterable<ColumnEntity>> insertAsync(Iterable<ColumnEntity> entities, Duration ttl)
+            throws NullPointerException;
+
+    /**
+     * Saves the entities in bulk with a defined {@link ConsistencyLevel} asynchronously.
+     *
+     * @param entities the entities
+     * @param level    the level
+     * @return the stage completed with the entities saved, or completed exceptionally when any batch fails
+     * @throws NullPointerException when either entities or level are null
+     * @see #insertAsync(Iterable)
+     */
+    CompletionStage<Iterable<ColumnEntity>> saveAsync(Iterable<ColumnEntity> entities, ConsistencyLevel level)
+            throws NullPointerException;
+
     /**
      * Deletes an information using {@link ConsistencyLevel}
      *
@@ -101,6 +167,31 @@ public interface CassandraColumnManager extends ColumnManager {
      */
     Stream<ColumnEntity> select(ColumnQuery query, ConsistencyLevel level) throws NullPointerException;
 
+    /**
+     * Reads the whole table in parallel: the token ring is split into ranges, which are read concurrently by up to
+     * {@code parallelism} threads and merged in a single stream, in no particular order. Close the stream when it
+     * is not fully consumed, so the threads reading ahead stop.
+     *
+     * @param columnFamily the table
+     * @param parallelism  the number of ranges read at the same time
+     * @return the entities of the table
+     * @throws NullPointerException     when columnFamily is null
+     * @throws IllegalArgumentException when parallelism is not greater than zero
+     */
+    Stream<ColumnEntity> scan(String columnFamily, int parallelism) throws NullPointerException;
+
+    /**
+     * Counts the rows of the table in parallel, using the same token ranges as {@link #scan(String, int)}, so
+     * each request counts a slice of the table instead of one request counting all of it.
+     *
+     * @param columnFamily the table
+     * @param parallelism  the number of ranges counted at the same time
+     * @return the number of rows of the table
+     * @throws NullPointerException     when columnFamily is null
+     * @throws IllegalArgumentException when parallelism is not greater than zero
+     */
+    long count(String columnFamily, int parallelism) throws NullPointerException;
+
     /**
      * Executes CQL
      *
@@ -29,8 +29,36 @@ public class CassandraColumnManagerFactory implements ColumnManagerFactory {
 
     private final CqlSessionBuilder sessionBuilder;
 
+    private final int statementCacheSize;
+
+    private final int batchSize;
+
+    private final int batchInFlight;
+
+    private final SchemaMetadataCache metadata = new SchemaMetadataCache();
+
     CassandraColumnManagerFactory(final CqlSessionBuilder sessionBuilder, List<String> queries) {
-        this.sessionBuilder = sessionBuilder;
+        this(sessionBuilder, queries, PreparedStatementCache.DEFAULT_MAX_SIZE,
+                DefaultCassandraColumnManager.DEFAULT_BATCH_SIZE,
+                DefaultCassandraColumnManager.DEFAULT_BATCH_IN_FLIGHT);
+    }
+
+    CassandraColumnManagerFactory(final CqlSessionBuilder sessionBuilder, List<String> queries,
+                                  int statementCacheSize, int batchSize, int batchInFlight) {
+        if (statementCacheSize <= 0) {
+            throw new IllegalArgumentException("The statement cache size must be greater than zero: "
+                    + statementCacheSize);
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be greater than zero: " + batchSize);
+        }
+        if (batchInFlight <= 0) {
+            throw new IllegalArgumentException("The batch in flight must be greater than zero: " + batchInFlight);
+        }
+        this.sessionBuilder = sessionBuilder.addSchemaChangeListener(metadata);
+        this.statementCacheSize = statementCacheSize;
+        this.batchSize = batchSize;
+        this.batchInFlight = batchInFlight;
         load(queries);
     }
 
@@ -42,7 +70,8 @@ public class CassandraColumnManagerFactory implements ColumnManagerFactory {
 
     @Override
     public CassandraColumnManager apply(String database) {
-        return new DefaultCassandraColumnManager(sessionBuilder.build(), database);
+        return new DefaultCassandraColumnManager(sessionBuilder.build(), database, metadata, statementCacheSize,
+                batchSize, batchInFlight);
     }
 
     @Override
@@ -38,7 +38,8 @@ public final class CassandraConfiguration implements ColumnConfiguration {
     private CassandraColumnManagerFactory getManagerFactory(Map<String, String> configurations) {
         requireNonNull(configurations);
         CassandraProperties properties = CassandraProperties.of(configurations);
-        return new CassandraColumnManagerFactory(properties.createCluster(), properties.getQueries());
+        return new CassandraColumnManagerFactory(properties.createCluster(), properties.getQueries(),
+                properties.getStatementCacheSize(), properties.getBatchSize(), properties.getBatchInFlight());
     }
 
 
@@ -53,7 +53,20 @@ public enum CassandraConfigurations implements Supplier<String> {
     /**
      * The datacenter that is considered "local" by the load balancing policy.
      */
-    DATA_CENTER("jnosql.cassandra.data.center");
+    DATA_CENTER("jnosql.cassandra.data.center"),
+    /**
+     * The maximum number of prepared statements kept by each manager. By default, 1000.
+     */
+    STATEMENT_CACHE_SIZE("jnosql.cassandra.statement.cache.size"),
+    /**
+     * The maximum number of inserts of the same partition grouped in an UNLOGGED batch by the bulk
+     * insert. By default, 100.
+     */
+    BATCH_SIZE("jnosql.cassandra.batch.size"),
+    /**
+     * The maximum number of batches the bulk insert executes at the same time. By default, 32.
+     */
+    BATCH_IN_FLIGHT("jnosql.cassandra.batch.in.flight");
 
     private final String configuration;
 
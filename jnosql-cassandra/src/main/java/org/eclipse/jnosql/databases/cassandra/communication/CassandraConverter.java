@@ -12,122 +12,192 @@
  *
  *   Otavio Santana
  */
-
 package org.eclipse.jnosql.databases.cassandra.communication;
 
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.data.UdtValue;
 import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.ListType;
+import com.datastax.oss.driver.api.core.type.SetType;
 import com.datastax.oss.driver.api.core.type.UserDefinedType;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
-import com.datastax.oss.protocol.internal.ProtocolConstants;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.column.Column;
 import org.eclipse.jnosql.communication.column.ColumnEntity;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-import static java.util.stream.Collectors.toList;
-
 final class CassandraConverter {
 
     private CassandraConverter() {
     }
 
+    /**
+     * Converts the rows lazily. The driver fetches the next page of the result set only when the stream
+     * reaches the end of the current one, so the result is never held in memory as a whole.
+     * The decoding plan of the columns is computed once and reused for every row.
+     *
+     * @param resultSet the result set
+     * @return the stream of entities
+     */
+    static Stream<ColumnEntity> toDocumentEntities(ResultSet resultSet) {
+        RowPlan plan = new RowPlan(resultSet.getColumnDefinitions());
+        return StreamSupport.stream(resultSet.spliterator(), false).map(plan::toDocumentEntity);
+    }
+
+    /**
+     * Creates the decoding plan of the columns, to convert several rows of the same result set.
+     *
+     * @param definitions the column definitions of the result set
+     * @return the plan
+     */
+    static RowPlan plan(ColumnDefinitions definitions) {
+        return new RowPlan(definitions);
+    }
+
     public static ColumnEntity toDocumentEntity(Row row) {
-        List<Column> columns = new ArrayList<>();
-        String columnFamily = "";
-        for (ColumnDefinition definition : row.getColumnDefinitions()) {
-            columnFamily = definition.getTable().asInternal();
-            Object result = CassandraConverter.get(definition, row);
-            if (Objects.nonNull(result)) {
-                columns.add(getColumn(definition, result));
-            }
-        }
-        return ColumnEntity.of(columnFamily, columns);
+        return new RowPlan(row.getColumnDefinitions()).toDocumentEntity(row);
     }
 
+    /**
+     * The decoding plan of a {@link ColumnDefinitions}: the table name, and for each column its name and
+     * codec, or the field names and codecs when it is a UDT or a collection of UDT.
+     */
+    static final class RowPlan {
 
-    private static Column getColumn(ColumnDefinition definition, Object result) {
+        private final String columnFamily;
 
-        final DataType type = definition.getType();
-        switch (type.getProtocolCode()) {
-            case ProtocolConstants.DataType.UDT:
-                return Column.class.cast(result);
-            case ProtocolConstants.DataType.LIST:
-            case ProtocolConstants.DataType.SET:
-                if (isUDTIterable(result)) {
-                    return UDT.builder(getUserType(result)).withName(definition.getName().asInternal())
-                            .addUDTs(getColumns(definition, result)).build();
-                }
-                return Column.of(definition.getName().asInternal(), Value.of(result));
-            default:
-                return Column.of(definition.getName().asInternal(), Value.of(result));
-        }
-    }
+        private final ColumnPlan[] columns;
 
-    static Object get(ColumnDefinition definition, Row row) {
+        private CodecRegistry registry;
 
-        String name = definition.getName().asInternal();
-        final DataType type = definition.getType();
-        if (type instanceof UserDefinedType) {
-            return getUDT(definition, row.getUdtValue(name));
+        private RowPlan(ColumnDefinitions definitions) {
+            this.columns = new ColumnPlan[definitions.size()];
+            String table = "";
+            for (int index = 0; index < columns.length; index++) {
+                ColumnDefinition definition = definitions.get(index);
+                table = definition.getTable().asInternal();
+                columns[index] = new ColumnPlan(index, definition);
+            }
+            this.columnFamily = table;
         }
-        final TypeCodec<Object> codec = row.codecRegistry().codecFor(type);
-        return row.get(name, codec);
-    }
 
-    private static UDT getUDT(ColumnDefinition definition, UdtValue udtValue) {
-        String name = definition.getName().asInternal();
-        final UserDefinedType type = udtValue.getType();
-        List<Column> columns = new ArrayList<>();
-        List<String> names = type.getFieldNames().stream().map(CqlIdentifier::asInternal).collect(toList());
-        for (CqlIdentifier fieldName : type.getFieldNames()) {
-            final int index = names.indexOf(fieldName.asInternal());
-            DataType fieldType = type.getFieldTypes().get(index);
-            Object elementValue = udtValue.get(fieldName, CodecRegistry.DEFAULT.codecFor(fieldType));
-            if (elementValue != null) {
-                columns.add(Column.of(fieldName.asInternal(), elementValue));
+        ColumnEntity toDocumentEntity(Row row) {
+            if (registry != row.codecRegistry()) {
+                registry = row.codecRegistry();
+                for (ColumnPlan column : columns) {
+                    column.resolve(registry);
+                }
             }
+            List<Column> values = new ArrayList<>(columns.length);
+            for (ColumnPlan column : columns) {
+                Column value = column.read(row);
+                if (value != null) {
+                    values.add(value);
+                }
+            }
+            return ColumnEntity.of(columnFamily, values);
         }
-        return UDT.builder(type.getName().asInternal()).withName(name).addUDT(columns).build();
     }
 
-    private static String getUserType(Object result) {
-        return StreamSupport.stream(Iterable.class.cast(result).spliterator(), false)
-                .limit(1L)
-                .map(c -> UdtValue.class.cast(c).getType().getName().asInternal())
-                .findFirst()
-                .get().toString();
-    }
+    private static final class ColumnPlan {
+
+        private final int index;
+
+        private final String name;
+
+        private final DataType type;
+
+        private final UDTPlan udt;
+
+        private final UDTPlan elementUdt;
 
-    private static Iterable<Iterable<Column>> getColumns(ColumnDefinition definition, Object result) {
+        private TypeCodec<Object> codec;
 
-        List<Iterable<Column>> columns = new ArrayList<>();
-        for (Object value : Iterable.class.cast(result)) {
-            final UdtValue udtValue = UdtValue.class.cast(value);
-            final UDT udt = getUDT(definition, udtValue);
-            columns.add((Iterable<Column>) udt.get());
+        private ColumnPlan(int index, ColumnDefinition definition) {
+            this.index = index;
+            this.name = definition.getName().asInternal();
+            this.type = definition.getType();
+            this.udt = type instanceof UserDefinedType ? new UDTPlan((UserDefinedType) type) : null;
+            this.elementUdt = elementUdt(type);
         }
 
-        return columns;
-    }
+        private void resolve(CodecRegistry registry) {
+            if (udt == null) {
+                this.codec = registry.codecFor(type);
+            }
+        }
 
-    private static boolean isUDTIterable(Object result) {
-        final Iterable<?> iterable = Iterable.class.cast(result);
-        if (!iterable.iterator().hasNext()) {
-            return false;
+        private Column read(Row row) {
+            if (udt != null) {
+                UdtValue udtValue = row.getUdtValue(index);
+                if (udtValue == null) {
+                    return null;
+                }
+                return UDT.builder(udt.typeName).withName(name).addUDT(udt.columns(udtValue)).build();
+            }
+            Object result = row.get(index, codec);
+            if (result == null) {
+                return null;
+            }
+            if (elementUdt != null && Iterable.class.cast(result).iterator().hasNext()) {
+                List<Iterable<Column>> udts = new ArrayList<>();
+                for (Object value : Iterable.class.cast(result)) {
+                    udts.add(elementUdt.columns(UdtValue.class.cast(value)));
+                }
+                return UDT.builder(elementUdt.typeName).withName(name).addUDTs(udts).build();
+            }
+            return Column.of(name, Value.of(result));
+        }
+
+        private static UDTPlan elementUdt(DataType type) {
+            DataType elementType = null;
+            if (type instanceof ListType) {
+                elementType = ((ListType) type).getElementType();
+            } else if (type instanceof SetType) {
+                elementType = ((SetType) type).getElementType();
+            }
+            if (elementType instanceof UserDefinedType) {
+                return new UDTPlan((UserDefinedType) elementType);
+            }
+            return null;
         }
-        return StreamSupport.stream(iterable.spliterator(), false)
-                .allMatch(UdtValue.class::isInstance);
     }
 
+    private static final class UDTPlan {
+
+        private final String typeName;
+
+        private final String[] names;
 
+        private final List<TypeCodec<Object>> codecs = new ArrayList<>();
+
+        private UDTPlan(UserDefinedType type) {
+            this.typeName = type.getName().asInternal();
+            this.names = type.getFieldNames().stream().map(CqlIdentifier::asInternal).toArray(String[]::new);
+            for (DataType fieldType : type.getFieldTypes()) {
+                codecs.add(CodecRegistry.DEFAULT.codecFor(fieldType));
+            }
+        }
+
+        private List<Column> columns(UdtValue udtValue) {
+            List<Column> columns = new ArrayList<>(names.length);
+            for (int index = 0; index < names.length; index++) {
+                Object elementValue = udtValue.get(index, codecs.get(index));
+                if (elementValue != null) {
+                    columns.add(Column.of(names[index], elementValue));
+                }
+            }
+            return columns;
+        }
+    }
 }
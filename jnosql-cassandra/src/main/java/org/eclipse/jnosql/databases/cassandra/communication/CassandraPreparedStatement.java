@@ -33,15 +33,42 @@ public class CassandraPreparedStatement {
 
     private BoundStatement boundStatement;
 
+    private int pageSize;
+
     CassandraPreparedStatement(com.datastax.oss.driver.api.core.cql.PreparedStatement prepare, CqlSession session) {
         this.prepare = prepare;
         this.session = session;
     }
 
+    /**
+     * Executes the statement. The rows are fetched page by page as the stream is consumed.
+     *
+     * @return the result of this query
+     */
     public Stream<ColumnEntity> executeQuery() {
         load();
-        ResultSet resultSet = session.execute(boundStatement);
-        return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
+        BoundStatement statement = boundStatement;
+        if (pageSize > 0) {
+            statement = statement.setPageSize(pageSize);
+        }
+        ResultSet resultSet = session.execute(statement);
+        return CassandraConverter.toDocumentEntities(resultSet);
+    }
+
+    /**
+     * Defines how many rows are fetched per page. When it is not defined, it uses the page size
+     * of the driver configuration.
+     *
+     * @param pageSize the page size
+     * @return this instance
+     * @throws IllegalArgumentException when the page size is not greater than zero
+     */
+    public CassandraPreparedStatement pageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The page size must be greater than zero: " + pageSize);
+        }
+        this.pageSize = pageSize;
+        return this;
     }
 
 
@@ -69,6 +96,7 @@ public class CassandraPreparedStatement {
                 "prepare=" + prepare +
                 ", session=" + session +
                 ", boundStatement=" + boundStatement +
+                ", pageSize=" + pageSize +
                 '}';
     }
 }
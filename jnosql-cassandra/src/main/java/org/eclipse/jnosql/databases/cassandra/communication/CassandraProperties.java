@@ -46,6 +46,12 @@ class CassandraProperties {
 
     private String dataCenter;
 
+    private int statementCacheSize;
+
+    private int batchSize;
+
+    private int batchInFlight;
+
     public void addQuery(String query) {
         this.queries.add(query);
     }
@@ -58,6 +64,18 @@ class CassandraProperties {
         return queries;
     }
 
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getBatchInFlight() {
+        return batchInFlight;
+    }
+
     public CqlSessionBuilder createCluster() {
         CqlSessionBuilder builder = CqlSession.builder();
         nodes.stream().map(h -> new InetSocketAddress(h, port)).forEach(builder::addContactPoint);
@@ -94,6 +112,16 @@ class CassandraProperties {
 
         cp.password = settings.get(CassandraConfigurations.PASSWORD)
                 .map(Object::toString);
+
+        cp.statementCacheSize = settings.get(CassandraConfigurations.STATEMENT_CACHE_SIZE)
+                .map(Object::toString).map(Integer::parseInt).orElse(PreparedStatementCache.DEFAULT_MAX_SIZE);
+
+        cp.batchSize = settings.get(CassandraConfigurations.BATCH_SIZE)
+                .map(Object::toString).map(Integer::parseInt).orElse(DefaultCassandraColumnManager.DEFAULT_BATCH_SIZE);
+
+        cp.batchInFlight = settings.get(CassandraConfigurations.BATCH_IN_FLIGHT)
+                .map(Object::toString).map(Integer::parseInt)
+                .orElse(DefaultCassandraColumnManager.DEFAULT_BATCH_IN_FLIGHT);
         return cp;
     }
 }
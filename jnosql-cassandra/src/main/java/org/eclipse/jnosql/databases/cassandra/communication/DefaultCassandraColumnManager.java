@@ -17,21 +17,30 @@ package org.eclipse.jnosql.databases.cassandra.communication;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
 import com.datastax.oss.driver.api.querybuilder.delete.Delete;
-import com.datastax.oss.driver.api.querybuilder.insert.Insert;
 import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
 import org.eclipse.jnosql.communication.column.ColumnEntity;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -41,13 +50,36 @@ import static java.util.Objects.requireNonNull;
 
 class DefaultCassandraColumnManager implements CassandraColumnManager {
 
+    static final int DEFAULT_BATCH_SIZE = 100;
+
+    static final int DEFAULT_BATCH_IN_FLIGHT = 32;
+
     private final CqlSession session;
 
     private final String keyspace;
 
-    DefaultCassandraColumnManager(CqlSession session, String keyspace) {
+    private final PreparedStatementCache statements;
+
+    private final SchemaMetadataCache metadata;
+
+    private final int batchSize;
+
+    private final int batchInFlight;
+
+    DefaultCassandraColumnManager(CqlSession session, String keyspace, SchemaMetadataCache metadata,
+                                  int statementCacheSize, int batchSize, int batchInFlight) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be greater than zero: " + batchSize);
+        }
+        if (batchInFlight <= 0) {
+            throw new IllegalArgumentException("The batch in flight must be greater than zero: " + batchInFlight);
+        }
         this.session = session;
         this.keyspace = keyspace;
+        this.statements = new PreparedStatementCache(session, statementCacheSize);
+        this.metadata = metadata;
+        this.batchSize = batchSize;
+        this.batchInFlight = batchInFlight;
     }
 
     @Override
@@ -58,8 +90,7 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
     @Override
     public ColumnEntity insert(ColumnEntity entity) {
         requireNonNull(entity, "entity is required");
-        final Insert insert = QueryUtils.insert(entity, keyspace, session, null);
-        session.execute(insert.build());
+        session.execute(insert(entity, null));
         return entity;
     }
 
@@ -67,8 +98,7 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
     public ColumnEntity insert(ColumnEntity entity, Duration duration) {
         requireNonNull(entity, "entity is required");
         requireNonNull(duration, "duration is required");
-        final Insert insert = QueryUtils.insert(entity, keyspace, session, duration);
-        session.execute(insert.build());
+        session.execute(insert(entity, duration));
         return entity;
     }
 
@@ -105,8 +135,7 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
         requireNonNull(entity, "entities is required");
         requireNonNull(level, "level is required");
 
-        final Insert insert = QueryUtils.insert(entity, keyspace, session, null);
-        session.execute(insert.build().setConsistencyLevel(level));
+        session.execute(insert(entity, null).setConsistencyLevel(level));
         return entity;
     }
 
@@ -116,8 +145,7 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
         requireNonNull(level, "level is required");
         requireNonNull(ttl, "ttl is required");
 
-        final Insert insert = QueryUtils.insert(entity, keyspace, session, ttl);
-        session.execute(insert.build().setConsistencyLevel(level));
+        session.execute(insert(entity, ttl).setConsistencyLevel(level));
         return entity;
     }
 
@@ -138,6 +166,46 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CompletionStage<ColumnEntity> insertAsync(ColumnEntity entity) {
+        requireNonNull(entity, "entity is required");
+        return session.executeAsync(insert(entity, null)).thenApply(r -> entity);
+    }
+
+    @Override
+    public CompletionStage<ColumnEntity> insertAsync(ColumnEntity entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return session.executeAsync(insert(entity, ttl)).thenApply(r -> entity);
+    }
+
+    @Override
+    public CompletionStage<ColumnEntity> saveAsync(ColumnEntity entity, ConsistencyLevel level) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(level, "level is required");
+        return session.executeAsync(insert(entity, null).setConsistencyLevel(level)).thenApply(r -> entity);
+    }
+
+    @Override
+    public CompletionStage<Iterable<ColumnEntity>> insertAsync(Iterable<ColumnEntity> entities) {
+        requireNonNull(entities, "entities is required");
+        return bulk(entities, null, null);
+    }
+
+    @Override
+    public CompletionStage<Iterable<ColumnEntity>> insertAsync(Iterable<ColumnEntity> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        return bulk(entities, ttl, null);
+    }
+
+    @Override
+    public CompletionStage<Iterable<ColumnEntity>> saveAsync(Iterable<ColumnEntity> entities, ConsistencyLevel level) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(level, "level is required");
+        return bulk(entities, null, level);
+    }
+
     @Override
     public Stream<ColumnEntity> select(ColumnQuery query) {
         requireNonNull(query, "query is required");
@@ -160,6 +228,19 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
     }
 
 
+    @Override
+    public Stream<ColumnEntity> scan(String columnFamily, int parallelism) {
+        requireNonNull(columnFamily, "columnFamily is required");
+        return tokenRangeScan(columnFamily, parallelism).select();
+    }
+
+    @Override
+    public long count(String columnFamily, int parallelism) {
+        requireNonNull(columnFamily, "columnFamily is required");
+        return tokenRangeScan(columnFamily, parallelism).count();
+    }
+
+
     @Override
     public void close() {
         session.close();
@@ -169,17 +250,13 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
     public void delete(ColumnDeleteQuery query, ConsistencyLevel level) {
         requireNonNull(query, "query is required");
         requireNonNull(level, "level is required");
-        final Delete delete = DeleteQueryConverter.delete(query, keyspace);
-        final SimpleStatement build = delete.build();
-        final SimpleStatement simpleStatement = build.setConsistencyLevel(level);
-        session.execute(simpleStatement);
+        session.execute(delete(query).setConsistencyLevel(level));
     }
 
     @Override
     public void delete(ColumnDeleteQuery query) {
         requireNonNull(query, "query is required");
-        final Delete delete = DeleteQueryConverter.delete(query, keyspace);
-        session.execute(delete.build());
+        session.execute(delete(query));
     }
 
 
@@ -187,37 +264,128 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
     public Stream<ColumnEntity> cql(String query) {
         requireNonNull(query, "query is required");
         final ResultSet resultSet = session.execute(query);
-        return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
+        return CassandraConverter.toDocumentEntities(resultSet);
     }
 
     @Override
     public Stream<ColumnEntity> cql(String query, Map<String, Object> values) {
         requireNonNull(query, "query is required");
         requireNonNull(values, "values is required");
-        final PreparedStatement prepare = session.prepare(query);
+        final PreparedStatement prepare = statements.prepare(query);
         BoundStatement statement = prepare.bind();
         for (Map.Entry<String, Object> entry : values.entrySet()) {
             final TypeCodec<Object> codec = CodecRegistry.DEFAULT.codecFor((Class<Object>) entry.getValue().getClass());
             statement = statement.set(entry.getKey(), entry.getValue(), codec);
         }
         final ResultSet resultSet = session.execute(statement);
-        return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
+        return CassandraConverter.toDocumentEntities(resultSet);
     }
 
     @Override
     public Stream<ColumnEntity> execute(SimpleStatement statement) {
         requireNonNull(statement, "statement is required");
         final ResultSet resultSet = session.execute(statement);
-        return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
+        return CassandraConverter.toDocumentEntities(resultSet);
     }
 
     @Override
     public CassandraPreparedStatement nativeQueryPrepare(String query) {
         requireNonNull(query, "query is required");
-        final PreparedStatement prepare = session.prepare(query);
+        final PreparedStatement prepare = statements.prepare(query);
         return new CassandraPreparedStatement(prepare, session);
     }
 
+    /**
+     * Prepares the CQL, or takes it from the statement cache, and binds the values.
+     */
+    BoundStatement bind(String cql, List<Object> values) {
+        return statements.bind(statements.prepare(cql), values);
+    }
+
+    private BoundStatement insert(ColumnEntity entity, Duration ttl) {
+        return insert(entity.name(), QueryUtils.insert(entity, keyspace, session, metadata), ttl);
+    }
+
+    private BoundStatement insert(String table, Map<String, Object> values, Duration ttl) {
+        String shape = "insert:" + table + values.keySet() + (ttl != null);
+        PreparedStatement prepare = statements.prepare(shape,
+                () -> QueryUtils.insert(keyspace, table, values.keySet(), ttl != null));
+        List<Object> parameters = new ArrayList<>(values.values());
+        if (ttl != null) {
+            parameters.add((int) ttl.getSeconds());
+        }
+        return statements.bind(prepare, parameters);
+    }
+
+    private TokenRangeScan tokenRangeScan(String columnFamily, int parallelism) {
+        return new TokenRangeScan(session, statements, keyspace, columnFamily,
+                metadata.partitionKey(session, keyspace, columnFamily), parallelism);
+    }
+
+    /**
+     * Groups the inserts by table and partition key into UNLOGGED batches of up to batchSize statements and
+     * executes them with at most batchInFlight requests at the same time.
+     */
+    private CompletionStage<Iterable<ColumnEntity>> bulk(Iterable<ColumnEntity> entities, Duration ttl,
+                                                         ConsistencyLevel level) {
+        List<ColumnEntity> result = new ArrayList<>();
+        Map<List<Object>, List<BatchableStatement<?>>> partitions = new LinkedHashMap<>();
+        for (ColumnEntity entity : entities) {
+            requireNonNull(entity, "entity is required");
+            Map<String, Object> values = QueryUtils.insert(entity, keyspace, session, metadata);
+            List<String> partitionKey = metadata.partitionKey(session, keyspace, entity.name());
+            List<Object> partition = new ArrayList<>();
+            partition.add(entity.name());
+            partitionKey.forEach(k -> partition.add(values.get(k)));
+            partitions.computeIfAbsent(partition, k -> new ArrayList<>())
+                    .add(insert(entity.name(), values, ttl));
+            result.add(entity);
+        }
+
+        List<Statement<?>> batches = new ArrayList<>();
+        for (List<BatchableStatement<?>> inserts : partitions.values()) {
+            for (int start = 0; start < inserts.size(); start += batchSize) {
+                List<BatchableStatement<?>> chunk = inserts.subList(start, Math.min(start + batchSize,
+                        inserts.size()));
+                Statement<?> statement;
+                if (chunk.size() == 1) {
+                    statement = chunk.get(0);
+                } else {
+                    statement = BatchStatement.newInstance(DefaultBatchType.UNLOGGED, chunk);
+                }
+                if (level != null) {
+                    statement = statement.setConsistencyLevel(level);
+                }
+                batches.add(statement);
+            }
+        }
+
+        Iterator<Statement<?>> iterator = batches.iterator();
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(batchInFlight, batches.size())];
+        for (int index = 0; index < workers.length; index++) {
+            workers[index] = executeNext(iterator);
+        }
+        return CompletableFuture.allOf(workers).<Iterable<ColumnEntity>>thenApply(v -> result);
+    }
+
+    private CompletableFuture<Void> executeNext(Iterator<Statement<?>> iterator) {
+        Statement<?> statement;
+        synchronized (iterator) {
+            if (!iterator.hasNext()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            statement = iterator.next();
+        }
+        return session.executeAsync(statement).toCompletableFuture()
+                .thenCompose(r -> executeNext(iterator));
+    }
+
+    private BoundStatement delete(ColumnDeleteQuery query) {
+        List<Object> values = new ArrayList<>();
+        Delete delete = DeleteQueryConverter.delete(query, keyspace, values);
+        return bind(delete.asCql(), values);
+    }
+
 
     CqlSession getSession() {
         return session;
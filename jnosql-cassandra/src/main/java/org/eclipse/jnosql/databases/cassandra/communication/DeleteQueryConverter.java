@@ -20,11 +20,13 @@ import com.datastax.oss.driver.api.querybuilder.delete.Delete;
 import com.datastax.oss.driver.api.querybuilder.delete.DeleteSelection;
 import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
 
+import java.util.List;
+
 final class DeleteQueryConverter {
     private DeleteQueryConverter() {
     }
 
-    static Delete delete(ColumnDeleteQuery query, String keyspace) {
+    static Delete delete(ColumnDeleteQuery query, String keyspace, List<Object> values) {
         final String columnFamily = query.name();
         DeleteSelection deleteSelection = QueryBuilder.deleteFrom(keyspace, columnFamily);
 
@@ -32,7 +34,7 @@ final class DeleteQueryConverter {
             deleteSelection = deleteSelection.column(QueryUtils.getName(column));
         }
 
-        final Delete delete = deleteSelection.where(Relations.createClause(query.condition().orElse(null)));
+        final Delete delete = deleteSelection.where(Relations.createClause(query.condition().orElse(null), values));
         return delete;
     }
 }
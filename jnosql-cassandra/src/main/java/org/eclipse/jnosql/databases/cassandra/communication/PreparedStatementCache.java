@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.ListType;
+import com.datastax.oss.driver.api.core.type.SetType;
+import com.datastax.oss.driver.api.core.type.codec.CodecNotFoundException;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A bounded, least recently used cache of {@link PreparedStatement} of a session. The statements are kept by
+ * a key that is either the CQL text or a shape, such as the table and the columns of an insert, so the CQL
+ * does not need to be rendered to find the statement.
+ */
+final class PreparedStatementCache {
+
+    static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final CqlSession session;
+
+    private final Map<String, PreparedStatement> statements;
+
+    PreparedStatementCache(CqlSession session, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The statement cache size must be greater than zero: " + maxSize);
+        }
+        this.session = session;
+        this.statements = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the statement prepared from the given CQL.
+     *
+     * @param cql the CQL
+     * @return the prepared statement
+     */
+    PreparedStatement prepare(String cql) {
+        return prepare(cql, () -> cql);
+    }
+
+    /**
+     * Returns the statement kept by the key, preparing the CQL of the supplier when it is not in the cache.
+     *
+     * @param key the key of the statement
+     * @param cql the supplier of the CQL to prepare
+     * @return the prepared statement
+     */
+    PreparedStatement prepare(String key, Supplier<String> cql) {
+        PreparedStatement statement;
+        synchronized (statements) {
+            statement = statements.get(key);
+        }
+        if (statement == null) {
+            statement = session.prepare(cql.get());
+            synchronized (statements) {
+                statements.put(key, statement);
+            }
+        }
+        return statement;
+    }
+
+    /**
+     * Binds the values, in the order of the bind markers, converting each one to the Java type of the
+     * variable when the driver does not accept it as it is.
+     *
+     * @param statement the prepared statement
+     * @param values    the values
+     * @return the bound statement
+     */
+    BoundStatement bind(PreparedStatement statement, List<Object> values) {
+        ColumnDefinitions variables = statement.getVariableDefinitions();
+        Object[] parameters = new Object[values.size()];
+        for (int index = 0; index < parameters.length; index++) {
+            parameters[index] = convert(values.get(index), variables.get(index).getType());
+        }
+        return statement.bind(parameters);
+    }
+
+    int size() {
+        synchronized (statements) {
+            return statements.size();
+        }
+    }
+
+    private static Object convert(Object value, DataType type) {
+        if (value == null) {
+            return null;
+        }
+        TypeCodec<Object> codec;
+        try {
+            codec = CodecRegistry.DEFAULT.codecFor(type);
+        } catch (CodecNotFoundException exp) {
+            return value;
+        }
+        if (codec.accepts(value)) {
+            return value;
+        }
+        if (type instanceof ListType && value instanceof Iterable) {
+            DataType elementType = ((ListType) type).getElementType();
+            return convert((Iterable<?>) value, elementType, new ArrayList<>());
+        }
+        if (type instanceof SetType && value instanceof Iterable) {
+            DataType elementType = ((SetType) type).getElementType();
+            return convert((Iterable<?>) value, elementType, new HashSet<>());
+        }
+        Class<?> javaType = codec.getJavaType().getRawType();
+        try {
+            return Value.of(value).get(javaType);
+        } catch (UnsupportedOperationException exp) {
+            return value;
+        }
+    }
+
+    private static Collection<Object> convert(Iterable<?> values, DataType elementType, Collection<Object> result) {
+        for (Object element : values) {
+            result.add(convert(element, elementType));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedStatementCache{" +
+                "size=" + size() +
+                '}';
+    }
+}
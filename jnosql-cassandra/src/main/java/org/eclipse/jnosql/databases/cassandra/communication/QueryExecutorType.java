@@ -15,9 +15,10 @@
 package org.eclipse.jnosql.databases.cassandra.communication;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
-import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
 import com.datastax.oss.driver.api.querybuilder.select.Select;
 import org.eclipse.jnosql.communication.column.ColumnEntity;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
@@ -44,25 +45,27 @@ enum QueryExecutorType implements QueryExecutor {
             if (query.isExhausted()) {
                 return Stream.empty();
             }
-            Select select = QueryUtils.select(query, keyspace);
-            SimpleStatement simpleStatement = select.build();
+            List<Object> values = new ArrayList<>();
+            Select select = QueryUtils.select(query, keyspace, values);
+            BoundStatement statement = manager.bind(select.asCql(), values);
             if (Objects.nonNull(level)) {
-                simpleStatement = simpleStatement.setConsistencyLevel(level);
+                statement = statement.setConsistencyLevel(level);
             }
 
             if (query.toPaginate().isPresent()) {
-                simpleStatement = simpleStatement.setPagingState(query.toPaginate().get());
+                statement = statement.setPagingState(query.toPaginate().get());
             }
 
-            ResultSet resultSet = manager.getSession().execute(simpleStatement);
+            ResultSet resultSet = manager.getSession().execute(statement);
 
             final ByteBuffer pagingState = resultSet.getExecutionInfo().getPagingState();
             query.setPagingState(pagingState);
 
             List<ColumnEntity> entities = new ArrayList<>();
+            CassandraConverter.RowPlan plan = CassandraConverter.plan(resultSet.getColumnDefinitions());
 
             for (Row row : resultSet) {
-                entities.add(CassandraConverter.toDocumentEntity(row));
+                entities.add(plan.toDocumentEntity(row));
                 if (resultSet.getAvailableWithoutFetching() == 0) {
                     query.setExhausted(resultSet.isFullyFetched());
                     break;
@@ -82,21 +85,23 @@ enum QueryExecutorType implements QueryExecutor {
         public Stream<ColumnEntity> execute(String keyspace, ColumnQuery query, ConsistencyLevel level,
                                             DefaultCassandraColumnManager manager) {
 
-            Select cassandraSelect = QueryUtils.select(query, keyspace);
+            List<Object> values = new ArrayList<>();
+            Select cassandraSelect = QueryUtils.select(query, keyspace, values);
 
             if (query.limit() > 0 && query.skip() == 0) {
-                cassandraSelect = cassandraSelect.limit((int) query.limit());
+                cassandraSelect = cassandraSelect.limit(QueryBuilder.bindMarker());
+                values.add((int) query.limit());
             }
 
-            SimpleStatement select = cassandraSelect.build();
+            BoundStatement select = manager.bind(cassandraSelect.asCql(), values);
             if (Objects.nonNull(level)) {
                 select = select.setConsistencyLevel(level);
             }
             ResultSet resultSet = manager.getSession().execute(select);
             if (query.limit() > 0 && query.skip() > 0) {
-                return resultSet.all().stream().skip(query.skip()).limit(query.limit()).map(CassandraConverter::toDocumentEntity);
+                return CassandraConverter.toDocumentEntities(resultSet).skip(query.skip()).limit(query.limit());
             }
-            return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
+            return CassandraConverter.toDocumentEntities(resultSet);
         }
     }
 }
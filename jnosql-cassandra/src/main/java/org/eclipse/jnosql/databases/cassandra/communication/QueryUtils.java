@@ -16,22 +16,15 @@
 package org.eclipse.jnosql.databases.cassandra.communication;
 
 
-import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.data.UdtValue;
 import com.datastax.oss.driver.api.core.metadata.schema.ClusteringOrder;
-import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
-import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
-import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
 import com.datastax.oss.driver.api.core.type.DataType;
-import com.datastax.oss.driver.api.core.type.SetType;
 import com.datastax.oss.driver.api.core.type.UserDefinedType;
 import com.datastax.oss.driver.api.core.type.codec.CodecNotFoundException;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
-import com.datastax.oss.driver.api.querybuilder.insert.Insert;
-import com.datastax.oss.driver.api.querybuilder.insert.InsertInto;
 import com.datastax.oss.driver.api.querybuilder.insert.RegularInsert;
 import com.datastax.oss.driver.api.querybuilder.select.Select;
 import com.datastax.oss.driver.api.querybuilder.term.Term;
@@ -44,14 +37,13 @@ import org.eclipse.jnosql.communication.column.ColumnEntity;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
 import org.eclipse.jnosql.communication.driver.ValueUtil;
 
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -62,27 +54,40 @@ final class QueryUtils {
     }
 
 
-    static Insert insert(ColumnEntity entity, String keyspace, CqlSession session, Duration duration) {
+    /**
+     * Returns the values to insert, sorted by column name, so entities with the same columns share the shape
+     * of the insert.
+     */
+    static Map<String, Object> insert(ColumnEntity entity, String keyspace, CqlSession session,
+                                      SchemaMetadataCache metadata) {
 
-        Map<String, Term> values = new HashMap<>();
-        InsertInto insert = QueryBuilder.insertInto(keyspace, entity.name());
+        Map<String, Object> values = new TreeMap<>();
         entity.columns().stream()
                 .forEach(c -> {
                     if (UDT.class.isInstance(c)) {
-                        insertUDT(UDT.class.cast(c), keyspace, entity.name(), session, values);
+                        insertUDT(UDT.class.cast(c), keyspace, entity.name(), session, metadata, values);
                     } else {
                         insertSingleField(c, values);
                     }
                 });
+        return values;
+    }
 
-        RegularInsert regularInsert = insert.values(values);
-        if (duration != null) {
-            return regularInsert.usingTtl((int) duration.getSeconds());
+    /**
+     * Returns the CQL of the insert with a bind marker for each column and, when there is a TTL,
+     * for the TTL in seconds as the last one.
+     */
+    static String insert(String keyspace, String columnFamily, Collection<String> columns, boolean ttl) {
+        Map<String, Term> markers = new LinkedHashMap<>();
+        columns.forEach(c -> markers.put(c, QueryBuilder.bindMarker()));
+        RegularInsert insert = QueryBuilder.insertInto(keyspace, columnFamily).values(markers);
+        if (ttl) {
+            return insert.usingTtl(QueryBuilder.bindMarker()).asCql();
         }
-        return regularInsert;
+        return insert.asCql();
     }
 
-    public static Select select(ColumnQuery query, String keyspace) {
+    public static Select select(ColumnQuery query, String keyspace, List<Object> values) {
         String columnFamily = query.name();
         final List<String> columns = query.columns();
 
@@ -93,7 +98,7 @@ final class QueryUtils {
             select = QueryBuilder.selectFrom(keyspace, columnFamily).columns(columns);
         }
 
-        select = select.where(Relations.createClause(query.condition().orElse(null)));
+        select = select.where(Relations.createClause(query.condition().orElse(null), values));
         final Map<String, ClusteringOrder> sort = query.sorts().stream()
                 .collect(Collectors.toMap(Sort::property, mapSort()));
         select = select.orderBy(sort);
@@ -105,54 +110,41 @@ final class QueryUtils {
     }
 
     private static void insertUDT(UDT udt, String keyspace, String columnFamily, CqlSession session,
-                                  Map<String, Term> values) {
-
-        final Optional<KeyspaceMetadata> keyspaceMetadata = session.getMetadata().getKeyspace(keyspace);
-        UserDefinedType userType = keyspaceMetadata
-                .flatMap(ks -> ks.getUserDefinedType(udt.getUserType()))
-                .orElseThrow(() -> new IllegalArgumentException("Missing UDT definition"));
-
-        final TableMetadata tableMetadata = keyspaceMetadata
-                .flatMap(k -> k.getTable(columnFamily))
-                .orElseThrow(() -> new IllegalArgumentException("Missing Table definition"));
-
-        final ColumnMetadata columnMetadata = tableMetadata.getColumn(getName(udt))
-                .orElseThrow(() -> new IllegalArgumentException("Missing the column definition"));
+                                  SchemaMetadataCache metadata, Map<String, Object> values) {
 
-        final DataType type = columnMetadata.getType();
+        SchemaMetadataCache.UDTPlan plan = metadata.udt(session, keyspace, columnFamily, getName(udt),
+                udt.getUserType());
         Iterable elements = Iterable.class.cast(udt.get());
-        Object udtValue = getUdtValue(userType, elements, type);
-        values.put(getName(udt), QueryBuilder.literal(udtValue));
+        Object udtValue = getUdtValue(plan, elements);
+        values.put(getName(udt), udtValue);
     }
 
-    private static Object getUdtValue(UserDefinedType userType, Iterable elements, DataType type) {
+    private static Object getUdtValue(SchemaMetadataCache.UDTPlan plan, Iterable elements) {
 
-        Collection<Object> udtValues = getCollectionUdt(type);
+        Collection<Object> udtValues = getCollectionUdt(plan.columnType());
 
+        UserDefinedType userType = plan.userType();
         UdtValue udtValue = userType.newValue();
-        final List<String> udtNames = userType.getFieldNames().stream().map(CqlIdentifier::asInternal)
-                .collect(Collectors.toList());
         for (Object object : elements) {
             if (Column.class.isInstance(object)) {
                 Column column = Column.class.cast(object);
                 Object convert = ValueUtil.convert(column.value());
 
-                final int index = udtNames.indexOf(column.name());
+                final int index = plan.indexOf(column.name());
                 if (index < 0) {
                     throw new CommunicationException("This field has not been found: " + column.name() +
-                            " the fields available are " + udtNames + " in the UDT type " + userType.getName()
+                            " the fields available are " + plan.names() + " in the UDT type " + userType.getName()
                             .asCql(true) + " at the keyspace " + userType.getKeyspace());
                 }
-                DataType fieldType = userType.getFieldTypes().get(index);
-                TypeCodec<Object> objectTypeCodec = CodecRegistry.DEFAULT.codecFor(fieldType);
-                if (fieldType instanceof SetType) {
-                    udtValue.set(getName(column), new HashSet<Object>((Collection<?>) convert), objectTypeCodec);
+                TypeCodec<Object> objectTypeCodec = plan.codec(index);
+                if (plan.isSet(index)) {
+                    udtValue = udtValue.set(index, new HashSet<Object>((Collection<?>) convert), objectTypeCodec);
                 } else {
-                    udtValue.set(getName(column), convert, objectTypeCodec);
+                    udtValue = udtValue.set(index, convert, objectTypeCodec);
                 }
 
             } else if (Iterable.class.isInstance(object)) {
-                udtValues.add(getUdtValue(userType, Iterable.class.cast(Iterable.class.cast(object)), type));
+                udtValues.add(getUdtValue(plan, Iterable.class.cast(object)));
             }
         }
         if (udtValues.isEmpty()) {
@@ -170,13 +162,13 @@ final class QueryUtils {
         }
     }
 
-    private static void insertSingleField(Column column, Map<String, Term> values) {
+    private static void insertSingleField(Column column, Map<String, Object> values) {
         Object value = column.get();
         try {
             CodecRegistry.DEFAULT.codecFor(value);
-            values.put(getName(column), QueryBuilder.literal(value));
+            values.put(getName(column), value);
         } catch (CodecNotFoundException exp) {
-            values.put(getName(column), QueryBuilder.literal(ValueUtil.convert(column.value())));
+            values.put(getName(column), ValueUtil.convert(column.value()));
         }
     }
 
@@ -14,9 +14,8 @@
  */
 package org.eclipse.jnosql.databases.cassandra.communication;
 
-import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
+import com.datastax.oss.driver.api.querybuilder.BindMarker;
 import com.datastax.oss.driver.api.querybuilder.relation.Relation;
-import com.datastax.oss.driver.api.querybuilder.term.Term;
 import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
@@ -29,52 +28,60 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
-import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.literal;
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
 
 final class Relations {
 
     private Relations() {
     }
 
-    static List<Relation> createClause(ColumnCondition columnCondition) {
+    /**
+     * Creates the relations of the condition with bind markers, adding the values to bind in the same order.
+     *
+     * @param columnCondition the condition
+     * @param values          the values to bind
+     * @return the relations
+     */
+    static List<Relation> createClause(ColumnCondition columnCondition, List<Object> values) {
         if (Objects.isNull(columnCondition)) {
             return Collections.emptyList();
         }
 
         List<Relation> relations = new ArrayList<>();
-        load(columnCondition, relations);
+        load(columnCondition, relations, values);
         return relations;
     }
 
-    private static void load(ColumnCondition columnCondition, List<Relation> relations) {
+    private static void load(ColumnCondition columnCondition, List<Relation> relations, List<Object> values) {
 
         Column column = columnCondition.column();
         Condition condition = columnCondition.condition();
 
         switch (condition) {
             case EQUALS:
-                relations.add(Relation.column(QueryUtils.getName(column)).isEqualTo(getTerm(column)));
+                relations.add(Relation.column(QueryUtils.getName(column)).isEqualTo(getTerm(column, values)));
                 return;
             case GREATER_THAN:
-                relations.add(Relation.column(QueryUtils.getName(column)).isGreaterThan(getTerm(column)));
+                relations.add(Relation.column(QueryUtils.getName(column)).isGreaterThan(getTerm(column, values)));
                 return;
             case GREATER_EQUALS_THAN:
-                relations.add(Relation.column(QueryUtils.getName(column)).isGreaterThanOrEqualTo(getTerm(column)));
+                relations.add(Relation.column(QueryUtils.getName(column))
+                        .isGreaterThanOrEqualTo(getTerm(column, values)));
                 return;
             case LESSER_THAN:
-                relations.add(Relation.column(QueryUtils.getName(column)).isLessThan(getTerm(column)));
+                relations.add(Relation.column(QueryUtils.getName(column)).isLessThan(getTerm(column, values)));
                 return;
             case LESSER_EQUALS_THAN:
-                relations.add(Relation.column(QueryUtils.getName(column)).isLessThanOrEqualTo(getTerm(column)));
+                relations.add(Relation.column(QueryUtils.getName(column)).isLessThanOrEqualTo(getTerm(column, values)));
                 return;
             case IN:
-                relations.add(Relation.column(QueryUtils.getName(column)).in(getIinValue(column.value())));
+                relations.add(Relation.column(QueryUtils.getName(column)).in(getIinValue(column.value(), values)));
                 return;
             case LIKE:
-                relations.add(Relation.column(QueryUtils.getName(column)).like(getTerm(column)));
+                relations.add(Relation.column(QueryUtils.getName(column)).like(getTerm(column, values)));
                 return;
             case AND:
-                column.get(new TypeReference<List<ColumnCondition>>() {}).forEach(cc -> load(cc, relations));
+                column.get(new TypeReference<List<ColumnCondition>>() {}).forEach(cc -> load(cc, relations, values));
                 return;
             case OR:
             default:
@@ -83,11 +90,13 @@ final class Relations {
         }
     }
 
-    private static Term getTerm(Column column) {
-        return literal(ValueUtil.convert(column.value()));
+    private static BindMarker getTerm(Column column, List<Object> values) {
+        values.add(ValueUtil.convert(column.value()));
+        return bindMarker();
     }
 
-    private static Term[] getIinValue(Value value) {
-        return ValueUtil.convertToList(value).stream().map(QueryBuilder::literal).toArray(Term[]::new);
+    private static BindMarker getIinValue(Value value, List<Object> values) {
+        values.add(ValueUtil.convertToList(value));
+        return bindMarker();
     }
 }
@@ -0,0 +1,195 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.SchemaChangeListenerBase;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.SetType;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Caches the schema metadata that the writes need, the UDT definitions of the columns and the partition keys
+ * of the tables, so they are not looked up in the session metadata for every entity. It is registered as a
+ * schema change listener of the sessions and drops everything it holds whenever a keyspace, table or
+ * user defined type changes.
+ */
+final class SchemaMetadataCache extends SchemaChangeListenerBase {
+
+    private final Map<String, UDTPlan> udts = new ConcurrentHashMap<>();
+
+    private final Map<String, List<String>> partitionKeys = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the plan to write the UDT column.
+     *
+     * @param session      the session
+     * @param keyspace     the keyspace
+     * @param columnFamily the table
+     * @param column       the column name
+     * @param userType     the UDT name
+     * @return the plan of the UDT column
+     * @throws IllegalArgumentException when the UDT, the table or the column does not exist
+     */
+    UDTPlan udt(CqlSession session, String keyspace, String columnFamily, String column, String userType) {
+        String key = keyspace + '.' + columnFamily + '.' + column + '.' + userType;
+        return udts.computeIfAbsent(key, k -> {
+            KeyspaceMetadata keyspaceMetadata = keyspace(session, keyspace);
+            UserDefinedType type = keyspaceMetadata.getUserDefinedType(userType)
+                    .orElseThrow(() -> new IllegalArgumentException("Missing UDT definition"));
+            ColumnMetadata columnMetadata = table(keyspaceMetadata, columnFamily).getColumn(column)
+                    .orElseThrow(() -> new IllegalArgumentException("Missing the column definition"));
+            return new UDTPlan(type, columnMetadata.getType());
+        });
+    }
+
+    /**
+     * Returns the partition key columns of the table, as CQL identifiers.
+     *
+     * @param session      the session
+     * @param keyspace     the keyspace
+     * @param columnFamily the table
+     * @return the partition key columns
+     * @throws IllegalArgumentException when the table does not exist
+     */
+    List<String> partitionKey(CqlSession session, String keyspace, String columnFamily) {
+        return partitionKeys.computeIfAbsent(keyspace + '.' + columnFamily,
+                k -> table(keyspace(session, keyspace), columnFamily).getPartitionKey().stream()
+                        .map(c -> c.getName().asCql(true))
+                        .collect(toList()));
+    }
+
+    void clear() {
+        udts.clear();
+        partitionKeys.clear();
+    }
+
+    @Override
+    public void onKeyspaceDropped(KeyspaceMetadata keyspace) {
+        clear();
+    }
+
+    @Override
+    public void onKeyspaceUpdated(KeyspaceMetadata current, KeyspaceMetadata previous) {
+        clear();
+    }
+
+    @Override
+    public void onTableDropped(TableMetadata table) {
+        clear();
+    }
+
+    @Override
+    public void onTableUpdated(TableMetadata current, TableMetadata previous) {
+        clear();
+    }
+
+    @Override
+    public void onUserDefinedTypeDropped(UserDefinedType type) {
+        clear();
+    }
+
+    @Override
+    public void onUserDefinedTypeUpdated(UserDefinedType current, UserDefinedType previous) {
+        clear();
+    }
+
+    private static KeyspaceMetadata keyspace(CqlSession session, String keyspace) {
+        return session.getMetadata().getKeyspace(keyspace)
+                .orElseThrow(() -> new IllegalArgumentException("Missing Keyspace definition: " + keyspace));
+    }
+
+    private static TableMetadata table(KeyspaceMetadata keyspace, String columnFamily) {
+        return keyspace.getTable(columnFamily)
+                .orElseThrow(() -> new IllegalArgumentException("Missing Table definition"));
+    }
+
+    /**
+     * The UDT definition of a column with, for each field, its position, its codec and whether it is a set.
+     */
+    static final class UDTPlan {
+
+        private final UserDefinedType userType;
+
+        private final DataType columnType;
+
+        private final List<String> names;
+
+        private final Map<String, Integer> indexes;
+
+        private final List<TypeCodec<Object>> codecs;
+
+        private final boolean[] sets;
+
+        private UDTPlan(UserDefinedType userType, DataType columnType) {
+            this.userType = userType;
+            this.columnType = columnType;
+            this.names = Collections.unmodifiableList(userType.getFieldNames().stream()
+                    .map(CqlIdentifier::asInternal).collect(toList()));
+            List<DataType> types = userType.getFieldTypes();
+            Map<String, Integer> fieldIndexes = new HashMap<>();
+            this.sets = new boolean[types.size()];
+            for (int index = 0; index < types.size(); index++) {
+                fieldIndexes.put(names.get(index), index);
+                sets[index] = types.get(index) instanceof SetType;
+            }
+            this.indexes = Collections.unmodifiableMap(fieldIndexes);
+            this.codecs = Collections.unmodifiableList(types.stream()
+                    .map(t -> CodecRegistry.DEFAULT.<Object>codecFor(t)).collect(toList()));
+        }
+
+        UserDefinedType userType() {
+            return userType;
+        }
+
+        DataType columnType() {
+            return columnType;
+        }
+
+        List<String> names() {
+            return names;
+        }
+
+        /**
+         * @param name the field name
+         * @return the field position, or -1 when the UDT does not have the field
+         */
+        int indexOf(String name) {
+            return indexes.getOrDefault(name, -1);
+        }
+
+        TypeCodec<Object> codec(int index) {
+            return codecs.get(index);
+        }
+
+        boolean isSet(int index) {
+            return sets[index];
+        }
+    }
+}
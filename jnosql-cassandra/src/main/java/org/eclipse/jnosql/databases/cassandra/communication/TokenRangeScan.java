@@ -0,0 +1,260 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
+import com.datastax.oss.driver.api.querybuilder.select.Select;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.column.ColumnEntity;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads a whole table by splitting the token ring into ranges and reading them concurrently, with
+ * {@code SELECT ... WHERE token(partition key) > ? AND token(partition key) <= ?} for each range.
+ * When the driver does not have the token metadata, it falls back to a single query on the whole table.
+ */
+final class TokenRangeScan {
+
+    /**
+     * The number of ranges per degree of parallelism, so a slow range does not hold the others back.
+     */
+    private static final int SPLITS_PER_THREAD = 4;
+
+    /**
+     * The number of entities each degree of parallelism may read ahead of the consumer.
+     */
+    private static final int BUFFER_PER_THREAD = 1000;
+
+    private static final Object END = new Object();
+
+    private final CqlSession session;
+
+    private final PreparedStatementCache statements;
+
+    private final String keyspace;
+
+    private final String columnFamily;
+
+    private final String[] partitionKey;
+
+    private final int parallelism;
+
+    TokenRangeScan(CqlSession session, PreparedStatementCache statements, String keyspace, String columnFamily,
+                   List<String> partitionKey, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("The parallelism must be greater than zero: " + parallelism);
+        }
+        this.session = session;
+        this.statements = statements;
+        this.keyspace = keyspace;
+        this.columnFamily = columnFamily;
+        this.partitionKey = partitionKey.toArray(String[]::new);
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Reads the ranges with up to parallelism threads, merged in a single stream in no particular order.
+     * The threads stop when the stream is fully consumed or closed.
+     *
+     * @return the entities of the table
+     */
+    Stream<ColumnEntity> select() {
+        Optional<List<TokenRange>> ranges = ranges();
+        if (ranges.isEmpty()) {
+            ResultSet resultSet = session.execute(QueryBuilder.selectFrom(keyspace, columnFamily).all().build());
+            return CassandraConverter.toDocumentEntities(resultSet);
+        }
+        List<TokenRange> splits = ranges.get();
+        int threads = Math.min(parallelism, splits.size());
+        BlockingQueue<Object> queue = new ArrayBlockingQueue<>(threads * BUFFER_PER_THREAD);
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "jnosql-cassandra-scan-" + columnFamily);
+            thread.setDaemon(true);
+            return thread;
+        });
+        Select select = QueryBuilder.selectFrom(keyspace, columnFamily).all();
+        AtomicInteger remaining = new AtomicInteger(splits.size());
+        for (TokenRange range : splits) {
+            executor.execute(() -> {
+                try {
+                    ResultSet resultSet = session.execute(bind(select, range));
+                    CassandraConverter.RowPlan plan = CassandraConverter.plan(resultSet.getColumnDefinitions());
+                    for (Row row : resultSet) {
+                        queue.put(plan.toDocumentEntity(row));
+                    }
+                    if (remaining.decrementAndGet() == 0) {
+                        queue.put(END);
+                    }
+                } catch (InterruptedException exp) {
+                    Thread.currentThread().interrupt();
+                } catch (Throwable exp) {
+                    executor.shutdownNow();
+                    queue.clear();
+                    queue.offer(exp);
+                }
+            });
+        }
+        executor.shutdown();
+        Iterator<ColumnEntity> iterator = new QueueIterator(queue);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL), false)
+                .onClose(executor::shutdownNow);
+    }
+
+    /**
+     * Counts each range with {@code count(*)}, with up to parallelism requests at the same time.
+     *
+     * @return the number of rows of the table
+     */
+    long count() {
+        Optional<List<TokenRange>> ranges = ranges();
+        if (ranges.isEmpty()) {
+            return session.execute(QueryBuilder.selectFrom(keyspace, columnFamily).countAll().build())
+                    .one().getLong(0);
+        }
+        Select select = QueryBuilder.selectFrom(keyspace, columnFamily).countAll();
+        Iterator<TokenRange> iterator = ranges.get().iterator();
+        AtomicLong count = new AtomicLong();
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(parallelism, ranges.get().size())];
+        for (int index = 0; index < workers.length; index++) {
+            workers[index] = countNext(select, iterator, count);
+        }
+        try {
+            CompletableFuture.allOf(workers).join();
+        } catch (CompletionException exp) {
+            if (exp.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exp.getCause();
+            }
+            throw new CommunicationException("Error when counting the table " + columnFamily, exp.getCause());
+        }
+        return count.get();
+    }
+
+    private CompletableFuture<Void> countNext(Select select, Iterator<TokenRange> iterator,
+                                              AtomicLong count) {
+        TokenRange range;
+        synchronized (iterator) {
+            if (!iterator.hasNext()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            range = iterator.next();
+        }
+        return session.executeAsync(bind(select, range)).toCompletableFuture()
+                .thenCompose(r -> {
+                    count.addAndGet(r.one().getLong(0));
+                    return countNext(select, iterator, count);
+                });
+    }
+
+    /**
+     * Splits the ranges of the ring in at least parallelism times {@link #SPLITS_PER_THREAD} ranges that
+     * do not wrap around the ring.
+     */
+    private Optional<List<TokenRange>> ranges() {
+        Optional<TokenMap> tokenMap = session.getMetadata().getTokenMap();
+        if (tokenMap.isEmpty() || tokenMap.get().getTokenRanges().isEmpty()) {
+            return Optional.empty();
+        }
+        List<TokenRange> ringRanges = new ArrayList<>(tokenMap.get().getTokenRanges());
+        int target = parallelism * SPLITS_PER_THREAD;
+        int splitsPerRange = Math.max(1, (target + ringRanges.size() - 1) / ringRanges.size());
+        List<TokenRange> ranges = new ArrayList<>();
+        for (TokenRange ringRange : ringRanges) {
+            boolean fullRing = ringRange.getStart().equals(ringRange.getEnd());
+            for (TokenRange split : ringRange.splitEvenly(fullRing ? Math.max(2, splitsPerRange) : splitsPerRange)) {
+                ranges.addAll(split.unwrap());
+            }
+        }
+        return Optional.of(ranges);
+    }
+
+    /**
+     * Binds the range to the query. The range that ends at the minimum token of the ring, which is what is left
+     * after unwrapping the range that wraps around it, has no upper bound.
+     */
+    private BoundStatement bind(Select select, TokenRange range) {
+        Select lowerBound = select.whereToken(partitionKey).isGreaterThan(QueryBuilder.bindMarker());
+        if (range.getEnd().compareTo(range.getStart()) <= 0) {
+            return statements.prepare(lowerBound.asCql()).bind().setToken(0, range.getStart());
+        }
+        String cql = lowerBound.whereToken(partitionKey).isLessThanOrEqualTo(QueryBuilder.bindMarker()).asCql();
+        return statements.prepare(cql).bind().setToken(0, range.getStart()).setToken(1, range.getEnd());
+    }
+
+    private static final class QueueIterator implements Iterator<ColumnEntity> {
+
+        private final BlockingQueue<Object> queue;
+
+        private Object next;
+
+        private QueueIterator(BlockingQueue<Object> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                try {
+                    next = queue.take();
+                } catch (InterruptedException exp) {
+                    Thread.currentThread().interrupt();
+                    throw new CommunicationException("The scan was interrupted", exp);
+                }
+            }
+            if (next instanceof RuntimeException) {
+                throw (RuntimeException) next;
+            }
+            if (next instanceof Error) {
+                throw (Error) next;
+            }
+            if (next instanceof Throwable) {
+                throw new CommunicationException("Error when scanning the table", (Throwable) next);
+            }
+            return next != END;
+        }
+
+        @Override
+        public ColumnEntity next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more rows to scan");
+            }
+            ColumnEntity entity = (ColumnEntity) next;
+            next = null;
+            return entity;
+        }
+    }
+}
@@ -41,6 +41,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static java.lang.Thread.sleep;
 import static java.util.Arrays.asList;
@@ -205,6 +206,65 @@ public class CassandraColumnManagerTest {
         assertFalse(entities.isEmpty());
     }
 
+    @Test
+    public void shouldInsertAsync() {
+        ColumnEntity columnEntity = getColumnFamily();
+        ColumnEntity inserted = entityManager.insertAsync(columnEntity).toCompletableFuture().join();
+        assertEquals(columnEntity, inserted);
+
+        ColumnQuery query = select().from(columnEntity.name()).where("id").eq(10L).build();
+        assertEquals(1L, entityManager.select(query).count());
+    }
+
+    @Test
+    public void shouldInsertIterableAsync() {
+        List<ColumnEntity> entities = new ArrayList<>();
+        for (long id = 1; id <= 250; id++) {
+            ColumnEntity entity = ColumnEntity.of(Constants.COLUMN_FAMILY, singletonList(Columns.of("id", id)));
+            entity.add(Column.of("name", "Cassandra " + id));
+            entities.add(entity);
+        }
+        Iterable<ColumnEntity> inserted = entityManager.insertAsync(entities).toCompletableFuture().join();
+        assertThat(inserted).containsExactlyElementsOf(entities);
+        assertEquals(250L, entityManager.count(Constants.COLUMN_FAMILY));
+    }
+
+    @Test
+    public void shouldSaveIterableAsyncWithConsistencyLevel() {
+        List<ColumnEntity> entities = getEntities();
+        entityManager.saveAsync(entities, CONSISTENCY_LEVEL).toCompletableFuture().join();
+        assertEquals(3L, entityManager.count(Constants.COLUMN_FAMILY));
+    }
+
+    @Test
+    public void shouldScanInParallel() {
+        List<ColumnEntity> entities = new ArrayList<>();
+        for (long id = 1; id <= 250; id++) {
+            entities.add(ColumnEntity.of(Constants.COLUMN_FAMILY, singletonList(Columns.of("id", id))));
+        }
+        entityManager.insert(entities);
+        try (Stream<ColumnEntity> scan = entityManager.scan(Constants.COLUMN_FAMILY, 4)) {
+            List<Object> ids = scan.map(e -> e.find("id").orElseThrow().get()).collect(toList());
+            assertThat(ids).hasSize(250).doesNotHaveDuplicates();
+        }
+        assertEquals(250L, entityManager.count(Constants.COLUMN_FAMILY, 4));
+    }
+
+    @Test
+    public void shouldStopScanWhenClosed() {
+        entityManager.insert(getEntities());
+        try (Stream<ColumnEntity> scan = entityManager.scan(Constants.COLUMN_FAMILY, 2)) {
+            assertEquals(1L, scan.limit(1).count());
+        }
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParallelismIsInvalid() {
+        assertThrows(NullPointerException.class, () -> entityManager.scan(null, 2));
+        assertThrows(IllegalArgumentException.class, () -> entityManager.scan(Constants.COLUMN_FAMILY, 0));
+        assertThrows(IllegalArgumentException.class, () -> entityManager.count(Constants.COLUMN_FAMILY, 0));
+    }
+
     @Test
     public void shouldReturnSingleResult() {
         ColumnEntity columnEntity = getColumnFamily();
@@ -301,6 +361,22 @@ public class CassandraColumnManagerTest {
                 .collect(toList())).contains("Cassandra", 3.2, asList(1, 2, 3), 10L);
     }
 
+    @Test
+    public void shouldPrepareStatementWithPageSize() {
+        entityManager.insert(getEntities());
+        CassandraPreparedStatement preparedStatement = entityManager
+                .nativeQueryPrepare("select * from newKeySpace.newColumnFamily").pageSize(1);
+        List<ColumnEntity> entities = preparedStatement.executeQuery().collect(toList());
+        assertEquals(3, entities.size());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenPageSizeIsInvalid() {
+        CassandraPreparedStatement preparedStatement = entityManager
+                .nativeQueryPrepare("select * from newKeySpace.newColumnFamily");
+        assertThrows(IllegalArgumentException.class, () -> preparedStatement.pageSize(0));
+    }
+
     @Test
     public void shouldDeleteColumnFamily() {
         entityManager.insert(getColumnFamily());
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PreparedStatementCacheTest {
+
+    private CqlSession session;
+
+    @BeforeEach
+    public void setUp() {
+        session = mock(CqlSession.class);
+        when(session.prepare(anyString())).thenAnswer(i -> mock(PreparedStatement.class));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSizeIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new PreparedStatementCache(session, 0));
+    }
+
+    @Test
+    public void shouldPrepareOnce() {
+        PreparedStatementCache cache = new PreparedStatementCache(session, 10);
+        PreparedStatement statement = cache.prepare("select * from person");
+
+        assertThat(cache.prepare("select * from person")).isSameAs(statement);
+        verify(session, times(1)).prepare("select * from person");
+    }
+
+    @Test
+    public void shouldPrepareByShape() {
+        PreparedStatementCache cache = new PreparedStatementCache(session, 10);
+        PreparedStatement statement = cache.prepare("insert:person[age, name]false",
+                () -> "INSERT INTO ks.person (age,name) VALUES (?,?)");
+
+        assertThat(cache.prepare("insert:person[age, name]false", () -> "ignored")).isSameAs(statement);
+        verify(session, times(1)).prepare("INSERT INTO ks.person (age,name) VALUES (?,?)");
+        verify(session, times(0)).prepare("ignored");
+    }
+
+    @Test
+    public void shouldEvictTheLeastRecentlyUsed() {
+        PreparedStatementCache cache = new PreparedStatementCache(session, 2);
+        cache.prepare("select * from person");
+        cache.prepare("select * from movie");
+        cache.prepare("select * from person");
+        cache.prepare("select * from actor");
+
+        assertThat(cache.size()).isEqualTo(2);
+        cache.prepare("select * from person");
+        cache.prepare("select * from movie");
+        verify(session, times(1)).prepare("select * from person");
+        verify(session, times(2)).prepare("select * from movie");
+    }
+}
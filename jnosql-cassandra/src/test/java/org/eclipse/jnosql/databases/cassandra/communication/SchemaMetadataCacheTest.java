@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SchemaMetadataCacheTest {
+
+    private CqlSession session;
+
+    private Metadata metadata;
+
+    private TableMetadata table;
+
+    private SchemaMetadataCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        session = mock(CqlSession.class);
+        metadata = mock(Metadata.class);
+        KeyspaceMetadata keyspace = mock(KeyspaceMetadata.class);
+        table = mock(TableMetadata.class);
+        ColumnMetadata id = mock(ColumnMetadata.class);
+        when(session.getMetadata()).thenReturn(metadata);
+        when(metadata.getKeyspace("library")).thenReturn(Optional.of(keyspace));
+        when(keyspace.getTable("book")).thenReturn(Optional.of(table));
+        when(id.getName()).thenReturn(CqlIdentifier.fromCql("isbn"));
+        when(table.getPartitionKey()).thenReturn(List.of(id));
+        cache = new SchemaMetadataCache();
+    }
+
+    @Test
+    public void shouldCachePartitionKey() {
+        assertThat(cache.partitionKey(session, "library", "book")).containsExactly("isbn");
+        assertThat(cache.partitionKey(session, "library", "book")).containsExactly("isbn");
+        verify(metadata, times(1)).getKeyspace("library");
+    }
+
+    @Test
+    public void shouldClearWhenTableChanges() {
+        cache.partitionKey(session, "library", "book");
+        cache.onTableUpdated(table, table);
+        cache.partitionKey(session, "library", "book");
+        verify(metadata, times(2)).getKeyspace("library");
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTableIsMissing() {
+        assertThrows(IllegalArgumentException.class, () -> cache.partitionKey(session, "library", "movie"));
+    }
+}
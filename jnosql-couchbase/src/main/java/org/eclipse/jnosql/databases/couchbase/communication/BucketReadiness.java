@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *   Maximillian Arruda
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.core.error.RequestCanceledException;
+import com.couchbase.client.core.error.TimeoutException;
+import com.couchbase.client.java.Bucket;
+import org.eclipse.jnosql.communication.CommunicationException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps whether the bucket is ready, so the operations do not ask the cluster for every call. The bucket is
+ * waited for once, when it is created; then, the operations run straight away until one of them fails with a
+ * timeout or a canceled request, which marks the bucket as degraded. What happens while it is degraded depends on
+ * the {@link CouchbaseDegradedMode}.
+ */
+final class BucketReadiness {
+
+    private static final Logger LOGGER = Logger.getLogger(BucketReadiness.class.getName());
+
+    private final Bucket bucket;
+
+    private final Duration timeout;
+
+    private final CouchbaseDegradedMode mode;
+
+    private final AtomicBoolean recovering = new AtomicBoolean();
+
+    private volatile boolean ready;
+
+    BucketReadiness(Bucket bucket, Duration timeout, CouchbaseDegradedMode mode) {
+        this.bucket = bucket;
+        this.timeout = timeout;
+        this.mode = mode;
+        bucket.waitUntilReady(timeout);
+        this.ready = true;
+    }
+
+    static BucketReadiness of(Bucket bucket, CouchbaseSettings settings) {
+        Duration timeout = settings.getReadyTimeout()
+                .orElseGet(() -> bucket.environment().timeoutConfig().kvDurableTimeout());
+        return new BucketReadiness(bucket, timeout, settings.getDegradedMode());
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    void execute(Runnable operation) {
+        execute(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    <T> T execute(Supplier<T> operation) {
+        if (!ready) {
+            recover();
+        }
+        try {
+            return operation.get();
+        } catch (TimeoutException | RequestCanceledException exp) {
+            failed(exp);
+            throw exp;
+        }
+    }
+
+    /**
+     * Marks the bucket as degraded when the error is a timeout or a canceled request. It is for the errors
+     * thrown after {@link BucketReadiness#execute(Supplier)} returned, such as those of the rows of a stream.
+     *
+     * @param exp the error
+     */
+    void failed(Throwable exp) {
+        if (exp instanceof TimeoutException || exp instanceof RequestCanceledException) {
+            ready = false;
+        }
+    }
+
+    private void recover() {
+        if (CouchbaseDegradedMode.WAIT.equals(mode)) {
+            bucket.waitUntilReady(timeout);
+            ready = true;
+            return;
+        }
+        if (recovering.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    bucket.waitUntilReady(timeout);
+                    ready = true;
+                } catch (RuntimeException exp) {
+                    LOGGER.log(Level.FINEST, "The bucket is not ready yet: " + bucket.name(), exp);
+                } finally {
+                    recovering.set(false);
+                }
+            });
+        }
+        throw new CommunicationException("The bucket is not ready: " + bucket.name());
+    }
+}
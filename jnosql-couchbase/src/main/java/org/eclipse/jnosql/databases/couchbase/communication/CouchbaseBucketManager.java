@@ -18,6 +18,7 @@ package org.eclipse.jnosql.databases.couchbase.communication;
 import com.couchbase.client.core.error.DocumentNotFoundException;
 import com.couchbase.client.java.Bucket;
 import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.ReactiveCollection;
 import com.couchbase.client.java.Scope;
 import com.couchbase.client.java.kv.GetResult;
 import com.couchbase.client.java.kv.UpsertOptions;
@@ -26,8 +27,8 @@ import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
-import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -49,9 +50,16 @@ public class CouchbaseBucketManager implements BucketManager {
 
     private final String scopeName;
 
+    private final BucketReadiness readiness;
 
-    CouchbaseBucketManager(Bucket bucket, String bucketName, String scopeName, String collectionName) {
+    private final int concurrency;
+
+
+    CouchbaseBucketManager(Bucket bucket, String bucketName, String scopeName, String collectionName,
+                           BucketReadiness readiness, int concurrency) {
         this.bucket = bucket;
+        this.readiness = readiness;
+        this.concurrency = concurrency;
         this.bucketName = bucketName;
         this.collectionName = collectionName;
         this.scopeName = scopeName;
@@ -68,7 +76,7 @@ public class CouchbaseBucketManager implements BucketManager {
     public <K, V> void put(K key, V value) {
         requireNonNull(key, "key is required");
         requireNonNull(value, "value is required");
-        waitBucketBeReadyAndGet(() -> collection.upsert(key.toString(), value));
+        readiness.execute(() -> collection.upsert(key.toString(), value));
     }
 
     @Override
@@ -81,7 +89,7 @@ public class CouchbaseBucketManager implements BucketManager {
     public void put(final KeyValueEntity entity, final Duration ttl) {
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
-        waitBucketBeReadyAndDo(() -> {
+        readiness.execute(() -> {
             String key = entity.key(String.class);
             Object value = convert(Value.of(entity.value()));
             collection.upsert(key, value, UpsertOptions.upsertOptions().expiry(ttl));
@@ -91,21 +99,30 @@ public class CouchbaseBucketManager implements BucketManager {
     @Override
     public void put(Iterable<KeyValueEntity> keyValueEntities) {
         requireNonNull(keyValueEntities, "keyValueEntities is required");
-        keyValueEntities.forEach(this::put);
+        putAll(keyValueEntities, UpsertOptions.upsertOptions());
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> keyValueEntities, Duration ttl) {
         requireNonNull(keyValueEntities, "keyValueEntities is required");
         requireNonNull(ttl, "ttl is required");
-        keyValueEntities.forEach(k -> this.put(k, ttl));
+        putAll(keyValueEntities, UpsertOptions.upsertOptions().expiry(ttl));
+    }
+
+    private void putAll(Iterable<KeyValueEntity> keyValueEntities, UpsertOptions options) {
+        List<KeyValueEntity> entities = stream(keyValueEntities.spliterator(), false)
+                .map(e -> requireNonNull(e, "entity is required"))
+                .collect(toList());
+        ReactiveCollection reactive = collection.reactive();
+        readiness.execute(() -> KeyValueBatch.execute(entities, e -> reactive.upsert(e.key().toString(),
+                convert(Value.of(e.value())), options), concurrency));
     }
 
     @Override
     public <K> Optional<Value> get(K key) throws NullPointerException {
         requireNonNull(key, "key is required");
         try {
-            return waitBucketBeReadyAndGet(() -> {
+            return readiness.execute(() -> {
                 GetResult result = this.collection.get(key.toString());
                 return Optional.of(new CouchbaseValue(result));
             });
@@ -117,35 +134,30 @@ public class CouchbaseBucketManager implements BucketManager {
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
-        return stream(keys.spliterator(), false)
-                .map(this::get)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
+        List<String> ids = ids(keys);
+        return readiness.execute(() -> KeyValueBatch.get(collection.reactive(), ids, concurrency))
+                .stream()
+                .<Value>map(CouchbaseValue::new)
                 .collect(toList());
     }
 
     @Override
     public <K> void delete(K key) {
         requireNonNull(key, "key is required");
-        waitBucketBeReadyAndDo(() -> collection.remove(key.toString()));
-    }
-
-    private void waitBucketBeReadyAndDo(Runnable runnable) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        runnable.run();
+        readiness.execute(() -> collection.remove(key.toString()));
     }
 
-
-    private <T> T waitBucketBeReadyAndGet(Supplier<T> supplier) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        return supplier.get();
-    }
-
-
     @Override
     public <K> void delete(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
-        keys.forEach(this::delete);
+        List<String> ids = ids(keys);
+        readiness.execute(() -> KeyValueBatch.remove(collection.reactive(), ids, concurrency));
+    }
+
+    private static <K> List<String> ids(Iterable<K> keys) {
+        return stream(keys.spliterator(), false)
+                .map(k -> requireNonNull(k, "key is required").toString())
+                .collect(toList());
     }
 
     @Override
@@ -15,15 +15,19 @@
 package org.eclipse.jnosql.databases.couchbase.communication;
 
 
+import com.couchbase.client.java.query.QueryScanConsistency;
 import org.eclipse.jnosql.communication.Configurations;
 import org.eclipse.jnosql.communication.Settings;
 
+import java.time.Duration;
 import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
+import static java.util.Objects.requireNonNull;
 
 /**
  * The configuration base to all configuration implementation on couchbase
@@ -43,6 +47,18 @@ public abstract class CouchbaseConfiguration {
     protected String collection;
     protected Set<String> collections = new LinkedHashSet<>();
 
+    protected Duration readyTimeout;
+
+    protected CouchbaseDegradedMode degradedMode = CouchbaseDegradedMode.WAIT;
+
+    protected int batchConcurrency = KeyValueBatch.DEFAULT_CONCURRENCY;
+
+    protected boolean queryAdhoc;
+
+    protected QueryScanConsistency scanConsistency = QueryScanConsistency.NOT_BOUNDED;
+
+    protected int queryPageSize = QueryStream.DEFAULT_PAGE_SIZE;
+
 
     protected void update(Settings settings) {
         this.host = getHost(settings);
@@ -52,6 +68,12 @@ public abstract class CouchbaseConfiguration {
         this.collections = getCollections(settings);
         this.index = getIndex(settings);
         this.collection = getCollection(settings);
+        this.readyTimeout = getReadyTimeout(settings);
+        this.degradedMode = getDegradedMode(settings);
+        this.batchConcurrency = getBatchConcurrency(settings);
+        this.queryAdhoc = getQueryAdhoc(settings);
+        this.scanConsistency = getScanConsistency(settings);
+        this.queryPageSize = getQueryPageSize(settings);
     }
 
     protected String getUser(Settings settings) {
@@ -75,6 +97,45 @@ public abstract class CouchbaseConfiguration {
                 .map(Object::toString).orElse(null);
     }
 
+    private Duration getReadyTimeout(Settings settings) {
+        return settings.get(CouchbaseConfigurations.READY_TIMEOUT)
+                .map(Object::toString).map(Long::parseLong).map(Duration::ofMillis).orElse(null);
+    }
+
+    private CouchbaseDegradedMode getDegradedMode(Settings settings) {
+        return settings.get(CouchbaseConfigurations.DEGRADED_MODE)
+                .map(Object::toString).map(CouchbaseDegradedMode::parse).orElse(CouchbaseDegradedMode.WAIT);
+    }
+
+    private int getBatchConcurrency(Settings settings) {
+        int concurrency = settings.get(CouchbaseConfigurations.BATCH_CONCURRENCY)
+                .map(Object::toString).map(Integer::parseInt).orElse(KeyValueBatch.DEFAULT_CONCURRENCY);
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("The batch concurrency must be greater than zero: " + concurrency);
+        }
+        return concurrency;
+    }
+
+    private boolean getQueryAdhoc(Settings settings) {
+        return settings.get(CouchbaseConfigurations.QUERY_ADHOC)
+                .map(Object::toString).map(Boolean::parseBoolean).orElse(false);
+    }
+
+    private QueryScanConsistency getScanConsistency(Settings settings) {
+        return settings.get(CouchbaseConfigurations.SCAN_CONSISTENCY)
+                .map(Object::toString).map(v -> QueryScanConsistency.valueOf(v.trim().toUpperCase(Locale.US)))
+                .orElse(QueryScanConsistency.NOT_BOUNDED);
+    }
+
+    private int getQueryPageSize(Settings settings) {
+        int pageSize = settings.get(CouchbaseConfigurations.QUERY_PAGE_SIZE)
+                .map(Object::toString).map(Integer::parseInt).orElse(QueryStream.DEFAULT_PAGE_SIZE);
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The query page size must be greater than zero: " + pageSize);
+        }
+        return pageSize;
+    }
+
     private Set<String> getCollections(Settings settings) {
         Set<String> collections = new LinkedHashSet<>();
         settings.get(CouchbaseConfigurations.COLLECTIONS)
@@ -142,6 +203,64 @@ public abstract class CouchbaseConfiguration {
         this.collection = collection;
     }
 
+    /**
+     * Set the time to wait for a bucket to be ready
+     * @param readyTimeout the timeout
+     */
+    public void setReadyTimeout(Duration readyTimeout) {
+        this.readyTimeout = readyTimeout;
+    }
+
+    /**
+     * Set what the operations do after a connectivity error
+     * @param degradedMode the mode
+     * @throws NullPointerException when degradedMode is null
+     */
+    public void setDegradedMode(CouchbaseDegradedMode degradedMode) {
+        this.degradedMode = requireNonNull(degradedMode, "degradedMode is required");
+    }
+
+    /**
+     * Set the maximum number of key-value operations in flight when reading, writing or removing several documents
+     * @param batchConcurrency the concurrency
+     * @throws IllegalArgumentException when batchConcurrency is not greater than zero
+     */
+    public void setBatchConcurrency(int batchConcurrency) {
+        if (batchConcurrency <= 0) {
+            throw new IllegalArgumentException("The batch concurrency must be greater than zero: " + batchConcurrency);
+        }
+        this.batchConcurrency = batchConcurrency;
+    }
+
+    /**
+     * Set whether the N1QL queries built from the document queries run as ad hoc statements instead of prepared ones
+     * @param queryAdhoc the adhoc flag
+     */
+    public void setQueryAdhoc(boolean queryAdhoc) {
+        this.queryAdhoc = queryAdhoc;
+    }
+
+    /**
+     * Set the scan consistency of the N1QL queries
+     * @param scanConsistency the scan consistency
+     * @throws NullPointerException when scanConsistency is null
+     */
+    public void setScanConsistency(QueryScanConsistency scanConsistency) {
+        this.scanConsistency = requireNonNull(scanConsistency, "scanConsistency is required");
+    }
+
+    /**
+     * Set the number of rows of a N1QL query requested at a time while the result is consumed
+     * @param queryPageSize the page size
+     * @throws IllegalArgumentException when queryPageSize is not greater than zero
+     */
+    public void setQueryPageSize(int queryPageSize) {
+        if (queryPageSize <= 0) {
+            throw new IllegalArgumentException("The query page size must be greater than zero: " + queryPageSize);
+        }
+        this.queryPageSize = queryPageSize;
+    }
+
     /**
      * add collection in the settings
      *
@@ -159,7 +278,9 @@ public abstract class CouchbaseConfiguration {
      */
     public CouchbaseSettings toCouchbaseSettings() {
         return new CouchbaseSettings(this.host, this.user, this.password,
-                this.scope, this.index, this.collection, this.collections.stream().toList());
+                this.scope, this.index, this.collection, this.collections.stream().toList(),
+                this.readyTimeout, this.degradedMode, this.batchConcurrency, this.queryAdhoc,
+                this.scanConsistency, this.queryPageSize);
     }
 
     @Override
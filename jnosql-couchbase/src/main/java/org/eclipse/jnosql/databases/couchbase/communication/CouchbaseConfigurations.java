@@ -61,7 +61,39 @@ public enum CouchbaseConfigurations implements Supplier<String> {
      * At the start-up of a {@link CouchbaseConfiguration}, it will read this property to check if the index does exist,
      * if not it will create combined by scope and the database.
      */
-    INDEX("jnosql.couchbase.index");
+    INDEX("jnosql.couchbase.index"),
+    /**
+     * The time, in milliseconds, to wait for a bucket to be ready, once when its manager is created and again
+     * after a connectivity error. When it is not defined, the key-value durable timeout of the cluster.
+     */
+    READY_TIMEOUT("jnosql.couchbase.ready.timeout"),
+    /**
+     * What the operations do after a connectivity error: wait, the default, waits until the bucket is ready again;
+     * fail fails right away while the bucket is checked in the background.
+     *
+     * @see CouchbaseDegradedMode
+     */
+    DEGRADED_MODE("jnosql.couchbase.degraded.mode"),
+    /**
+     * The maximum number of key-value operations in flight when reading, writing or removing several documents.
+     * By default, 32.
+     */
+    BATCH_CONCURRENCY("jnosql.couchbase.batch.concurrency"),
+    /**
+     * Whether the N1QL queries built from the document queries run as ad hoc statements. By default, false: each
+     * statement is prepared once and the prepared plan is reused. The N1QL queries of the user always run ad hoc,
+     * unless they are executed with {@link CouchbaseDocumentManager#n1qlPreparedQuery}.
+     */
+    QUERY_ADHOC("jnosql.couchbase.query.adhoc"),
+    /**
+     * The scan consistency of the N1QL queries: not_bounded, the default, or request_plus, which waits for the
+     * indexes to have the mutations done before the query.
+     */
+    SCAN_CONSISTENCY("jnosql.couchbase.query.scan.consistency"),
+    /**
+     * The number of rows of a N1QL query requested at a time while the result is consumed. By default, 256.
+     */
+    QUERY_PAGE_SIZE("jnosql.couchbase.query.page.size");
 
     private final String configuration;
 
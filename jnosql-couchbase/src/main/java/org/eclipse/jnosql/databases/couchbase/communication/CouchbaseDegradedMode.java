@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *   Maximillian Arruda
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+/**
+ * What the operations do once the bucket is no longer reachable, after a timeout or a canceled request.
+ *
+ * @see CouchbaseConfigurations#DEGRADED_MODE
+ */
+public enum CouchbaseDegradedMode {
+
+    /**
+     * The next operation waits until the bucket is ready again, up to the ready timeout, and then runs.
+     */
+    WAIT,
+
+    /**
+     * The operations fail right away while the bucket is checked in the background, until it is ready again.
+     */
+    FAIL;
+
+    /**
+     * Returns the mode from its name, ignoring the case
+     *
+     * @param value the name
+     * @return the mode
+     * @throws IllegalArgumentException when there is no mode with this name
+     */
+    static CouchbaseDegradedMode parse(String value) {
+        for (CouchbaseDegradedMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("The degraded mode must be wait or fail: " + value);
+    }
+}
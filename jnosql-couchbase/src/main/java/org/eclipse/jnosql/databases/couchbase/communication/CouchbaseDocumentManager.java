@@ -36,6 +36,18 @@ public interface CouchbaseDocumentManager extends DocumentManager {
      */
     Stream<DocumentEntity> n1qlQuery(String n1ql, JsonObject params) throws NullPointerException;
 
+    /**
+     * Executes the N1QL with params as a prepared statement, so the plan is reused by the next executions of the
+     * same statement; the values should be bound as params instead of written in the statement.
+     * The other N1QL queries of the user run as ad hoc statements.
+     *
+     * @param n1ql   the query
+     * @param params the params
+     * @return the query result
+     * @throws NullPointerException when either n1ql or params are null
+     */
+    Stream<DocumentEntity> n1qlPreparedQuery(String n1ql, JsonObject params) throws NullPointerException;
+
 
     /**
      * Executes the n1qlquery  plain query and then result que result
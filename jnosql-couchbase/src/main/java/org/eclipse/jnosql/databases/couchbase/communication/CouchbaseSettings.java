@@ -24,6 +24,7 @@ import com.couchbase.client.java.manager.collection.CollectionManager;
 import com.couchbase.client.java.manager.collection.CollectionSpec;
 import com.couchbase.client.java.manager.collection.ScopeSpec;
 import com.couchbase.client.java.manager.query.QueryIndexManager;
+import com.couchbase.client.java.query.QueryScanConsistency;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
@@ -56,9 +57,23 @@ public final class CouchbaseSettings {
     private final String collection;
     private final List<String> collections;
 
+    private final Duration readyTimeout;
+
+    private final CouchbaseDegradedMode degradedMode;
+
+    private final int batchConcurrency;
+
+    private final boolean queryAdhoc;
+
+    private final QueryScanConsistency scanConsistency;
+
+    private final int queryPageSize;
+
     CouchbaseSettings(String host, String user, String password,
                       String scope, String index, String collection,
-                      List<String> collections) {
+                      List<String> collections, Duration readyTimeout,
+                      CouchbaseDegradedMode degradedMode, int batchConcurrency,
+                      boolean queryAdhoc, QueryScanConsistency scanConsistency, int queryPageSize) {
         this.host = host;
         this.user = user;
         this.password = password;
@@ -66,6 +81,12 @@ public final class CouchbaseSettings {
         this.index = index;
         this.collection = collection;
         this.collections = collections;
+        this.readyTimeout = readyTimeout;
+        this.degradedMode = degradedMode;
+        this.batchConcurrency = batchConcurrency;
+        this.queryAdhoc = queryAdhoc;
+        this.scanConsistency = scanConsistency;
+        this.queryPageSize = queryPageSize;
     }
 
 
@@ -135,6 +156,60 @@ public final class CouchbaseSettings {
         return index;
     }
 
+    /**
+     * Returns the time to wait for a bucket to be ready {@link CouchbaseConfigurations#READY_TIMEOUT}
+     *
+     * @return the ready timeout {@link CouchbaseConfigurations#READY_TIMEOUT}
+     */
+    public Optional<Duration> getReadyTimeout() {
+        return Optional.ofNullable(readyTimeout);
+    }
+
+    /**
+     * Returns what the operations do after a connectivity error {@link CouchbaseConfigurations#DEGRADED_MODE}
+     *
+     * @return the degraded mode {@link CouchbaseConfigurations#DEGRADED_MODE}
+     */
+    public CouchbaseDegradedMode getDegradedMode() {
+        return degradedMode;
+    }
+
+    /**
+     * Returns the maximum number of key-value operations in flight of the batches
+     * {@link CouchbaseConfigurations#BATCH_CONCURRENCY}
+     *
+     * @return the batch concurrency {@link CouchbaseConfigurations#BATCH_CONCURRENCY}
+     */
+    public int getBatchConcurrency() {
+        return batchConcurrency;
+    }
+
+    /**
+     * Returns whether the N1QL queries run as ad hoc statements {@link CouchbaseConfigurations#QUERY_ADHOC}
+     *
+     * @return the adhoc flag {@link CouchbaseConfigurations#QUERY_ADHOC}
+     */
+    public boolean isQueryAdhoc() {
+        return queryAdhoc;
+    }
+
+    /**
+     * Returns the scan consistency of the N1QL queries {@link CouchbaseConfigurations#SCAN_CONSISTENCY}
+     *
+     * @return the scan consistency {@link CouchbaseConfigurations#SCAN_CONSISTENCY}
+     */
+    public QueryScanConsistency getScanConsistency() {
+        return scanConsistency;
+    }
+
+    /**
+     * Returns the number of rows of a N1QL query requested at a time {@link CouchbaseConfigurations#QUERY_PAGE_SIZE}
+     *
+     * @return the query page size {@link CouchbaseConfigurations#QUERY_PAGE_SIZE}
+     */
+    public int getQueryPageSize() {
+        return queryPageSize;
+    }
 
     /**
      * Create a new {@link Cluster} instance using {@link CouchbaseSettings#getHost()}
@@ -242,12 +317,19 @@ public final class CouchbaseSettings {
         return Objects.equals(host, that.host) && Objects.equals(user, that.user)
                 && Objects.equals(password, that.password) && Objects.equals(scope, that.scope)
                 && Objects.equals(index, that.index) && Objects.equals(collection, that.collection)
-                && Objects.equals(collections, that.collections);
+                && Objects.equals(collections, that.collections)
+                && Objects.equals(readyTimeout, that.readyTimeout)
+                && Objects.equals(degradedMode, that.degradedMode)
+                && batchConcurrency == that.batchConcurrency
+                && queryAdhoc == that.queryAdhoc
+                && Objects.equals(scanConsistency, that.scanConsistency)
+                && queryPageSize == that.queryPageSize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(host, user, password, scope, index, collection, collections);
+        return Objects.hash(host, user, password, scope, index, collection, collections, readyTimeout,
+                degradedMode, batchConcurrency, queryAdhoc, scanConsistency, queryPageSize);
     }
 
     @Override
@@ -260,6 +342,12 @@ public final class CouchbaseSettings {
                 ", index='" + index + '\'' +
                 ", collection='" + collection + '\'' +
                 ", collections=" + collections +
+                ", readyTimeout=" + readyTimeout +
+                ", degradedMode=" + degradedMode +
+                ", batchConcurrency=" + batchConcurrency +
+                ", queryAdhoc=" + queryAdhoc +
+                ", scanConsistency=" + scanConsistency +
+                ", queryPageSize=" + queryPageSize +
                 '}';
     }
 }
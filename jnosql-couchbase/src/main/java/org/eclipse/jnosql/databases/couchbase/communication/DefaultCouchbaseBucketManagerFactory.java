@@ -58,7 +58,8 @@ class DefaultCouchbaseBucketManagerFactory implements CouchbaseBucketManagerFact
         Bucket bucket = cluster.bucket(bucketName);
         String scopeName = settings.getScope().orElseGet(() -> bucket.defaultScope().name());
         String collection = settings.getCollection().orElseGet(() -> bucket.defaultCollection().name());
-        return new CouchbaseBucketManager(bucket, bucketName, scopeName, collection);
+        return new CouchbaseBucketManager(bucket, bucketName, scopeName, collection,
+                BucketReadiness.of(bucket, settings), settings.getBatchConcurrency());
     }
 
     @Override
@@ -67,7 +68,8 @@ class DefaultCouchbaseBucketManagerFactory implements CouchbaseBucketManagerFact
         requireNonNull(collection, "collection is required");
         Bucket bucket = cluster.bucket(bucketName);
         String scopeName = settings.getScope().orElseGet(() -> bucket.defaultScope().name());
-        return new CouchbaseBucketManager(bucket, bucketName, scopeName, collection);
+        return new CouchbaseBucketManager(bucket, bucketName, scopeName, collection,
+                BucketReadiness.of(bucket, settings), settings.getBatchConcurrency());
     }
 
     @Override
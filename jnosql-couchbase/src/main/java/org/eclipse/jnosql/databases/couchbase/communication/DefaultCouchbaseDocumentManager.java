@@ -15,27 +15,24 @@
 package org.eclipse.jnosql.databases.couchbase.communication;
 
 
-import com.couchbase.client.core.error.DocumentNotFoundException;
 import com.couchbase.client.java.Bucket;
 import com.couchbase.client.java.Cluster;
 import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.ReactiveCollection;
 import com.couchbase.client.java.json.JsonObject;
 import com.couchbase.client.java.kv.GetResult;
 import com.couchbase.client.java.kv.InsertOptions;
-import com.couchbase.client.java.query.QueryOptions;
-import com.couchbase.client.java.query.QueryResult;
 import org.eclipse.jnosql.communication.document.Document;
 import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -47,17 +44,21 @@ import static java.util.Objects.requireNonNull;
  */
 class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
 
-    private static final Logger LOGGER = Logger.getLogger(DefaultCouchbaseDocumentManager.class.getName());
-
     private final Bucket bucket;
     private final String database;
 
-    private final Cluster cluster;
+    private final BucketReadiness readiness;
+
+    private final int concurrency;
 
-    DefaultCouchbaseDocumentManager(Cluster cluster, String database) {
+    private final QueryStream queries;
+
+    DefaultCouchbaseDocumentManager(Cluster cluster, String database, CouchbaseSettings settings) {
         this.bucket = cluster.bucket(database);
         this.database = database;
-        this.cluster = cluster;
+        this.readiness = BucketReadiness.of(bucket, settings);
+        this.concurrency = settings.getBatchConcurrency();
+        this.queries = new QueryStream(cluster, readiness, settings);
     }
 
     @Override
@@ -68,7 +69,7 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public DocumentEntity insert(DocumentEntity entity) throws NullPointerException {
         requireNonNull(entity, "entity is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.execute(() -> {
             entity.add(EntityConverter.COLLECTION_FIELD, entity.name());
             JsonObject json = EntityConverter.convert(entity);
             Document id = entity.find(EntityConverter.ID_FIELD)
@@ -83,7 +84,7 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.execute(() -> {
             JsonObject json = EntityConverter.convert(entity);
             Document id = entity.find(EntityConverter.ID_FIELD)
                     .orElseThrow(() -> new CouchbaseNoKeyFoundException(entity.toString()));
@@ -96,22 +97,26 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        List<DocumentEntity> documents = toList(entities);
+        documents.forEach(e -> e.add(EntityConverter.COLLECTION_FIELD, e.name()));
+        write(documents, (collection, id, json) -> collection.insert(id, json));
+        return documents;
     }
 
     @Override
     public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities, Duration ttl) {
         Objects.requireNonNull(entities, "entities is required");
         Objects.requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(e -> insert(e, ttl)).collect(Collectors.toList());
+        List<DocumentEntity> documents = toList(entities);
+        write(documents, (collection, id, json) -> collection.insert(id, json,
+                InsertOptions.insertOptions().expiry(ttl)));
+        return documents;
     }
 
     @Override
     public DocumentEntity update(DocumentEntity entity) {
         requireNonNull(entity, "entity is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.execute(() -> {
             entity.add(EntityConverter.COLLECTION_FIELD, entity.name());
             JsonObject json = EntityConverter.convert(entity);
             Document id = entity.find(EntityConverter.ID_FIELD)
@@ -125,62 +130,68 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        List<DocumentEntity> documents = toList(entities);
+        documents.forEach(e -> e.add(EntityConverter.COLLECTION_FIELD, e.name()));
+        write(documents, ReactiveCollection::upsert);
+        return documents;
     }
 
     @Override
     public void delete(DocumentDeleteQuery query) {
-        waitBucketBeReadyAndDo(() -> {
+        readiness.execute(() -> {
             Objects.requireNonNull(query, "query is required");
             Collection collection = bucket.collection(query.name());
             DocumentQuery delete = DeleteQueryWrapper.of(query);
-            Stream<DocumentEntity> entities = select(delete);
-            entities.flatMap(d -> d.find(EntityConverter.ID_FIELD).stream())
+            List<String> ids = select(delete)
+                    .flatMap(d -> d.find(EntityConverter.ID_FIELD).stream())
                     .filter(Objects::nonNull)
                     .map(d -> d.get(String.class))
-                    .forEach(collection::remove);
+                    .collect(Collectors.toList());
+            KeyValueBatch.remove(collection.reactive(), ids, concurrency);
         });
     }
 
-    private void waitBucketBeReadyAndDo(Runnable runnable) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        runnable.run();
+    private static List<DocumentEntity> toList(Iterable<DocumentEntity> entities) {
+        return StreamSupport.stream(entities.spliterator(), false)
+                .map(e -> requireNonNull(e, "entity is required"))
+                .collect(Collectors.toList());
     }
 
+    /**
+     * Converts every entity, so an entity without id fails before anything is written, then writes them
+     * concurrently.
+     */
+    private void write(List<DocumentEntity> entities, Mutation mutation) {
+        List<Supplier<Mono<?>>> writes = new ArrayList<>();
+        for (DocumentEntity entity : entities) {
+            JsonObject json = EntityConverter.convert(entity);
+            String id = entity.find(EntityConverter.ID_FIELD)
+                    .orElseThrow(() -> new CouchbaseNoKeyFoundException(entity.toString()))
+                    .get(String.class);
+            ReactiveCollection collection = bucket.collection(entity.name()).reactive();
+            writes.add(() -> mutation.apply(collection, id, json));
+        }
+        readiness.execute(() -> KeyValueBatch.execute(writes, Supplier::get, concurrency));
+    }
 
-    private <T> T waitBucketBeReadyAndGet(Supplier<T> supplier) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        return supplier.get();
+    private interface Mutation {
+        Mono<?> apply(ReactiveCollection collection, String id, JsonObject json);
     }
 
     @Override
     public Stream<DocumentEntity> select(final DocumentQuery query) throws NullPointerException {
         Objects.requireNonNull(query, "query is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.execute(() -> {
             N1QLQuery n1QLQuery = N1QLBuilder.of(query, database, bucket.defaultScope().name()).get();
-            List<JsonObject> jsons = new ArrayList<>();
+            Stream<JsonObject> jsons = Stream.empty();
             if (n1QLQuery.hasIds()) {
-                Collection collection = bucket.collection(query.name());
-                for (String id : n1QLQuery.getIds()) {
-                    try {
-                        GetResult result = collection.get(id);
-                        jsons.add(result.contentAsObject());
-                    } catch (DocumentNotFoundException exp) {
-                        LOGGER.log(Level.FINEST, "The id was not found: " + id);
-                    }
-                }
+                ReactiveCollection collection = bucket.collection(query.name()).reactive();
+                jsons = KeyValueBatch.get(collection, n1QLQuery.getIds(), concurrency).stream()
+                        .map(GetResult::contentAsObject);
             }
 
             if (!n1QLQuery.hasOnlyIds()) {
-                QueryResult result;
-                if (n1QLQuery.hasParameter()) {
-                    result = cluster.query(n1QLQuery.getQuery());
-                } else {
-                    result = cluster.query(n1QLQuery.getQuery(), QueryOptions
-                            .queryOptions().parameters(n1QLQuery.getParams()));
-                }
-                jsons.addAll(result.rowsAsObject());
+                jsons = Stream.concat(jsons, queries.stream(n1QLQuery.getQuery(), n1QLQuery.getParams()));
             }
             return EntityConverter.convert(jsons, database);
         });
@@ -189,13 +200,12 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public long count(String documentCollection) {
         Objects.requireNonNull(documentCollection, "documentCollection is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.execute(() -> {
             DocumentQuery countQuery = DocumentQuery
                     .select("COUNT(*)").from(documentCollection).build();
             N1QLQuery n1QLQuery = N1QLBuilder
                     .of(countQuery, database, bucket.defaultScope().name()).get();
-            QueryResult query = cluster.query(n1QLQuery.getQuery());
-            List<JsonObject> result = query.rowsAsObject();
+            List<JsonObject> result = queries.rows(n1QLQuery.getQuery(), n1QLQuery.getParams());
             var count = result.stream().findFirst()
                     .map(data -> data.getNumber("$1"))
                     .orElse(0L);
@@ -207,21 +217,21 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     public Stream<DocumentEntity> n1qlQuery(final String n1ql, final JsonObject params) throws NullPointerException {
         requireNonNull(n1ql, "n1qlQuery is required");
         requireNonNull(params, "params is required");
-        return waitBucketBeReadyAndGet(() -> {
-            QueryResult query = cluster.query(n1ql, QueryOptions
-                    .queryOptions().parameters(params));
-            return EntityConverter.convert(query.rowsAsObject(), database);
-        });
+        return readiness.execute(() -> EntityConverter.convert(queries.stream(n1ql, params, true), database));
+    }
+
+    @Override
+    public Stream<DocumentEntity> n1qlPreparedQuery(String n1ql, JsonObject params) throws NullPointerException {
+        requireNonNull(n1ql, "n1qlQuery is required");
+        requireNonNull(params, "params is required");
+        return readiness.execute(() -> EntityConverter.convert(queries.stream(n1ql, params, false), database));
     }
 
 
     @Override
     public Stream<DocumentEntity> n1qlQuery(String n1ql) throws NullPointerException {
         requireNonNull(n1ql, "n1qlQuery is required");
-        return waitBucketBeReadyAndGet(() -> {
-            QueryResult query = cluster.query(n1ql);
-            return EntityConverter.convert(query.rowsAsObject(), database);
-        });
+        return readiness.execute(() -> EntityConverter.convert(queries.stream(n1ql, null, true), database));
     }
 
 
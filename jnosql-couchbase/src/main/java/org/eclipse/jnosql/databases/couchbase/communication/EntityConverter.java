@@ -46,8 +46,12 @@ final class EntityConverter {
 
 
     static Stream<DocumentEntity> convert(List<JsonObject> result, String database) {
+        return convert(result.stream(), database);
+    }
+
+    static Stream<DocumentEntity> convert(Stream<JsonObject> result, String database) {
         return
-                result.stream()
+                result
                         .map(JsonObject::toMap)
                         .filter(Objects::nonNull)
                         .map(map -> {
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *   Maximillian Arruda
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.core.error.DocumentNotFoundException;
+import com.couchbase.client.java.ReactiveCollection;
+import com.couchbase.client.java.kv.GetResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Runs the key-value operations of several documents with the reactive API of the collections, with up to
+ * concurrency operations in flight, instead of one blocking call after the other.
+ */
+final class KeyValueBatch {
+
+    static final int DEFAULT_CONCURRENCY = 32;
+
+    private KeyValueBatch() {
+    }
+
+    /**
+     * Reads the documents, in the order of the ids. The ids that do not exist are skipped.
+     *
+     * @param collection  the collection
+     * @param ids         the ids
+     * @param concurrency the maximum number of reads in flight
+     * @return the documents found
+     */
+    static List<GetResult> get(ReactiveCollection collection, List<String> ids, int concurrency) {
+        return Flux.fromIterable(ids)
+                .flatMapSequential(id -> collection.get(id)
+                        .onErrorResume(DocumentNotFoundException.class, e -> Mono.empty()), concurrency)
+                .collectList()
+                .block();
+    }
+
+    /**
+     * Runs the operation on each element and waits for all of them. The first error stops the operations that
+     * were not sent yet and is thrown.
+     *
+     * @param elements    the elements
+     * @param operation   the operation of each element
+     * @param concurrency the maximum number of operations in flight
+     * @param <T>         the element type
+     */
+    static <T> void execute(Iterable<T> elements, Function<T, Mono<?>> operation, int concurrency) {
+        Flux.fromIterable(elements)
+                .flatMap(operation, concurrency)
+                .then()
+                .block();
+    }
+
+    /**
+     * Removes the documents. The ids that do not exist are skipped.
+     *
+     * @param collection  the collection
+     * @param ids         the ids
+     * @param concurrency the maximum number of removes in flight
+     */
+    static void remove(ReactiveCollection collection, Iterable<String> ids, int concurrency) {
+        execute(ids, id -> collection.remove(id)
+                .onErrorResume(DocumentNotFoundException.class, e -> Mono.empty()), concurrency);
+    }
+}
@@ -23,12 +23,18 @@ import org.eclipse.jnosql.communication.document.DocumentQuery;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 final class N1QLBuilder implements Supplier<N1QLQuery> {
 
+    /**
+     * The limit and the offset are bound as parameters, so each page of a query shares the prepared statement.
+     */
+    private static final String LIMIT = "$limit";
+
+    private static final String OFFSET = "$offset";
+
     private final DocumentQuery query;
 
     private final String database;
@@ -58,6 +64,7 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
             n1ql.append(" WHERE ");
             condition(c, n1ql, params, ids);
         });
+        boolean predicates = !params.isEmpty();
 
 
         if (!query.sorts().isEmpty()) {
@@ -69,14 +76,16 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
         }
 
         if (query.limit() > 0) {
-            n1ql.append(" LIMIT ").append(query.limit());
+            n1ql.append(" LIMIT ").append(LIMIT);
+            params.put(LIMIT, query.limit());
         }
 
         if (query.skip() > 0) {
-            n1ql.append(" OFFSET ").append(query.skip());
+            n1ql.append(" OFFSET ").append(OFFSET);
+            params.put(OFFSET, query.skip());
         }
 
-        return N1QLQuery.of(n1ql, params, ids);
+        return N1QLQuery.of(n1ql, params, ids, predicates);
     }
 
 
@@ -135,17 +144,16 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
 
     private void predicateBetween(StringBuilder n1ql, JsonObject params, Document document) {
         n1ql.append(" BETWEEN ");
-        ThreadLocalRandom random = ThreadLocalRandom.current();
         String name = identifierOf(document.name());
 
         List<Object> values = new ArrayList<>();
         ((Iterable<?>) document.get()).forEach(values::add);
 
-        String param = "$".concat(document.name()).concat("_").concat(Integer.toString(random.nextInt(0, 100)));
-        String param2 = "$".concat(document.name()).concat("_").concat(Integer.toString(random.nextInt(0, 100)));
-        n1ql.append(name).append(" ").append(param).append(" AND ").append(param2);
+        String param = parameter(params);
         params.put(param, values.get(0));
+        String param2 = parameter(params);
         params.put(param2, values.get(1));
+        n1ql.append(name).append(" ").append(param).append(" AND ").append(param2);
     }
 
     private void appendCondition(StringBuilder n1ql, JsonObject params,
@@ -168,14 +176,21 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
                            String condition,
                            Document document,
                            JsonObject params) {
-        ThreadLocalRandom random = ThreadLocalRandom.current();
         String name = identifierOf(document.name());
         Object value = document.get();
-        String param = "$".concat(document.name()).concat("_").concat(Integer.toString(random.nextInt(0, 100)));
+        String param = parameter(params);
         n1ql.append(name).append(condition).append(param);
         params.put(param, value);
     }
 
+    /**
+     * Names the next parameter by its position, so the same query always has the same statement and can be
+     * prepared once.
+     */
+    private static String parameter(JsonObject params) {
+        return "$p" + params.size();
+    }
+
     private String identifierOf(String name) {
         return ' ' + name + ' ';
     }
@@ -28,10 +28,13 @@ final class N1QLQuery {
 
     private final List<String> ids;
 
-    N1QLQuery(String query, JsonObject params, List<String> ids) {
+    private final boolean predicates;
+
+    N1QLQuery(String query, JsonObject params, List<String> ids, boolean predicates) {
         this.query = query;
         this.params = params;
         this.ids = ids;
+        this.predicates = predicates;
     }
 
     public String getQuery() {
@@ -46,12 +49,15 @@ final class N1QLQuery {
         return Collections.unmodifiableList(ids);
     }
 
-    public boolean hasParameter() {
-        return this.params.isEmpty();
+    /**
+     * Whether the condition has predicates other than the ids, which are read by key instead.
+     */
+    public boolean hasPredicates() {
+        return predicates;
     }
 
     public boolean hasOnlyIds() {
-        return hasIds() && hasParameter();
+        return hasIds() && !hasPredicates();
     }
 
     public boolean hasIds() {
@@ -67,13 +73,13 @@ final class N1QLQuery {
             return false;
         }
         N1QLQuery n1QLQuery = (N1QLQuery) o;
-        return Objects.equals(query, n1QLQuery.query) && Objects.equals(params, n1QLQuery.params)
-                && Objects.equals(ids, n1QLQuery.ids);
+        return predicates == n1QLQuery.predicates && Objects.equals(query, n1QLQuery.query)
+                && Objects.equals(params, n1QLQuery.params) && Objects.equals(ids, n1QLQuery.ids);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(query, params, ids);
+        return Objects.hash(query, params, ids, predicates);
     }
 
     @Override
@@ -82,10 +88,11 @@ final class N1QLQuery {
                 "query='" + query + '\'' +
                 ", params=" + params +
                 ", ids=" + ids +
+                ", predicates=" + predicates +
                 '}';
     }
 
-    static N1QLQuery of(StringBuilder query, JsonObject params, List<String> ids) {
-        return new N1QLQuery(query.toString(), params, ids);
+    static N1QLQuery of(StringBuilder query, JsonObject params, List<String> ids, boolean predicates) {
+        return new N1QLQuery(query.toString(), params, ids, predicates);
     }
 }
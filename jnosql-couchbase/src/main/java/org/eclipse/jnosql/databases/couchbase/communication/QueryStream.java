@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *   Maximillian Arruda
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.java.Cluster;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.QueryScanConsistency;
+import com.couchbase.client.java.query.ReactiveQueryResult;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Runs the N1QL queries with the options of the settings. The rows are read with the reactive API of the
+ * cluster and handed to the consumer as they arrive, a page at a time, so a large result is never held in
+ * memory. A timeout or a canceled request while the rows are read marks the bucket as degraded, as it does
+ * when the query starts. Unless the queries are ad hoc, each statement is prepared once and the plan is reused;
+ * the statements given by the user run ad hoc unless the caller asks them to be prepared.
+ */
+final class QueryStream {
+
+    static final int DEFAULT_PAGE_SIZE = 256;
+
+    private final Cluster cluster;
+
+    private final BucketReadiness readiness;
+
+    private final boolean adhoc;
+
+    private final QueryScanConsistency scanConsistency;
+
+    private final int pageSize;
+
+    QueryStream(Cluster cluster, BucketReadiness readiness, CouchbaseSettings settings) {
+        this(cluster, readiness, settings.isQueryAdhoc(), settings.getScanConsistency(),
+                settings.getQueryPageSize());
+    }
+
+    QueryStream(Cluster cluster, BucketReadiness readiness, boolean adhoc, QueryScanConsistency scanConsistency,
+                int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The query page size must be greater than zero: " + pageSize);
+        }
+        this.cluster = cluster;
+        this.readiness = readiness;
+        this.adhoc = adhoc;
+        this.scanConsistency = scanConsistency;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Returns the rows of the query, read while the stream is consumed. Closing the stream cancels the query.
+     *
+     * @param n1ql   the query
+     * @param params the named parameters
+     * @return the rows
+     */
+    Stream<JsonObject> stream(String n1ql, JsonObject params) {
+        return stream(n1ql, params, adhoc);
+    }
+
+    /**
+     * Returns the rows of the query, read while the stream is consumed, ad hoc or prepared regardless of the
+     * settings. Closing the stream cancels the query.
+     *
+     * @param n1ql   the query
+     * @param params the named parameters
+     * @param adhoc  whether the query runs as an ad hoc statement
+     * @return the rows
+     */
+    Stream<JsonObject> stream(String n1ql, JsonObject params, boolean adhoc) {
+        return cluster.reactive().query(n1ql, options(params, adhoc))
+                .flatMapMany(ReactiveQueryResult::rowsAsObject)
+                .doOnError(readiness::failed)
+                .toStream(pageSize);
+    }
+
+    /**
+     * Returns all the rows of the query, for the queries with a small result.
+     *
+     * @param n1ql   the query
+     * @param params the named parameters
+     * @return the rows
+     */
+    List<JsonObject> rows(String n1ql, JsonObject params) {
+        return cluster.query(n1ql, options(params)).rowsAsObject();
+    }
+
+    QueryOptions options(JsonObject params) {
+        return options(params, adhoc);
+    }
+
+    QueryOptions options(JsonObject params, boolean adhoc) {
+        QueryOptions options = QueryOptions.queryOptions()
+                .adhoc(adhoc)
+                .scanConsistency(scanConsistency);
+        if (params != null && !params.isEmpty()) {
+            options.parameters(params);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *   Maximillian Arruda
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.core.error.UnambiguousTimeoutException;
+import com.couchbase.client.java.Bucket;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class BucketReadinessTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(1L);
+
+    private Bucket bucket;
+
+    @BeforeEach
+    public void setUp() {
+        bucket = mock(Bucket.class);
+    }
+
+    @Test
+    public void shouldWaitOnlyWhenCreated() {
+        BucketReadiness readiness = new BucketReadiness(bucket, TIMEOUT, CouchbaseDegradedMode.WAIT);
+        readiness.execute(() -> "Poliana");
+        readiness.execute(() -> "Otavio");
+        assertEquals("Ada", readiness.execute(() -> "Ada"));
+        verify(bucket, times(1)).waitUntilReady(TIMEOUT);
+    }
+
+    @Test
+    public void shouldWaitAgainAfterTimeout() {
+        BucketReadiness readiness = new BucketReadiness(bucket, TIMEOUT, CouchbaseDegradedMode.WAIT);
+        assertThrows(UnambiguousTimeoutException.class, () -> readiness.execute(this::timeout));
+        assertFalse(readiness.isReady());
+
+        readiness.execute(() -> "Poliana");
+
+        assertTrue(readiness.isReady());
+        verify(bucket, times(2)).waitUntilReady(TIMEOUT);
+    }
+
+    @Test
+    public void shouldFailWhileCheckingInBackground() {
+        BucketReadiness readiness = new BucketReadiness(bucket, TIMEOUT, CouchbaseDegradedMode.FAIL);
+        assertThrows(UnambiguousTimeoutException.class, () -> readiness.execute(this::timeout));
+
+        assertThrows(CommunicationException.class, () -> readiness.execute(() -> "Poliana"));
+
+        await().until(readiness::isReady);
+        assertEquals("Poliana", readiness.execute(() -> "Poliana"));
+    }
+
+    @Test
+    public void shouldKeepReadyOnOtherErrors() {
+        BucketReadiness readiness = new BucketReadiness(bucket, TIMEOUT, CouchbaseDegradedMode.WAIT);
+        assertThrows(IllegalStateException.class, () -> readiness.execute(() -> {
+            throw new IllegalStateException("error");
+        }));
+        assertTrue(readiness.isReady());
+    }
+
+    private String timeout() {
+        throw new UnambiguousTimeoutException("timeout", null);
+    }
+}
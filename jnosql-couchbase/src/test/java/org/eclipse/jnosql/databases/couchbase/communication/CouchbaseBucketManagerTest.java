@@ -183,5 +183,22 @@ public class CouchbaseBucketManagerTest {
         assertEquals(0L, StreamSupport.stream(manager.get(keys).spliterator(), false).count());
     }
 
+    @Test
+    public void shouldMultiGetInOrderSkippingMissingKeys() {
+        manager.put(asList(soroEntity, entityOtavio));
+        Iterable<Value> values = manager.get(asList(KEY_SORO, "missing", KEY_OTAVIO));
+        Assertions.assertThat(StreamSupport.stream(values.spliterator(), false)
+                .map(value -> value.get(User.class)).collect(Collectors.toList()))
+                .containsExactly(userSoro, userOtavio);
+    }
+
+    @Test
+    public void shouldRemoveMultiKeySkippingMissingKeys() {
+        manager.put(asList(soroEntity, entityOtavio));
+        List<String> keys = asList(KEY_OTAVIO, "missing", KEY_SORO);
+        manager.delete(keys);
+        assertEquals(0L, StreamSupport.stream(manager.get(keys).spliterator(), false).count());
+    }
+
 
 }
\ No newline at end of file
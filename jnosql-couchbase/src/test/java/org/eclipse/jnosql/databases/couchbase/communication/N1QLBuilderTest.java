@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *   Maximillian Arruda
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.jnosql.communication.document.DocumentQuery.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class N1QLBuilderTest {
+
+    @Test
+    public void shouldGenerateTheSameStatementForTheSameQuery() {
+        DocumentQuery query = select().from("person").where("name").eq("Ada")
+                .and("age").between(10, 20).build();
+        N1QLQuery first = N1QLBuilder.of(query, "jnosql", "_default").get();
+        N1QLQuery second = N1QLBuilder.of(query, "jnosql", "_default").get();
+        assertEquals(first.getQuery(), second.getQuery());
+        assertEquals("Ada", first.getParams().getString("$p0"));
+        assertEquals(10, first.getParams().getInt("$p1"));
+        assertEquals(20, first.getParams().getInt("$p2"));
+    }
+
+    @Test
+    public void shouldBindLimitAndOffset() {
+        N1QLQuery first = N1QLBuilder.of(select().from("person").skip(10).limit(5).build(), "jnosql", "_default")
+                .get();
+        N1QLQuery second = N1QLBuilder.of(select().from("person").skip(20).limit(5).build(), "jnosql", "_default")
+                .get();
+        assertEquals(first.getQuery(), second.getQuery());
+        assertTrue(first.getQuery().endsWith(" LIMIT $limit OFFSET $offset"));
+        assertEquals(5L, first.getParams().getLong("$limit"));
+        assertEquals(10L, first.getParams().getLong("$offset"));
+        assertFalse(first.hasPredicates());
+    }
+
+    @Test
+    public void shouldReadOnlyIdsWithLimit() {
+        DocumentQuery query = select().from("person").where(EntityConverter.ID_FIELD).eq("ada").limit(1).build();
+        N1QLQuery n1QLQuery = N1QLBuilder.of(query, "jnosql", "_default").get();
+        assertTrue(n1QLQuery.hasOnlyIds());
+        assertFalse(n1QLQuery.getParams().isEmpty());
+    }
+
+    @Test
+    public void shouldNotReadOnlyIdsWithOtherPredicates() {
+        DocumentQuery query = select().from("person").where(EntityConverter.ID_FIELD).eq("ada")
+                .and("name").eq("Ada").build();
+        N1QLQuery n1QLQuery = N1QLBuilder.of(query, "jnosql", "_default").get();
+        assertTrue(n1QLQuery.hasIds());
+        assertFalse(n1QLQuery.hasOnlyIds());
+    }
+}
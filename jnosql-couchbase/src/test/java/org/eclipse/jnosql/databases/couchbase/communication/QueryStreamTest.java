@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *   Maximillian Arruda
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.core.error.UnambiguousTimeoutException;
+import com.couchbase.client.java.Bucket;
+import com.couchbase.client.java.Cluster;
+import com.couchbase.client.java.ReactiveCluster;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.QueryScanConsistency;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class QueryStreamTest {
+
+    private final Cluster cluster = mock(Cluster.class);
+
+    private final BucketReadiness readiness = new BucketReadiness(mock(Bucket.class), Duration.ofSeconds(1L),
+            CouchbaseDegradedMode.WAIT);
+
+    @Test
+    public void shouldPrepareByDefault() {
+        QueryStream queries = new QueryStream(cluster, readiness, false, QueryScanConsistency.NOT_BOUNDED,
+                QueryStream.DEFAULT_PAGE_SIZE);
+        assertFalse(queries.options(null).build().adhoc());
+    }
+
+    @Test
+    public void shouldRunAdhoc() {
+        QueryStream queries = new QueryStream(cluster, readiness, true, QueryScanConsistency.NOT_BOUNDED,
+                QueryStream.DEFAULT_PAGE_SIZE);
+        assertTrue(queries.options(null).build().adhoc());
+    }
+
+    @Test
+    public void shouldRunAdhocWhenAskedRegardlessOfTheSettings() {
+        QueryStream queries = new QueryStream(cluster, readiness, false, QueryScanConsistency.NOT_BOUNDED,
+                QueryStream.DEFAULT_PAGE_SIZE);
+        assertTrue(queries.options(null, true).build().adhoc());
+    }
+
+    @Test
+    public void shouldSetScanConsistencyAndParameters() {
+        QueryStream queries = new QueryStream(cluster, readiness, false, QueryScanConsistency.REQUEST_PLUS,
+                QueryStream.DEFAULT_PAGE_SIZE);
+        QueryOptions.Built options = queries.options(JsonObject.create().put("$p0", "Ada")).build();
+        JsonObject query = JsonObject.create();
+        options.injectParams(query);
+        assertEquals("request_plus", query.getString("scan_consistency"));
+        assertEquals("Ada", query.getString("$p0"));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenPageSizeIsNotPositive() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new QueryStream(cluster, readiness, false, QueryScanConsistency.NOT_BOUNDED, 0));
+    }
+
+    @Test
+    public void shouldMarkTheBucketDegradedWhenTheRowsTimeOut() {
+        ReactiveCluster reactive = mock(ReactiveCluster.class);
+        when(cluster.reactive()).thenReturn(reactive);
+        when(reactive.query(anyString(), any(QueryOptions.class)))
+                .thenReturn(Mono.error(new UnambiguousTimeoutException("timeout", null)));
+        QueryStream queries = new QueryStream(cluster, readiness, false, QueryScanConsistency.NOT_BOUNDED,
+                QueryStream.DEFAULT_PAGE_SIZE);
+
+        Stream<JsonObject> rows = queries.stream("SELECT * FROM jnosql", null);
+        assertTrue(readiness.isReady());
+        assertThrows(UnambiguousTimeoutException.class, rows::count);
+        assertFalse(readiness.isReady());
+    }
+}
@@ -78,7 +78,19 @@ public enum  CouchDBConfigurations implements Supplier<String> {
     /**
      * Determines whether compressed entities should be decompressed automatically.
      */
-    COMPRESSION("jnosql.couchdb.compression");
+    COMPRESSION("jnosql.couchdb.compression"),
+
+    /**
+     * The maximum number of documents sent in each _bulk_docs request when several documents are inserted,
+     * updated or deleted. The default value is "1000".
+     */
+    BULK_SIZE("jnosql.couchdb.bulk.size"),
+
+    /**
+     * The number of documents of each _find request when a query is read page by page, following the bookmarks.
+     * The default value is "1000".
+     */
+    PAGE_SIZE("jnosql.couchdb.page.size");
 
     private final String configuration;
 
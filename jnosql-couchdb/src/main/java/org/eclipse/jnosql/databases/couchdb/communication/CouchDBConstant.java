@@ -26,11 +26,21 @@ final class CouchDBConstant {
 
     static final String ALL_DBS = "_all_dbs";
     static final String TOTAL_ROWS_RESPONSE = "total_rows";
-    static final String REV_HEADER = "If-Match";
     static final String FIND = "/_find";
     static final String DOCS_RESPONSE = "docs";
 
     static final String COUNT = "/_all_docs?limit=0";
+    static final String ALL_DOCS = "/_all_docs";
+    static final String BULK_DOCS = "/_bulk_docs";
+    static final String DELETED = "_deleted";
+    static final String DELETED_RESPONSE = "deleted";
+    static final String KEYS_QUERY = "keys";
+    static final String ROWS_RESPONSE = "rows";
+    static final String VALUE_RESPONSE = "value";
+    static final String KEY_RESPONSE = "key";
+    static final String ERROR_RESPONSE = "error";
+    static final String REASON_RESPONSE = "reason";
+    static final String CONFLICT_ERROR = "conflict";
     static final String BOOKMARK = "bookmark";
     static final String OR_CONDITION = "$or";
     static final String AND_CONDITION = "$and";
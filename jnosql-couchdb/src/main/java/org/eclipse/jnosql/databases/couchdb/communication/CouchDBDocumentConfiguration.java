@@ -23,12 +23,14 @@ import org.eclipse.jnosql.communication.document.DocumentConfiguration;
 import java.util.Arrays;
 import java.util.Objects;
 
+import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.BULK_SIZE;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.COMPRESSION;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.CONNECTION_TIMEOUT;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.ENABLE_SSL;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.MAX_CACHE_ENTRIES;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.MAX_CONNECTIONS;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.MAX_OBJECT_SIZE_BYTES;
+import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.PAGE_SIZE;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.PORT;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.SOCKET_TIMEOUT;
 
@@ -66,6 +68,8 @@ public class CouchDBDocumentConfiguration implements DocumentConfiguration {
 
         settings.get(ENABLE_SSL, Boolean.class).ifPresent(configuration::withEnableSSL);
         settings.get(COMPRESSION, Boolean.class).ifPresent(configuration::withCompression);
+        settings.get(BULK_SIZE, Integer.class).ifPresent(configuration::withBulkSize);
+        settings.get(PAGE_SIZE, Integer.class).ifPresent(configuration::withPageSize);
 
         return new CouchDBDocumentManagerFactory(configuration.build());
     }
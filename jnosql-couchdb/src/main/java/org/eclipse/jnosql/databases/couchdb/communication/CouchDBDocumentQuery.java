@@ -48,6 +48,9 @@ public final class CouchDBDocumentQuery implements DocumentQuery {
      * through result sets. Every query returns an opaque string under the bookmark key that can
      * then be passed back in a query to get the next page of results. If any part of the selector query
      * changes between requests, the results are undefined. Optional, default: null
+     * <p>
+     * A select of this query reads the page through and updates the bookmark before it returns the documents,
+     * so the bookmark of the next page is available even if the documents are not read.
      *
      * @return the bookmark
      */
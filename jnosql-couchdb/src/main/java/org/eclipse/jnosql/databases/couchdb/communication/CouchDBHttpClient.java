@@ -50,10 +50,18 @@ final class CouchDBHttpClient {
         return this.httpExecute.insert(database, entity);
     }
 
+    public List<DocumentEntity> insert(List<DocumentEntity> entities) {
+        return this.httpExecute.insert(database, entities);
+    }
+
     public DocumentEntity update(DocumentEntity entity) {
         return this.httpExecute.update(database, entity);
     }
 
+    public List<DocumentEntity> update(List<DocumentEntity> entities) {
+        return this.httpExecute.update(database, entities);
+    }
+
     public Stream<DocumentEntity> select(DocumentQuery query) {
         return this.httpExecute.select(database, query);
     }
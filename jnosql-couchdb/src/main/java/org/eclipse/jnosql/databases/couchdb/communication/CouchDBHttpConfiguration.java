@@ -40,6 +40,8 @@ class CouchDBHttpConfiguration {
     private final boolean compression;
     private final int maxObjectSizeBytes;
     private final int maxCacheEntries;
+    private final int bulkSize;
+    private final int pageSize;
     private final String url;
     private String hashPassword;
 
@@ -48,7 +50,7 @@ class CouchDBHttpConfiguration {
                              int connectionTimeout, int socketTimeout,
                              boolean enableSSL, String username, String password,
                              boolean compression, int maxObjectSizeBytes,
-                             int maxCacheEntries) {
+                             int maxCacheEntries, int bulkSize, int pageSize) {
         this.host = host;
         this.port = port;
         this.maxConnections = maxConnections;
@@ -60,6 +62,8 @@ class CouchDBHttpConfiguration {
         this.compression = compression;
         this.maxObjectSizeBytes = maxObjectSizeBytes;
         this.maxCacheEntries = maxCacheEntries;
+        this.bulkSize = bulkSize;
+        this.pageSize = pageSize;
         this.url = createUrl();
     }
 
@@ -82,6 +86,14 @@ class CouchDBHttpConfiguration {
         return url;
     }
 
+    public int getBulkSize() {
+        return bulkSize;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
 
     private CloseableHttpClient getHttpClient() {
         CacheConfig cacheConfig = CacheConfig.custom()
@@ -90,12 +102,14 @@ class CouchDBHttpConfiguration {
                 .build();
         RequestConfig requestConfig = RequestConfig.custom()
                 .setConnectTimeout(connectionTimeout)
+                .setConnectionRequestTimeout(connectionTimeout)
                 .setSocketTimeout(socketTimeout)
                 .setContentCompressionEnabled(compression)
                 .build();
 
         PoolingHttpClientConnectionManager pool = new PoolingHttpClientConnectionManager();
         pool.setMaxTotal(maxConnections);
+        pool.setDefaultMaxPerRoute(maxConnections);
 
         HttpClientBuilder builder = CachingHttpClients.custom()
                 .setCacheConfig(cacheConfig)
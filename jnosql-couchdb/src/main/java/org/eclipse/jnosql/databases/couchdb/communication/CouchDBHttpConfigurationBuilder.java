@@ -29,6 +29,8 @@ class CouchDBHttpConfigurationBuilder {
     private boolean compression = false;
     private int maxObjectSizeBytes = 8192;
     private int maxCacheEntries = 1000;
+    private int bulkSize = 1000;
+    private int pageSize = 1000;
 
     public CouchDBHttpConfigurationBuilder withPort(int port) {
         this.port = port;
@@ -61,6 +63,22 @@ class CouchDBHttpConfigurationBuilder {
     }
 
 
+    public CouchDBHttpConfigurationBuilder withBulkSize(int bulkSize) {
+        if (bulkSize <= 0) {
+            throw new IllegalArgumentException("The bulk size must be greater than zero: " + bulkSize);
+        }
+        this.bulkSize = bulkSize;
+        return this;
+    }
+
+    public CouchDBHttpConfigurationBuilder withPageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The page size must be greater than zero: " + pageSize);
+        }
+        this.pageSize = pageSize;
+        return this;
+    }
+
     public CouchDBHttpConfigurationBuilder withCompression(boolean compression) {
         this.compression = compression;
         return this;
@@ -90,7 +108,7 @@ class CouchDBHttpConfigurationBuilder {
         return new CouchDBHttpConfiguration(host, port, maxConnections, connectionTimeout,
                 socketTimeout, enableSSL, username, password,
                 compression,
-                maxObjectSizeBytes, maxCacheEntries);
+                maxObjectSizeBytes, maxCacheEntries, bulkSize, pageSize);
     }
 
 
@@ -21,6 +21,7 @@ import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -56,8 +57,7 @@ class DefaultCouchDBDocumentManager implements CouchDBDocumentManager {
     @Override
     public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        return connector.insert(toList(entities));
     }
 
     @Override
@@ -77,8 +77,7 @@ class DefaultCouchDBDocumentManager implements CouchDBDocumentManager {
     @Override
     public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        return connector.update(toList(entities));
     }
 
     @Override
@@ -109,4 +108,10 @@ class DefaultCouchDBDocumentManager implements CouchDBDocumentManager {
         connector.close();
     }
 
+    private static List<DocumentEntity> toList(Iterable<DocumentEntity> entities) {
+        return StreamSupport.stream(entities.spliterator(), false)
+                .map(e -> Objects.requireNonNull(e, "entity is required"))
+                .collect(Collectors.toList());
+    }
+
 }
@@ -17,6 +17,7 @@
 package org.eclipse.jnosql.databases.couchdb.communication;
 
 import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.document.Document;
 import org.eclipse.jnosql.communication.document.DocumentCondition;
 import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
@@ -32,13 +33,26 @@ final class DeleteQuery implements DocumentQuery {
     private static final List<String> DOCUMENTS = asList(CouchDBConstant.ID, CouchDBConstant.REV);
     private final DocumentDeleteQuery query;
 
-    DeleteQuery(DocumentDeleteQuery query) {
+    private final List<String> ids;
+
+    private final long limit;
+
+    DeleteQuery(DocumentDeleteQuery query, long limit) {
+        this(query, Collections.emptyList(), limit);
+    }
+
+    /**
+     * Restricts the delete query to the given ids, which are still deleted only if they match its condition.
+     */
+    DeleteQuery(DocumentDeleteQuery query, List<String> ids, long limit) {
         this.query = query;
+        this.ids = ids;
+        this.limit = limit;
     }
 
     @Override
     public long limit() {
-        return 10;
+        return limit;
     }
 
     @Override
@@ -53,7 +67,11 @@ final class DeleteQuery implements DocumentQuery {
 
     @Override
     public Optional<DocumentCondition> condition() {
-        return query.condition();
+        if (ids.isEmpty()) {
+            return query.condition();
+        }
+        DocumentCondition in = DocumentCondition.in(Document.of(CouchDBConstant.ID, ids));
+        return Optional.of(query.condition().map(c -> DocumentCondition.and(c, in)).orElse(in));
     }
 
     @Override
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.document.DocumentCondition;
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Reads the documents of a query page by page, following the bookmark of each _find response, until the limit
+ * of the query or the last page. A page is requested only when the consumer reaches it; it is read through,
+ * so no connection is held between pages and only the current page is in memory.
+ */
+final class FindPages implements Iterator<Map<String, Object>> {
+
+    private final Function<CouchDBDocumentQuery, List<Map<String, Object>>> find;
+
+    private final Page page;
+
+    private final CouchDBDocumentQuery query;
+
+    private final int pageSize;
+
+    private long remaining;
+
+    private long read;
+
+    private Iterator<Map<String, Object>> rows;
+
+    private boolean finished;
+
+    FindPages(DocumentQuery query, int pageSize, Function<CouchDBDocumentQuery, List<Map<String, Object>>> find) {
+        this.find = find;
+        this.page = new Page(query);
+        this.query = CouchDBDocumentQuery.of(page);
+        this.pageSize = pageSize;
+        this.remaining = query.limit() > 0 ? query.limit() : Long.MAX_VALUE;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!finished) {
+            if (rows != null) {
+                if (rows.hasNext()) {
+                    return true;
+                }
+                rows = null;
+                finished = read < page.limit || remaining <= 0 || query.getBookmark().isEmpty();
+            } else {
+                page.limit = Math.min(pageSize, remaining);
+                read = 0;
+                rows = find.apply(query).iterator();
+                page.skip = 0;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Map<String, Object> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There are no more documents in the result");
+        }
+        read++;
+        remaining--;
+        return rows.next();
+    }
+
+    /**
+     * The query of a page: the skip of the query applies only to the first page, the next ones start at the
+     * bookmark.
+     */
+    private static final class Page implements DocumentQuery {
+
+        private final DocumentQuery query;
+
+        private long limit;
+
+        private long skip;
+
+        private Page(DocumentQuery query) {
+            this.query = query;
+            this.skip = query.skip();
+        }
+
+        @Override
+        public long limit() {
+            return limit;
+        }
+
+        @Override
+        public long skip() {
+            return skip;
+        }
+
+        @Override
+        public String name() {
+            return query.name();
+        }
+
+        @Override
+        public Optional<DocumentCondition> condition() {
+            return query.condition();
+        }
+
+        @Override
+        public List<Sort> sorts() {
+            return query.sorts();
+        }
+
+        @Override
+        public List<String> documents() {
+            return query.documents();
+        }
+    }
+}
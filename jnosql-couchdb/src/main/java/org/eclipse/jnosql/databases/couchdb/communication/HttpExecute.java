@@ -17,11 +17,9 @@ package org.eclipse.jnosql.databases.couchdb.communication;
 import jakarta.json.JsonObject;
 import jakarta.json.bind.Jsonb;
 import org.apache.commons.codec.net.URLCodec;
-import org.apache.http.HttpEntity;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
@@ -29,23 +27,29 @@ import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
 import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
 import org.eclipse.jnosql.communication.document.Documents;
 import org.eclipse.jnosql.communication.driver.JsonbSupplier;
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.util.Collections.emptyList;
 import static org.apache.http.entity.ContentType.APPLICATION_JSON;
 
 class HttpExecute {
@@ -61,6 +65,15 @@ class HttpExecute {
     private static final Type JSON = new HashMap<String, Object>() {
     }.getClass().getGenericSuperclass();
 
+    private static final Type LIST_JSON = new ArrayList<Map<String, Object>>() {
+    }.getClass().getGenericSuperclass();
+
+
+    /**
+     * How many times the documents in conflict are deleted again before {@link #delete(String, DocumentDeleteQuery)}
+     * gives up.
+     */
+    static final int MAX_CONFLICT_RETRIES = 3;
 
     private final CouchDBHttpConfiguration configuration;
 
@@ -114,24 +127,81 @@ class HttpExecute {
         }
     }
 
+    public List<DocumentEntity> insert(String database, List<DocumentEntity> entities) {
+        for (List<DocumentEntity> bulk : bulks(entities)) {
+            List<Map<String, Object>> docs = new ArrayList<>();
+            for (DocumentEntity entity : bulk) {
+                Map<String, Object> map = new HashMap<>(entity.toMap());
+                map.put(CouchDBConstant.ENTITY, entity.name());
+                docs.add(map);
+            }
+            List<Map<String, Object>> results = bulkDocs(database, docs);
+            List<String> errors = new ArrayList<>();
+            for (int index = 0; index < results.size(); index++) {
+                Map<String, Object> result = results.get(index);
+                if (result.containsKey(CouchDBConstant.ERROR_RESPONSE)) {
+                    errors.add(error(result));
+                } else {
+                    DocumentEntity entity = bulk.get(index);
+                    entity.add(CouchDBConstant.ID, result.get(CouchDBConstant.ID_RESPONSE));
+                    entity.add(CouchDBConstant.REV, result.get(CouchDBConstant.REV_RESPONSE));
+                }
+            }
+            if (!errors.isEmpty()) {
+                throw new CouchDBHttpClientException("There are documents that were not written at database: "
+                        + errors);
+            }
+        }
+        return entities;
+    }
+
     public DocumentEntity update(String database, DocumentEntity entity) {
         String id = getId(entity);
-        Map<String, Object> json = findById(database, id);
-        entity.add(CouchDBConstant.REV, json.get(CouchDBConstant.REV));
+        Map<String, String> revisions = findRevisions(database, List.of(id));
+        entity.add(CouchDBConstant.REV, revisions.get(id));
         return insert(database, entity);
     }
 
+    public List<DocumentEntity> update(String database, List<DocumentEntity> entities) {
+        for (List<DocumentEntity> bulk : bulks(entities)) {
+            List<String> ids = bulk.stream().map(this::getId).collect(Collectors.toList());
+            Map<String, String> revisions = findRevisions(database, ids);
+            for (DocumentEntity entity : bulk) {
+                entity.add(CouchDBConstant.REV, revisions.get(getId(entity)));
+            }
+            insert(database, bulk);
+        }
+        return entities;
+    }
+
+    /**
+     * Returns the documents of the query. A {@link CouchDBDocumentQuery} reads a single page and gets its
+     * bookmark; any other query follows the bookmarks page by page until its limit or the last page. Each page is
+     * read through, and its connection released, before its documents are returned.
+     */
     public Stream<DocumentEntity> select(String database, DocumentQuery query) {
-        List<Map<String, Object>> entities = executeQuery(database, query);
-        return entities.stream().map(this::toEntity);
+        if (query instanceof CouchDBDocumentQuery couchDBQuery) {
+            return executeQuery(database, couchDBQuery).stream().map(this::toEntity);
+        }
+        FindPages pages = new FindPages(query, configuration.getPageSize(), q -> executeQuery(database, q));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).map(this::toEntity);
     }
 
+    /**
+     * Deletes the matching documents a bulk at a time. A document changed while it is deleted is a conflict:
+     * the conflicted documents are queried again, with their current revision, and deleted if they still match.
+     *
+     * @throws CouchDBHttpClientException when there are conflicts left after {@link #MAX_CONFLICT_RETRIES} retries
+     */
     public void delete(String database, DocumentDeleteQuery query) {
-        CouchDBDocumentQuery documentQuery = CouchDBDocumentQuery.of(new DeleteQuery(query));
-        List<Map<String, Object>> entities = executeQuery(database, documentQuery);
-        while (!entities.isEmpty()) {
-            entities.stream().map(DeleteElement::new).forEach(id -> this.delete(database, id));
-            entities = executeQuery(database, documentQuery);
+        List<String> conflicts = delete(database, new DeleteQuery(query, configuration.getBulkSize()));
+        for (int retry = 0; retry < MAX_CONFLICT_RETRIES && !conflicts.isEmpty(); retry++) {
+            conflicts = delete(database, new DeleteQuery(query, conflicts, configuration.getBulkSize()));
+        }
+        if (!conflicts.isEmpty()) {
+            throw new CouchDBHttpClientException("There are documents that were not deleted at database because of"
+                    + " conflicts: " + conflicts);
         }
     }
 
@@ -143,23 +213,108 @@ class HttpExecute {
     }
 
 
-    private void delete(String database, DeleteElement id) {
-        HttpDelete request = new HttpDelete(configuration.getUrl().concat(database).concat("/").concat(id.getId()));
-        request.addHeader(CouchDBConstant.REV_HEADER, id.getRev());
-        execute(request, null, HttpStatus.SC_OK, true);
+    private List<String> delete(String database, DeleteQuery query) {
+        CouchDBDocumentQuery documentQuery = CouchDBDocumentQuery.of(query);
+        List<String> conflicts = new ArrayList<>();
+        List<DeleteElement> elements = deleteElements(database, documentQuery);
+        while (!elements.isEmpty()) {
+            conflicts.addAll(delete(database, elements));
+            elements = deleteElements(database, documentQuery);
+        }
+        return conflicts;
+    }
+
+    private List<DeleteElement> deleteElements(String database, CouchDBDocumentQuery query) {
+        List<DeleteElement> elements = new ArrayList<>();
+        executeQuery(database, query).forEach(json -> elements.add(new DeleteElement(json)));
+        return elements;
+    }
+
+    /**
+     * Deletes the documents with a single _bulk_docs request and returns the ids of the documents changed
+     * meanwhile, which are conflicts.
+     */
+    private List<String> delete(String database, List<DeleteElement> elements) {
+        List<Map<String, Object>> docs = new ArrayList<>();
+        for (DeleteElement element : elements) {
+            Map<String, Object> doc = new HashMap<>();
+            doc.put(CouchDBConstant.ID, element.getId());
+            doc.put(CouchDBConstant.REV, element.getRev());
+            doc.put(CouchDBConstant.DELETED, true);
+            docs.add(doc);
+        }
+        List<String> conflicts = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (Map<String, Object> result : bulkDocs(database, docs)) {
+            Object error = result.get(CouchDBConstant.ERROR_RESPONSE);
+            if (CouchDBConstant.CONFLICT_ERROR.equals(error)) {
+                conflicts.add(result.get(CouchDBConstant.ID_RESPONSE).toString());
+            } else if (error != null) {
+                errors.add(error(result));
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new CouchDBHttpClientException("There are documents that were not deleted at database: " + errors);
+        }
+        return conflicts;
     }
 
+    private List<Map<String, Object>> bulkDocs(String database, List<Map<String, Object>> docs) {
+        HttpPost request = new HttpPost(configuration.getUrl().concat(database).concat(CouchDBConstant.BULK_DOCS));
+        setHeader(request);
+        String body = JSONB.toJson(Map.of(CouchDBConstant.DOCS_RESPONSE, docs));
+        request.setEntity(new StringEntity(body, APPLICATION_JSON));
+        return execute(request, LIST_JSON, HttpStatus.SC_CREATED);
+    }
 
-    private List<Map<String, Object>> executeQuery(String database, DocumentQuery query) {
+    /**
+     * Reads the current revision of the documents from the _all_docs view, without their bodies.
+     *
+     * @throws CouchDBHttpClientException when a document does not exist or was deleted
+     */
+    private Map<String, String> findRevisions(String database, List<String> ids) {
+        HttpPost request = new HttpPost(configuration.getUrl().concat(database).concat(CouchDBConstant.ALL_DOCS));
+        setHeader(request);
+        request.setEntity(new StringEntity(JSONB.toJson(Map.of(CouchDBConstant.KEYS_QUERY, ids)), APPLICATION_JSON));
+        List<Map<String, Object>> rows = rows(request, CouchDBConstant.ROWS_RESPONSE, fields -> {
+        });
+        Map<String, String> revisions = new HashMap<>();
+        rows.forEach(row -> {
+            Object value = row.get(CouchDBConstant.VALUE_RESPONSE);
+            if (value instanceof Map<?, ?> revision && !revision.containsKey(CouchDBConstant.DELETED_RESPONSE)) {
+                revisions.put(row.get(CouchDBConstant.KEY_RESPONSE).toString(),
+                        revision.get(CouchDBConstant.REV_RESPONSE).toString());
+            }
+        });
+        List<String> notFound = ids.stream().filter(id -> !revisions.containsKey(id)).collect(Collectors.toList());
+        if (!notFound.isEmpty()) {
+            throw new CouchDBHttpClientException("There are documents to update that were not found at database: "
+                    + notFound);
+        }
+        return revisions;
+    }
+
+    private List<List<DocumentEntity>> bulks(List<DocumentEntity> entities) {
+        int bulkSize = configuration.getBulkSize();
+        List<List<DocumentEntity>> bulks = new ArrayList<>();
+        for (int start = 0; start < entities.size(); start += bulkSize) {
+            bulks.add(entities.subList(start, Math.min(start + bulkSize, entities.size())));
+        }
+        return bulks;
+    }
+
+    private String error(Map<String, Object> result) {
+        return result.get(CouchDBConstant.ID_RESPONSE) + ": " + result.get(CouchDBConstant.ERROR_RESPONSE)
+                + " " + result.getOrDefault(CouchDBConstant.REASON_RESPONSE, "");
+    }
+
+
+    private List<Map<String, Object>> executeQuery(String database, CouchDBDocumentQuery query) {
         HttpPost request = new HttpPost(configuration.getUrl().concat(database).concat(CouchDBConstant.FIND));
         setHeader(request);
         JsonObject mangoQuery = converter.apply(query);
         request.setEntity(new StringEntity(mangoQuery.toString(), APPLICATION_JSON));
-        Map<String, Object> json = execute(request, JSON, HttpStatus.SC_OK);
-        if (query instanceof CouchDBDocumentQuery) {
-            CouchDBDocumentQuery.class.cast(query).setBookmark(json);
-        }
-        return (List<Map<String, Object>>) json.getOrDefault(CouchDBConstant.DOCS_RESPONSE, emptyList());
+        return rows(request, CouchDBConstant.DOCS_RESPONSE, query::setBookmark);
     }
 
 
@@ -170,11 +325,6 @@ class HttpExecute {
         return entity;
     }
 
-    private Map<String, Object> findById(String database, String id) {
-        HttpGet request = new HttpGet(configuration.getUrl().concat(database).concat("/").concat(id));
-        return execute(request, JSON, HttpStatus.SC_OK);
-    }
-
     private String getId(DocumentEntity entity) {
         return entity.find(CouchDBConstant.ID)
                 .orElseThrow(() -> new CouchDBHttpClientException(
@@ -190,21 +340,15 @@ class HttpExecute {
 
         configuration.getHashPassword().ifPresent(s -> request.setHeader(HttpHeaders.AUTHORIZATION, s));
         try (CloseableHttpResponse result = client.execute(request)) {
-            if (!ignoreStatus && result.getStatusLine().getStatusCode() != expectedStatus) {
-                ByteArrayOutputStream stream = new ByteArrayOutputStream();
-                result.getEntity().writeTo(stream);
-                String response = new String(stream.toByteArray(), UTF_8);
-                throw new CouchDBHttpClientException("There is an error when load the database status: " +
-                        result.getStatusLine().getStatusCode()
-                        + " error: " + response);
+            if (!ignoreStatus) {
+                checkStatus(result, expectedStatus);
             }
             if (Objects.isNull(type)) {
                 return null;
             }
-            HttpEntity entity = result.getEntity();
-            ByteArrayOutputStream stream = new ByteArrayOutputStream();
-            entity.writeTo(stream);
-            return JSONB.fromJson(new String(stream.toByteArray(), UTF_8), type);
+            try (InputStream content = result.getEntity().getContent()) {
+                return JSONB.fromJson(content, type);
+            }
         } catch (CouchDBHttpClientException ex) {
             throw ex;
         } catch (Exception ex) {
@@ -212,6 +356,36 @@ class HttpExecute {
         }
     }
 
+    /**
+     * Executes the request and reads every row of the array under the field with {@link JsonRows}, so the
+     * connection goes back to the pool before any row is handed out, whatever the caller does with them.
+     */
+    private List<Map<String, Object>> rows(HttpUriRequest request, String field,
+                                           Consumer<Map<String, Object>> listener) {
+        configuration.getHashPassword().ifPresent(s -> request.setHeader(HttpHeaders.AUTHORIZATION, s));
+        try (CloseableHttpResponse result = client.execute(request)) {
+            checkStatus(result, HttpStatus.SC_OK);
+            List<Map<String, Object>> rows = new ArrayList<>();
+            try (JsonRows jsonRows = new JsonRows(result, field, listener)) {
+                jsonRows.forEachRemaining(rows::add);
+            }
+            return rows;
+        } catch (CouchDBHttpClientException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new CouchDBHttpClientException("An error to access the database", ex);
+        }
+    }
+
+    private void checkStatus(CloseableHttpResponse result, int expectedStatus) throws IOException {
+        if (result.getStatusLine().getStatusCode() != expectedStatus) {
+            String response = EntityUtils.toString(result.getEntity(), UTF_8);
+            throw new CouchDBHttpClientException("There is an error when load the database status: " +
+                    result.getStatusLine().getStatusCode()
+                    + " error: " + response);
+        }
+    }
+
     private void setHeader(HttpEntityEnclosingRequestBase request) {
         request.setHeader("Accept", APPLICATION_JSON.getMimeType());
         request.setHeader("Content-type", APPLICATION_JSON.getMimeType());
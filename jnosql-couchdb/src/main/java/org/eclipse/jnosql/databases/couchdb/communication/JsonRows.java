@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import org.apache.http.client.methods.CloseableHttpResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Reads the rows of a CouchDB response, the objects of the array under a field such as docs or rows, one by one
+ * from the body of the response, without building the whole body as a tree. The other scalar fields of the
+ * response, like the bookmark, are collected as they are reached and handed to the listener once the body is read
+ * through. The response is closed at that point, or when {@link JsonRows#close()} is called. HttpExecute reads
+ * every response through into a list before handing its rows out, so no connection depends on the caller and the
+ * memory is bounded by the page of the request.
+ */
+final class JsonRows implements Iterator<Map<String, Object>>, AutoCloseable {
+
+    private final CloseableHttpResponse response;
+
+    private final JsonParser parser;
+
+    private final String field;
+
+    private final Consumer<Map<String, Object>> listener;
+
+    private final Map<String, Object> fields = new HashMap<>();
+
+    private boolean inRows;
+
+    private boolean finished;
+
+    private Map<String, Object> next;
+
+    JsonRows(CloseableHttpResponse response, String field, Consumer<Map<String, Object>> listener) throws IOException {
+        this.response = response;
+        this.parser = Json.createParser(response.getEntity().getContent());
+        this.field = field;
+        this.listener = listener;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        try {
+            while (parser.hasNext()) {
+                JsonParser.Event event = parser.next();
+                if (inRows) {
+                    if (event == JsonParser.Event.START_OBJECT) {
+                        next = toMap(parser.getObject());
+                        return true;
+                    } else if (event == JsonParser.Event.END_ARRAY) {
+                        inRows = false;
+                    }
+                } else if (event == JsonParser.Event.KEY_NAME) {
+                    readField(parser.getString());
+                }
+            }
+        } catch (JsonException exp) {
+            close();
+            throw new CouchDBHttpClientException("There is an error when read the response of the database", exp);
+        }
+        close();
+        listener.accept(fields);
+        return false;
+    }
+
+    @Override
+    public Map<String, Object> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There are no more rows in the response");
+        }
+        Map<String, Object> row = next;
+        next = null;
+        return row;
+    }
+
+    private void readField(String name) {
+        JsonParser.Event event = parser.next();
+        switch (event) {
+            case START_ARRAY:
+                if (field.equals(name)) {
+                    inRows = true;
+                } else {
+                    parser.skipArray();
+                }
+                return;
+            case START_OBJECT:
+                parser.skipObject();
+                return;
+            case VALUE_STRING:
+            case VALUE_NUMBER:
+                fields.put(name, parser.getString());
+                return;
+            default:
+        }
+    }
+
+    @Override
+    public void close() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        try {
+            parser.close();
+            response.close();
+        } catch (JsonException | IOException exp) {
+            throw new CouchDBHttpClientException("There is an error when close the response of the database", exp);
+        }
+    }
+
+    static Map<String, Object> toMap(JsonObject json) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        json.forEach((key, value) -> map.put(key, toValue(value)));
+        return map;
+    }
+
+    private static Object toValue(JsonValue value) {
+        switch (value.getValueType()) {
+            case OBJECT:
+                return toMap(value.asJsonObject());
+            case ARRAY:
+                List<Object> values = new ArrayList<>();
+                ((JsonArray) value).forEach(v -> values.add(toValue(v)));
+                return values;
+            case STRING:
+                return ((JsonString) value).getString();
+            case NUMBER:
+                return ((JsonNumber) value).bigDecimalValue();
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+}
@@ -114,6 +114,62 @@ class DefaultCouchDBDocumentManagerTest {
     }
 
 
+    @Test
+    public void shouldInsertIterable() {
+        List<DocumentEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            DocumentEntity entity = getEntity();
+            entity.remove(CouchDBConstant.ID);
+            entities.add(entity);
+        }
+        Iterable<DocumentEntity> inserted = entityManager.insert(entities);
+        assertThat(inserted).hasSize(3)
+                .allMatch(e -> e.find(CouchDBConstant.ID).isPresent() && e.find(CouchDBConstant.REV).isPresent());
+        DocumentQuery query = select().from(COLLECTION_NAME).build();
+        assertThat(entityManager.select(query)).hasSize(3);
+    }
+
+    @Test
+    public void shouldUpdateIterable() {
+        List<DocumentEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            DocumentEntity entity = getEntity();
+            entity.remove(CouchDBConstant.ID);
+            entities.add(entity);
+        }
+        entityManager.insert(entities);
+        entities.forEach(e -> e.add("city", "Rio de Janeiro"));
+        entityManager.update(entities);
+        DocumentQuery query = select().from(COLLECTION_NAME).where("city").eq("Rio de Janeiro").build();
+        assertThat(entityManager.select(query)).hasSize(3);
+    }
+
+    @Test
+    public void shouldReturnErrorOnUpdateIterableWhenNotFound() {
+        DocumentEntity entity = getEntity();
+        entity.remove(CouchDBConstant.ID);
+        entityManager.insert(entity);
+        DocumentEntity notFound = getEntity();
+        notFound.add(CouchDBConstant.ID, "not_found");
+        List<DocumentEntity> entities = List.of(entity, notFound);
+        assertThrows(CouchDBHttpClientException.class, () -> entityManager.update(entities));
+    }
+
+    @Test
+    public void shouldDeleteIterable() {
+        List<DocumentEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 25; index++) {
+            DocumentEntity entity = getEntity();
+            entity.remove(CouchDBConstant.ID);
+            entities.add(entity);
+        }
+        entityManager.insert(entities);
+        DocumentDeleteQuery deleteQuery = delete().from(COLLECTION_NAME).where("name").eq("Poliana").build();
+        entityManager.delete(deleteQuery);
+        DocumentQuery query = select().from(COLLECTION_NAME).build();
+        assertThat(entityManager.select(query)).isEmpty();
+    }
+
     @Test
     public void shouldSelect() {
         DocumentEntity entity = getEntity();
@@ -0,0 +1,97 @@
+/*
+ *
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.eclipse.jnosql.communication.document.DocumentQuery.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FindPagesTest {
+
+    private final List<Long> limits = new ArrayList<>();
+
+    private final List<Long> skips = new ArrayList<>();
+
+    private final List<String> bookmarks = new ArrayList<>();
+
+    @Test
+    public void shouldFollowBookmarks() {
+        FindPages pages = pages(select().from("person").skip(1).build(), 2, 5);
+        assertEquals(5, count(pages));
+        assertEquals(List.of(2L, 2L, 2L), limits);
+        assertEquals(List.of(1L, 0L, 0L), skips);
+        assertEquals(List.of("", "bookmark-2", "bookmark-4"), bookmarks);
+    }
+
+    @Test
+    public void shouldStopAtLimit() {
+        FindPages pages = pages(select().from("person").limit(3).build(), 2, 10);
+        assertEquals(3, count(pages));
+        assertEquals(List.of(2L, 1L), limits);
+    }
+
+    @Test
+    public void shouldNotRequestBeforeRead() {
+        FindPages pages = pages(select().from("person").build(), 2, 10);
+        assertTrue(limits.isEmpty());
+        pages.next();
+        pages.next();
+        assertEquals(1, limits.size());
+        pages.next();
+        assertEquals(2, limits.size());
+    }
+
+    private FindPages pages(DocumentQuery query, int pageSize, int total) {
+        AtomicInteger served = new AtomicInteger();
+        return new FindPages(query, pageSize, page -> {
+            limits.add(page.limit());
+            skips.add(page.skip());
+            bookmarks.add(page.getBookmark().orElse(""));
+            List<String> docs = new ArrayList<>();
+            for (long index = 0; index < page.limit() && served.get() < total; index++) {
+                docs.add("{\"_id\":\"" + served.getAndIncrement() + "\"}");
+            }
+            String json = "{\"docs\":[" + String.join(",", docs) + "],\"bookmark\":\"bookmark-" + served.get()
+                    + "\"}";
+            List<Map<String, Object>> rows = new ArrayList<>();
+            try (JsonRows jsonRows = new JsonRows(JsonRowsTest.response(json), CouchDBConstant.DOCS_RESPONSE,
+                    page::setBookmark)) {
+                jsonRows.forEachRemaining(rows::add);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return rows;
+        });
+    }
+
+    private static int count(FindPages pages) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        pages.forEachRemaining(rows::add);
+        return rows.stream().map(r -> r.get("_id")).collect(Collectors.toSet()).size();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ *
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicStatusLine;
+import org.apache.http.util.EntityUtils;
+import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.communication.document.DocumentDeleteQuery.delete;
+import static org.eclipse.jnosql.communication.document.DocumentQuery.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HttpExecuteTest {
+
+    private static final String DATABASE = "person";
+
+    private static final String EMPTY = "{\"docs\":[],\"bookmark\":\"nil\"}";
+
+    private CloseableHttpClient client;
+
+    private HttpExecute execute;
+
+    @BeforeEach
+    public void setUp() {
+        client = mock(CloseableHttpClient.class);
+        CouchDBHttpConfiguration configuration = new CouchDBHttpConfiguration("localhost", 5984, 20, 1000, 1000,
+                false, null, null, false, 8192, 1000, 2, 2);
+        execute = new HttpExecute(configuration, client);
+    }
+
+    @Test
+    public void shouldDeleteConflictsAgain() throws IOException {
+        List<CloseableHttpResponse> responses = List.of(
+                response(200, "{\"docs\":[{\"_id\":\"1\",\"_rev\":\"1-a\"},{\"_id\":\"2\",\"_rev\":\"1-b\"}],"
+                        + "\"bookmark\":\"g1\"}"),
+                response(201, "[{\"ok\":true,\"id\":\"1\",\"rev\":\"2-a\"},"
+                        + "{\"id\":\"2\",\"error\":\"conflict\",\"reason\":\"Document update conflict.\"}]"),
+                response(200, EMPTY),
+                response(200, "{\"docs\":[{\"_id\":\"2\",\"_rev\":\"2-b\"}],\"bookmark\":\"g2\"}"),
+                response(201, "[{\"ok\":true,\"id\":\"2\",\"rev\":\"3-b\"}]"),
+                response(200, EMPTY));
+        when(client.execute(any(HttpUriRequest.class))).thenReturn(responses.get(0),
+                responses.subList(1, responses.size()).toArray(CloseableHttpResponse[]::new));
+
+        execute.delete(DATABASE, delete().from(DATABASE).where("name").eq("Poliana").build());
+
+        ArgumentCaptor<HttpUriRequest> captor = ArgumentCaptor.forClass(HttpUriRequest.class);
+        verify(client, times(6)).execute(captor.capture());
+        List<HttpUriRequest> requests = captor.getAllValues();
+        assertThat(body(requests.get(3))).contains("\"$in\":[\"2\"]").contains("\"name\":\"Poliana\"");
+        assertThat(body(requests.get(4))).contains("\"_id\":\"2\"").contains("\"_rev\":\"2-b\"");
+    }
+
+    @Test
+    public void shouldReturnErrorWhenConflictsRemain() throws IOException {
+        AtomicInteger finds = new AtomicInteger();
+        when(client.execute(any(HttpUriRequest.class))).thenAnswer(invocation -> {
+            HttpUriRequest request = invocation.getArgument(0);
+            if (request.getURI().getPath().endsWith(CouchDBConstant.BULK_DOCS)) {
+                return response(201, "[{\"id\":\"2\",\"error\":\"conflict\"}]");
+            }
+            if (finds.getAndIncrement() % 2 == 0) {
+                return response(200, "{\"docs\":[{\"_id\":\"2\",\"_rev\":\"1-b\"}],\"bookmark\":\"g1\"}");
+            }
+            return response(200, EMPTY);
+        });
+
+        DocumentDeleteQuery query = delete().from(DATABASE).build();
+        CouchDBHttpClientException exception = assertThrows(CouchDBHttpClientException.class,
+                () -> execute.delete(DATABASE, query));
+        assertThat(exception.getMessage()).contains("[2]");
+        assertThat(finds.get()).isEqualTo(2 * (HttpExecute.MAX_CONFLICT_RETRIES + 1));
+    }
+
+    @Test
+    public void shouldReleaseConnectionWhenStreamIsAbandoned() throws IOException {
+        CloseableHttpResponse response = response(200, "{\"docs\":[{\"_id\":\"1\",\"@entity\":\"person\"},"
+                + "{\"_id\":\"2\",\"@entity\":\"person\"}],\"bookmark\":\"g1\"}");
+        when(client.execute(any(HttpUriRequest.class))).thenReturn(response);
+
+        Optional<DocumentEntity> entity = execute.select(DATABASE, select().from(DATABASE).build()).findFirst();
+
+        assertTrue(entity.isPresent());
+        verify(response, atLeastOnce()).close();
+    }
+
+    @Test
+    public void shouldSetBookmarkBeforeDocumentsAreRead() throws IOException {
+        CloseableHttpResponse response = response(200, "{\"docs\":[{\"_id\":\"1\",\"@entity\":\"person\"}],"
+                + "\"bookmark\":\"g1\"}");
+        when(client.execute(any(HttpUriRequest.class))).thenReturn(response);
+        CouchDBDocumentQuery query = CouchDBDocumentQuery.of(select().from(DATABASE).build());
+
+        execute.select(DATABASE, query);
+
+        assertEquals(Optional.of("g1"), query.getBookmark());
+        verify(response, atLeastOnce()).close();
+    }
+
+    private static CloseableHttpResponse response(int status, String json) {
+        CloseableHttpResponse response = JsonRowsTest.response(json);
+        when(response.getStatusLine()).thenReturn(new BasicStatusLine(HttpVersion.HTTP_1_1, status, null));
+        return response;
+    }
+
+    private static String body(HttpUriRequest request) throws IOException {
+        return EntityUtils.toString(((HttpPost) request).getEntity());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.entity.StringEntity;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.http.entity.ContentType.APPLICATION_JSON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JsonRowsTest {
+
+    private static final String FIND = "{\"docs\":[{\"_id\":\"1\",\"name\":\"Poliana\",\"age\":30,"
+            + "\"address\":{\"city\":\"Salvador\"},\"phones\":[\"1\",\"2\"]},{\"_id\":\"2\",\"active\":true}],"
+            + "\"execution_stats\":{\"total_keys_examined\":0},\"bookmark\":\"g1AAAA\",\"warning\":\"no index\"}";
+
+    @Test
+    public void shouldReadRows() throws IOException {
+        CloseableHttpResponse response = response(FIND);
+        Map<String, Object> fields = new HashMap<>();
+        JsonRows rows = new JsonRows(response, CouchDBConstant.DOCS_RESPONSE, fields::putAll);
+
+        Map<String, Object> first = rows.next();
+        assertEquals("Poliana", first.get("name"));
+        assertEquals(new BigDecimal(30), first.get("age"));
+        assertEquals(Map.of("city", "Salvador"), first.get("address"));
+        assertEquals(List.of("1", "2"), first.get("phones"));
+        assertThat(fields).isEmpty();
+        verify(response, never()).close();
+
+        assertEquals(Boolean.TRUE, rows.next().get("active"));
+        assertFalse(rows.hasNext());
+        assertEquals("g1AAAA", fields.get(CouchDBConstant.BOOKMARK));
+        verify(response).close();
+    }
+
+    @Test
+    public void shouldReadEmptyRows() throws IOException {
+        CloseableHttpResponse response = response("{\"total_rows\":0,\"rows\":[]}");
+        Map<String, Object> fields = new HashMap<>();
+        JsonRows rows = new JsonRows(response, CouchDBConstant.ROWS_RESPONSE, fields::putAll);
+        assertFalse(rows.hasNext());
+        assertEquals("0", fields.get(CouchDBConstant.TOTAL_ROWS_RESPONSE));
+        verify(response).close();
+    }
+
+    @Test
+    public void shouldCloseResponse() throws IOException {
+        CloseableHttpResponse response = response(FIND);
+        Map<String, Object> fields = new HashMap<>();
+        JsonRows rows = new JsonRows(response, CouchDBConstant.DOCS_RESPONSE, fields::putAll);
+        rows.next();
+        rows.close();
+        assertFalse(rows.hasNext());
+        assertThat(fields).isEmpty();
+        verify(response).close();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenResponseIsInvalid() throws IOException {
+        CloseableHttpResponse response = response("{\"docs\":[{\"_id\":");
+        JsonRows rows = new JsonRows(response, CouchDBConstant.DOCS_RESPONSE, f -> {
+        });
+        assertThrows(CouchDBHttpClientException.class, rows::hasNext);
+        verify(response).close();
+    }
+
+    static CloseableHttpResponse response(String json) {
+        CloseableHttpResponse response = mock(CloseableHttpResponse.class);
+        when(response.getEntity()).thenReturn(new StringEntity(json, APPLICATION_JSON));
+        return response;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Indexes the entities with the {@code _bulk} API. The entities are split into requests of up to
+ * {@code bulkSize} documents and about {@code bulkBytes} of payload, and up to {@code bulkInFlight} requests are
+ * sent at the same time. The documents that fail do not stop the others; they are reported together at the end,
+ * as an {@link ElasticsearchBulkException}.
+ */
+final class BulkIndexer {
+
+    static final int DEFAULT_BULK_SIZE = 1000;
+
+    static final long DEFAULT_BULK_BYTES = 5L * 1024 * 1024;
+
+    static final int DEFAULT_BULK_IN_FLIGHT = 1;
+
+    private final ElasticsearchAsyncClient client;
+
+    private final String index;
+
+    private final int bulkSize;
+
+    private final long bulkBytes;
+
+    private final int bulkInFlight;
+
+    private final Refresh refresh;
+
+    BulkIndexer(ElasticsearchAsyncClient client, String index, int bulkSize, long bulkBytes, int bulkInFlight,
+                Refresh refresh) {
+        this.client = client;
+        this.index = index;
+        this.bulkSize = bulkSize;
+        this.bulkBytes = bulkBytes;
+        this.bulkInFlight = bulkInFlight;
+        this.refresh = refresh;
+    }
+
+    void index(List<DocumentEntity> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        Iterator<DocumentEntity> iterator = entities.iterator();
+        Map<String, List<String>> failures = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[bulkInFlight];
+        for (int index = 0; index < workers.length; index++) {
+            workers[index] = next(iterator, failures);
+        }
+        try {
+            CompletableFuture.allOf(workers).join();
+        } catch (CompletionException e) {
+            throw new ElasticsearchException("An error to insert in bulk on elasticsearch", e.getCause());
+        }
+        if (!failures.isEmpty()) {
+            throw new ElasticsearchBulkException(failures);
+        }
+    }
+
+    private CompletableFuture<Void> next(Iterator<DocumentEntity> iterator, Map<String, List<String>> failures) {
+        List<BulkOperation> operations = new ArrayList<>();
+        synchronized (iterator) {
+            long bytes = 0;
+            while (iterator.hasNext() && operations.size() < bulkSize && bytes < bulkBytes) {
+                DocumentEntity entity = iterator.next();
+                String id = EntityConverter.getId(entity);
+                Map<String, Object> document = EntityConverter.getMap(entity);
+                bytes += EntityConverter.estimateSize(document);
+                operations.add(BulkOperation.of(b -> b.index(i -> i.index(index).id(id).document(document))));
+            }
+        }
+        if (operations.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        BulkRequest.Builder request = new BulkRequest.Builder().operations(operations);
+        if (refresh != null) {
+            request.refresh(refresh);
+        }
+        return client.bulk(request.build()).thenCompose(response -> {
+            if (response.errors()) {
+                response.items().stream()
+                        .filter(item -> item.error() != null)
+                        .forEach(item -> failures.computeIfAbsent(item.id(), id -> new CopyOnWriteArrayList<>())
+                                .add(item.error().type() + ": " + item.error().reason()));
+            }
+            return next(iterator, failures);
+        });
+    }
+}
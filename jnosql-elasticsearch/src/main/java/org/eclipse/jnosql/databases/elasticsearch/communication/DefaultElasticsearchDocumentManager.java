@@ -16,13 +16,17 @@
 package org.eclipse.jnosql.databases.elasticsearch.communication;
 
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Conflicts;
+import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch._types.Slices;
 import co.elastic.clients.elasticsearch._types.query_dsl.MatchQuery;
-import co.elastic.clients.elasticsearch.core.BulkRequest;
 import co.elastic.clients.elasticsearch.core.CountRequest;
+import co.elastic.clients.elasticsearch.core.DeleteByQueryRequest;
+import co.elastic.clients.elasticsearch.core.DeleteByQueryResponse;
 import co.elastic.clients.elasticsearch.core.IndexRequest;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
-import co.elastic.clients.elasticsearch.core.bulk.DeleteOperation;
 import org.eclipse.jnosql.communication.CommunicationException;
 import org.eclipse.jnosql.communication.document.Document;
 import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
@@ -31,9 +35,12 @@ import org.eclipse.jnosql.communication.document.DocumentQuery;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -50,9 +57,33 @@ class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManage
 
     private final String index;
 
+    private final BulkIndexer bulkIndexer;
+
+    private final Refresh refresh;
+
+    private final IndexMappingCache mappings;
+
+    private final Slices deleteSlices;
+
+    private final int pageSize;
+
     DefaultElasticsearchDocumentManager(ElasticsearchClient elasticsearchClient, String index) {
+        this(elasticsearchClient, index, BulkIndexer.DEFAULT_BULK_SIZE, BulkIndexer.DEFAULT_BULK_BYTES,
+                BulkIndexer.DEFAULT_BULK_IN_FLIGHT, null, new IndexMappingCache(IndexMappingCache.DEFAULT_TTL), null,
+                PagedSearch.DEFAULT_PAGE_SIZE);
+    }
+
+    DefaultElasticsearchDocumentManager(ElasticsearchClient elasticsearchClient, String index, int bulkSize,
+                                        long bulkBytes, int bulkInFlight, Refresh refresh,
+                                        IndexMappingCache mappings, Slices deleteSlices, int pageSize) {
         this.elasticsearchClient = elasticsearchClient;
         this.index = index;
+        this.refresh = refresh;
+        this.mappings = mappings;
+        this.deleteSlices = deleteSlices;
+        this.pageSize = pageSize;
+        this.bulkIndexer = new BulkIndexer(new ElasticsearchAsyncClient(elasticsearchClient._transport()), index,
+                bulkSize, bulkBytes, bulkInFlight, refresh);
     }
 
     @Override
@@ -67,10 +98,14 @@ class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManage
                 .orElseThrow(() -> new ElasticsearchKeyFoundException(entity.toString()));
         Map<String, Object> jsonObject = EntityConverter.getMap(entity);
         try {
-            var indexRequest = IndexRequest.of(b ->
-                    b.index(index)
-                            .id(id.get(String.class)).document(jsonObject)
-            );
+            var indexRequest = IndexRequest.of(b -> {
+                b.index(index)
+                        .id(id.get(String.class)).document(jsonObject);
+                if (refresh != null) {
+                    b.refresh(refresh);
+                }
+                return b;
+            });
             elasticsearchClient.index(indexRequest);
         } catch (IOException e) {
             throw new ElasticsearchException("An error to insert in Elastic search", e);
@@ -87,8 +122,14 @@ class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManage
     @Override
     public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        List<DocumentEntity> documents = new ArrayList<>();
+        for (DocumentEntity entity : entities) {
+            requireNonNull(entity, "entity is required");
+            EntityConverter.getId(entity);
+            documents.add(entity);
+        }
+        bulkIndexer.index(documents);
+        return documents;
     }
 
     @Override
@@ -106,36 +147,61 @@ class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManage
 
     @Override
     public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
-        Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        return insert(entities);
     }
 
     @Override
     public void delete(DocumentDeleteQuery query) throws NullPointerException {
-        requireNonNull(query, "query is required");
-
-        DocumentQuery select = new ElasticsearchDocumentQuery(query);
-
-        List<DocumentEntity> entities = select(select).collect(Collectors.toList());
+        deleteByQuery(query);
+    }
 
-        if (entities.isEmpty()) {
-            return;
+    @Override
+    public long deleteByQuery(DocumentDeleteQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        DeleteByQueryResponse response = deleteByQuery(query, true);
+        Map<String, List<String>> failures = new HashMap<>();
+        response.failures().forEach(f -> failures.computeIfAbsent(f.id(), id -> new ArrayList<>())
+                .add(f.cause().type() + ": " + f.cause().reason()));
+        if (!failures.isEmpty()) {
+            throw new ElasticsearchBulkException("The delete by query failed to delete "
+                    + ElasticsearchBulkException.count(failures) + " documents", failures);
         }
+        if (!response.searchFailures().isEmpty()) {
+            String reasons = response.searchFailures().stream()
+                    .map(f -> "shard " + f.shard() + ": " + f.reason().type() + ": " + f.reason().reason())
+                    .collect(Collectors.joining(", "));
+            throw new ElasticsearchException("The delete by query failed to search "
+                    + response.searchFailures().size() + " shards after deleting "
+                    + Optional.ofNullable(response.deleted()).orElse(0L) + " documents: " + reasons, null);
+        }
+        return Optional.ofNullable(response.deleted()).orElse(0L);
+    }
 
-        BulkRequest.Builder bulkRequest = new BulkRequest.Builder();
-
-        entities.stream()
-                .map(entity -> entity.find(EntityConverter.ID_FIELD).orElseThrow().get(String.class))
-                .forEach(id ->
-                        bulkRequest.operations(op -> op
-                                .delete(DeleteOperation.of(dp -> dp
-                                        .index(index)
-                                        .id(id)))
-                        )
-                );
+    @Override
+    public String submitDeleteByQuery(DocumentDeleteQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        return deleteByQuery(query, false).task();
+    }
+
+    private DeleteByQueryResponse deleteByQuery(DocumentDeleteQuery query, boolean waitForCompletion) {
+        QueryConverterResult select = QueryConverter.select(mappings.keywords(elasticsearchClient, index),
+                new ElasticsearchDocumentQuery(query));
+        var request = DeleteByQueryRequest.of(b -> {
+            b.index(index)
+                    .query(select.getStatement().build())
+                    .conflicts(Conflicts.Proceed)
+                    .waitForCompletion(waitForCompletion);
+            if (deleteSlices != null) {
+                b.slices(deleteSlices);
+            }
+            if (refresh != null) {
+                // the delete by query has no wait_for, the closest is to refresh the shards it touched
+                b.refresh(refresh != Refresh.False);
+            }
+            return b;
+        });
         try {
-            elasticsearchClient.bulk(bulkRequest.build());
+            return elasticsearchClient.deleteByQuery(request);
         } catch (IOException e) {
             throw new ElasticsearchException("An error to delete entities on elasticsearch", e);
         }
@@ -144,7 +210,13 @@ class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManage
     @Override
     public Stream<DocumentEntity> select(DocumentQuery query) throws NullPointerException {
         requireNonNull(query, "query is required");
-        return EntityConverter.query(query, elasticsearchClient, index);
+        return EntityConverter.query(query, elasticsearchClient, index,
+                mappings.keywords(elasticsearchClient, index), pageSize);
+    }
+
+    @Override
+    public void invalidateMapping() {
+        mappings.invalidate(index);
     }
 
     @Override
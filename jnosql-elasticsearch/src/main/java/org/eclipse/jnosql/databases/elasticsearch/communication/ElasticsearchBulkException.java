@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Error when some documents of a bulk request, or of a delete by query, failed. The other documents were written
+ * or deleted; it is thrown once the whole operation finished.
+ */
+public class ElasticsearchBulkException extends ElasticsearchException {
+
+    private final Map<String, List<String>> failures;
+
+    ElasticsearchBulkException(Map<String, List<String>> failures) {
+        this("The bulk request failed to write " + count(failures) + " documents", failures);
+    }
+
+    ElasticsearchBulkException(String message, Map<String, List<String>> failures) {
+        super(message, null);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * The documents that failed. The same id may fail more than once, when it is written more than once in
+     * the same insert.
+     *
+     * @return the reasons of the failures by document id, in the order they were reported
+     */
+    public Map<String, List<String>> failures() {
+        return failures;
+    }
+
+    static int count(Map<String, List<String>> failures) {
+        return failures.values().stream().mapToInt(List::size).sum();
+    }
+}
@@ -36,7 +36,40 @@ public enum ElasticsearchConfigurations implements Supplier<String> {
     /**
      * The password's credential
      */
-    PASSWORD("jnosql.elasticsearch.password");
+    PASSWORD("jnosql.elasticsearch.password"),
+    /**
+     * The maximum number of documents in each request of the bulk inserts and updates. By default, 1000.
+     */
+    BULK_SIZE("jnosql.elasticsearch.bulk.size"),
+    /**
+     * The approximate maximum payload, in bytes, of each request of the bulk inserts and updates.
+     * By default, 5242880, 5 MB.
+     */
+    BULK_BYTES("jnosql.elasticsearch.bulk.bytes"),
+    /**
+     * The maximum number of bulk requests sent at the same time. By default, 1.
+     */
+    BULK_IN_FLIGHT("jnosql.elasticsearch.bulk.in.flight"),
+    /**
+     * The refresh policy of the writes: true, false or wait_for. By default, the one of the index.
+     * The deletes by query do not support wait_for, they refresh as with true.
+     */
+    REFRESH("jnosql.elasticsearch.refresh"),
+    /**
+     * The time, in milliseconds, that the mapping of an index is cached to choose between term and match queries.
+     * Zero disables the cache. By default, 60000.
+     */
+    MAPPING_CACHE_TTL("jnosql.elasticsearch.mapping.cache.ttl"),
+    /**
+     * The number of slices the deletes by query run in parallel, or auto to let Elasticsearch choose.
+     * By default, 1.
+     */
+    DELETE_SLICES("jnosql.elasticsearch.delete.slices"),
+    /**
+     * The number of documents each page of a select fetches, the select reads the whole result page by page.
+     * By default, 1000.
+     */
+    PAGE_SIZE("jnosql.elasticsearch.page.size");
 
     private final String configuration;
 
@@ -17,6 +17,9 @@ package org.eclipse.jnosql.databases.elasticsearch.communication;
 
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch._types.Slices;
+import co.elastic.clients.elasticsearch._types.SlicesCalculation;
 import co.elastic.clients.json.jsonb.JsonbJsonpMapper;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
 import org.apache.http.Header;
@@ -82,7 +85,42 @@ public class ElasticsearchDocumentConfiguration implements DocumentConfiguration
     public ElasticsearchDocumentManagerFactory apply(Settings settings) {
         ElasticsearchClient elasticsearchClient = buildElasticsearchClient(settings);
 
-        return new ElasticsearchDocumentManagerFactory(elasticsearchClient);
+        int bulkSize = settings.get(ElasticsearchConfigurations.BULK_SIZE)
+                .map(Object::toString).map(Integer::parseInt).orElse(BulkIndexer.DEFAULT_BULK_SIZE);
+        long bulkBytes = settings.get(ElasticsearchConfigurations.BULK_BYTES)
+                .map(Object::toString).map(Long::parseLong).orElse(BulkIndexer.DEFAULT_BULK_BYTES);
+        int bulkInFlight = settings.get(ElasticsearchConfigurations.BULK_IN_FLIGHT)
+                .map(Object::toString).map(Integer::parseInt).orElse(BulkIndexer.DEFAULT_BULK_IN_FLIGHT);
+        Refresh refresh = settings.get(ElasticsearchConfigurations.REFRESH)
+                .map(Object::toString).map(ElasticsearchDocumentConfiguration::refresh).orElse(null);
+        long mappingCacheTtl = settings.get(ElasticsearchConfigurations.MAPPING_CACHE_TTL)
+                .map(Object::toString).map(Long::parseLong).orElse(IndexMappingCache.DEFAULT_TTL);
+        Slices deleteSlices = settings.get(ElasticsearchConfigurations.DELETE_SLICES)
+                .map(Object::toString).map(ElasticsearchDocumentConfiguration::slices).orElse(null);
+        int pageSize = settings.get(ElasticsearchConfigurations.PAGE_SIZE)
+                .map(Object::toString).map(Integer::parseInt).orElse(PagedSearch.DEFAULT_PAGE_SIZE);
+        return new ElasticsearchDocumentManagerFactory(elasticsearchClient, bulkSize, bulkBytes, bulkInFlight,
+                refresh, mappingCacheTtl, deleteSlices, pageSize);
+    }
+
+    private static Slices slices(String value) {
+        if (SlicesCalculation.Auto.jsonValue().equalsIgnoreCase(value)) {
+            return Slices.of(s -> s.computed(SlicesCalculation.Auto));
+        }
+        int slices = Integer.parseInt(value);
+        if (slices <= 0) {
+            throw new IllegalArgumentException("The delete slices must be greater than zero or auto: " + value);
+        }
+        return Slices.of(s -> s.value(slices));
+    }
+
+    private static Refresh refresh(String value) {
+        for (Refresh refresh : Refresh.values()) {
+            if (refresh.jsonValue().equalsIgnoreCase(value)) {
+                return refresh;
+            }
+        }
+        throw new IllegalArgumentException("The refresh policy must be true, false or wait_for: " + value);
     }
 
     public ElasticsearchClient buildElasticsearchClient(Settings settings) {
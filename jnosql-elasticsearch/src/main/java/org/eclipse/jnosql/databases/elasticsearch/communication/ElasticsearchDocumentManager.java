@@ -17,6 +17,7 @@ package org.eclipse.jnosql.databases.elasticsearch.communication;
 
 
 import co.elastic.clients.elasticsearch.core.SearchRequest;
+import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.communication.document.DocumentManager;
 
@@ -36,4 +37,37 @@ public interface ElasticsearchDocumentManager extends DocumentManager {
      */
     Stream<DocumentEntity> search(SearchRequest query) throws NullPointerException;
 
+    /**
+     * Deletes the documents that match the query with {@code _delete_by_query}, inside the cluster, and waits
+     * for it to finish. The delete by query does not support the wait_for refresh policy, so with
+     * {@link ElasticsearchConfigurations#REFRESH} wait_for, it refreshes the shards it deleted from, as with true.
+     *
+     * @param query the delete query
+     * @return the number of deleted documents
+     * @throws NullPointerException       when the query is null
+     * @throws ElasticsearchBulkException when some documents could not be deleted
+     * @throws ElasticsearchException     when some shards could not be searched, so their matching documents
+     *                                    were not deleted
+     * @see ElasticsearchConfigurations#DELETE_SLICES
+     */
+    long deleteByQuery(DocumentDeleteQuery query) throws NullPointerException;
+
+    /**
+     * Starts a {@code _delete_by_query} of the documents that match the query as a task of the cluster,
+     * without waiting for it.
+     *
+     * @param query the delete query
+     * @return the id of the task, to follow it with the tasks API
+     * @throws NullPointerException when the query is null
+     */
+    String submitDeleteByQuery(DocumentDeleteQuery query) throws NullPointerException;
+
+    /**
+     * Drops the cached mapping of the index, which the queries use to choose between term and match queries,
+     * so the next query reads it again. Use it after changing the mapping of the index.
+     *
+     * @see ElasticsearchConfigurations#MAPPING_CACHE_TTL
+     */
+    void invalidateMapping();
+
 }
@@ -16,6 +16,8 @@ package org.eclipse.jnosql.databases.elasticsearch.communication;
 
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch._types.Slices;
 import co.elastic.clients.elasticsearch.indices.CreateIndexRequest;
 import co.elastic.clients.elasticsearch.indices.OpenRequest;
 import org.eclipse.jnosql.communication.document.DocumentManagerFactory;
@@ -36,8 +38,49 @@ public class ElasticsearchDocumentManagerFactory implements DocumentManagerFacto
 
     private final ElasticsearchClient elasticsearchClient;
 
+    private final int bulkSize;
+
+    private final long bulkBytes;
+
+    private final int bulkInFlight;
+
+    private final Refresh refresh;
+
+    private final IndexMappingCache mappings;
+
+    private final Slices deleteSlices;
+
+    private final int pageSize;
+
     ElasticsearchDocumentManagerFactory(ElasticsearchClient elasticsearchClient) {
+        this(elasticsearchClient, BulkIndexer.DEFAULT_BULK_SIZE, BulkIndexer.DEFAULT_BULK_BYTES,
+                BulkIndexer.DEFAULT_BULK_IN_FLIGHT, null, IndexMappingCache.DEFAULT_TTL, null,
+                PagedSearch.DEFAULT_PAGE_SIZE);
+    }
+
+    ElasticsearchDocumentManagerFactory(ElasticsearchClient elasticsearchClient, int bulkSize, long bulkBytes,
+                                        int bulkInFlight, Refresh refresh, long mappingCacheTtl,
+                                        Slices deleteSlices, int pageSize) {
+        if (bulkSize <= 0) {
+            throw new IllegalArgumentException("The bulk size must be greater than zero: " + bulkSize);
+        }
+        if (bulkBytes <= 0) {
+            throw new IllegalArgumentException("The bulk bytes must be greater than zero: " + bulkBytes);
+        }
+        if (bulkInFlight <= 0) {
+            throw new IllegalArgumentException("The bulk in flight must be greater than zero: " + bulkInFlight);
+        }
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The page size must be greater than zero: " + pageSize);
+        }
         this.elasticsearchClient = elasticsearchClient;
+        this.bulkSize = bulkSize;
+        this.bulkBytes = bulkBytes;
+        this.bulkInFlight = bulkInFlight;
+        this.refresh = refresh;
+        this.mappings = new IndexMappingCache(mappingCacheTtl);
+        this.deleteSlices = deleteSlices;
+        this.pageSize = pageSize;
     }
 
 
@@ -46,13 +89,15 @@ public class ElasticsearchDocumentManagerFactory implements DocumentManagerFacto
         Objects.requireNonNull(database, "database is required");
 
         initDatabase(database);
-        return new DefaultElasticsearchDocumentManager(elasticsearchClient, database);
+        return new DefaultElasticsearchDocumentManager(elasticsearchClient, database, bulkSize, bulkBytes,
+                bulkInFlight, refresh, mappings, deleteSlices, pageSize);
     }
 
     private void initDatabase(String database) {
         boolean exists = isExists(database);
         if (!exists) {
             createIndex(database);
+            mappings.invalidate(database);
         }
     }
 
@@ -92,6 +137,7 @@ public class ElasticsearchDocumentManagerFactory implements DocumentManagerFacto
 
     @Override
     public void close() {
+        mappings.clear();
         try {
             elasticsearchClient._transport().close();
         } catch (IOException e) {
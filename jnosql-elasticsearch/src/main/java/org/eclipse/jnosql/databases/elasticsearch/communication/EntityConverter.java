@@ -25,9 +25,9 @@ import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
 import org.eclipse.jnosql.communication.driver.ValueUtil;
 
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -54,28 +54,43 @@ final class EntityConverter {
         return jsonObject;
     }
 
-    static Stream<DocumentEntity> query(DocumentQuery query, ElasticsearchClient client, String index) {
-        QueryConverterResult select = QueryConverter.select(client, index, query);
+    static String getId(DocumentEntity entity) {
+        return entity.find(ID_FIELD)
+                .orElseThrow(() -> new ElasticsearchKeyFoundException(entity.toString()))
+                .get(String.class);
+    }
 
-        try {
-            Stream<DocumentEntity> statementQueryStream = Stream.empty();
-            if (select.hasStatement()) {
-                statementQueryStream = executeStatement(query, client, index, select);
+    /**
+     * Estimates the size of the JSON of the document, without writing it.
+     *
+     * @param value the document or one of its values
+     * @return the approximate size in bytes
+     */
+    static long estimateSize(Object value) {
+        if (value == null) {
+            return 4;
+        } else if (value instanceof Map) {
+            long size = 2;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += String.valueOf(entry.getKey()).length() + 4 + estimateSize(entry.getValue());
+            }
+            return size;
+        } else if (value instanceof Iterable) {
+            long size = 2;
+            for (Object element : (Iterable<?>) value) {
+                size += estimateSize(element) + 1;
             }
-            return statementQueryStream.distinct();
-        } catch (IOException e) {
-            throw new ElasticsearchException("An error to execute a query on elasticsearch", e);
+            return size;
+        } else if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() + 2L;
         }
+        return String.valueOf(value).length();
     }
 
-    private static Stream<DocumentEntity> executeStatement(DocumentQuery query, ElasticsearchClient client, String index,
-                                                           QueryConverterResult select) throws IOException {
-        SearchRequest.Builder searchRequest = buildSearchRequestBuilder(query, select);
-        searchRequest.index(index);
-
-        SearchResponse<Map> searchResponse = client.search(searchRequest.build(), Map.class);
-
-        return getDocumentEntityStream(client, searchResponse);
+    static Stream<DocumentEntity> query(DocumentQuery query, ElasticsearchClient client, String index,
+                                        Set<String> keywords, int pageSize) {
+        QueryConverterResult select = QueryConverter.select(keywords, query);
+        return PagedSearch.stream(client, index, query, select, pageSize);
     }
 
 
@@ -121,18 +136,7 @@ final class EntityConverter {
                 .map(ElasticsearchEntry::toEntity);
     }
 
-    private static SearchRequest.Builder buildSearchRequestBuilder(DocumentQuery query, QueryConverterResult select) {
-        SearchRequest.Builder searchBuilder = new SearchRequest.Builder();
-
-        if (select.hasQuery()) {
-            searchBuilder.query(select.getStatement().build());
-        }
-
-        feedBuilder(query, searchBuilder);
-        return searchBuilder;
-    }
-
-    private static void feedBuilder(DocumentQuery query, SearchRequest.Builder searchSource) {
+    static void sort(DocumentQuery query, SearchRequest.Builder searchSource) {
         query.sorts().forEach(d -> {
             if (d.isAscending()) {
                 searchSource.sort(s -> s.field(f -> f.field(d.property()).order(SortOrder.Asc)));
@@ -140,15 +144,6 @@ final class EntityConverter {
                 searchSource.sort(s -> s.field(f -> f.field(d.property()).order(SortOrder.Desc)));
             }
         });
-
-        int from = (int) query.skip();
-        int size = (int) query.limit();
-        if (from > 0) {
-            searchSource.from(from);
-        }
-        if (size > 0) {
-            searchSource.size(size);
-        }
     }
 
 
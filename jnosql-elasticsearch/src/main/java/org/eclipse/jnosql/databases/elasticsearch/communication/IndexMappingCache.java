@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.mapping.Property;
+import co.elastic.clients.elasticsearch.indices.GetMappingRequest;
+import co.elastic.clients.elasticsearch.indices.get_mapping.IndexMappingRecord;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches, per index, the paths of the fields mapped as keyword, which the queries need to choose between
+ * term and match queries, so the mapping is not read from the cluster for every query. An entry expires after
+ * the time to live, or when it is invalidated; a time to live of zero disables the cache.
+ */
+final class IndexMappingCache {
+
+    static final long DEFAULT_TTL = 60_000L;
+
+    private final long ttl;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param ttl the time to live of the entries, in milliseconds
+     * @throws IllegalArgumentException when ttl is negative
+     */
+    IndexMappingCache(long ttl) {
+        if (ttl < 0) {
+            throw new IllegalArgumentException("The mapping cache ttl must not be negative: " + ttl);
+        }
+        this.ttl = TimeUnit.MILLISECONDS.toNanos(ttl);
+    }
+
+    /**
+     * Returns the paths, dot separated, of the fields of the index mapped as keyword.
+     *
+     * @param client the client
+     * @param index  the index
+     * @return the keyword paths
+     * @throws ElasticsearchException when the mapping cannot be read
+     */
+    Set<String> keywords(ElasticsearchClient client, String index) {
+        if (ttl == 0) {
+            return keywords(getMapping(client, index));
+        }
+        long now = System.nanoTime();
+        Entry entry = entries.get(index);
+        if (entry == null || now - entry.createdAt >= ttl) {
+            entry = new Entry(keywords(getMapping(client, index)), now);
+            entries.put(index, entry);
+        }
+        return entry.keywords;
+    }
+
+    /**
+     * Drops the mapping of the index, so the next query reads it again.
+     *
+     * @param index the index
+     */
+    void invalidate(String index) {
+        entries.remove(index);
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    static IndexMappingRecord getMapping(ElasticsearchClient client, String index) {
+        try {
+            return client.indices().getMapping(GetMappingRequest.of(q -> q.index(index))).get(index);
+        } catch (IOException e) {
+            throw new ElasticsearchException("cannot retrieve the index's mapping: %s".formatted(e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Returns the paths, dot separated, of the fields mapped as keyword, looking into the object fields.
+     *
+     * @param indexMappingRecord the mapping of the index, it might be null when the index does not exist
+     * @return the keyword paths
+     */
+    static Set<String> keywords(IndexMappingRecord indexMappingRecord) {
+        if (indexMappingRecord == null || indexMappingRecord.mappings() == null) {
+            return Collections.emptySet();
+        }
+        Set<String> keywords = new HashSet<>();
+        collect(indexMappingRecord.mappings().properties(), "", keywords);
+        return Collections.unmodifiableSet(keywords);
+    }
+
+    private static void collect(Map<String, Property> properties, String prefix, Set<String> keywords) {
+        properties.forEach((name, property) -> {
+            if (property.isKeyword()) {
+                keywords.add(prefix + name);
+            } else if (property.isObject()) {
+                collect(property.object().properties(), prefix + name + '.', keywords);
+            }
+        });
+    }
+
+    private static final class Entry {
+
+        private final Set<String> keywords;
+
+        private final long createdAt;
+
+        private Entry(Set<String> keywords, long createdAt) {
+            this.keywords = keywords;
+            this.createdAt = createdAt;
+        }
+    }
+}
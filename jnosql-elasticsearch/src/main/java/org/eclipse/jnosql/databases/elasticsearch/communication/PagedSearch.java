@@ -0,0 +1,260 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.ClosePointInTimeRequest;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeRequest;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the result of a query page by page. A result whose limit fits in a page takes a single plain search;
+ * otherwise, a point in time of the index is opened before the first request and every page is read from it with
+ * the sort of the query and the shard document to break the ties, continued with {@code search_after}, so all the
+ * pages come from the same snapshot and are not bounded by the max result window of the index. The skip of the
+ * query is read with {@code from} on the first page while it fits in the default max result window; beyond it,
+ * it is consumed through pages that fetch just the sort values. A page is fetched only when the consumer reaches
+ * it, and the point in time is closed when the result is exhausted or the stream is closed; otherwise, it expires
+ * after its keep alive.
+ */
+final class PagedSearch implements Iterator<DocumentEntity> {
+
+    static final int DEFAULT_PAGE_SIZE = 1000;
+
+    /**
+     * The default {@code index.max_result_window}, the maximum of {@code from} plus {@code size}.
+     */
+    static final int MAX_RESULT_WINDOW = 10000;
+
+    private static final String KEEP_ALIVE = "1m";
+
+    private static final String SHARD_DOC = "_shard_doc";
+
+    private final ElasticsearchClient client;
+
+    private final String index;
+
+    private final DocumentQuery query;
+
+    private final Query statement;
+
+    private final int pageSize;
+
+    private long remaining;
+
+    private long skip;
+
+    private String pitId;
+
+    private List<FieldValue> searchAfter;
+
+    private Iterator<Hit<Map>> page = Collections.emptyIterator();
+
+    private boolean finished;
+
+    private DocumentEntity next;
+
+    private PagedSearch(ElasticsearchClient client, String index, DocumentQuery query, Query statement,
+                        int pageSize) {
+        this.client = client;
+        this.index = index;
+        this.query = query;
+        this.statement = statement;
+        this.pageSize = pageSize;
+        this.remaining = query.limit() > 0 ? query.limit() : Long.MAX_VALUE;
+        this.skip = query.skip();
+    }
+
+    /**
+     * Returns the result of the query. When the limit of the query fits in a page, it is a single search.
+     *
+     * @param client   the client
+     * @param index    the index
+     * @param query    the query
+     * @param select   the converted query
+     * @param pageSize the number of documents of each page
+     * @return the entities, in the order of the query
+     */
+    static Stream<DocumentEntity> stream(ElasticsearchClient client, String index, DocumentQuery query,
+                                         QueryConverterResult select, int pageSize) {
+        Query statement = select.hasStatement() ? select.getStatement().build() : null;
+        if (query.limit() > 0 && query.limit() <= pageSize && query.skip() + query.limit() <= MAX_RESULT_WINDOW) {
+            return search(client, index, query, statement);
+        }
+        PagedSearch search = new PagedSearch(client, index, query, statement, pageSize);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(search,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(search::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            if (page.hasNext()) {
+                Hit<Map> hit = page.next();
+                ElasticsearchEntry entry = ElasticsearchEntry.of(hit.id(), hit.source());
+                if (entry.isNotEmpty()) {
+                    next = entry.toEntity();
+                }
+            } else if (finished) {
+                return false;
+            } else {
+                fetch();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public DocumentEntity next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There are no more documents in the result");
+        }
+        DocumentEntity entity = next;
+        next = null;
+        return entity;
+    }
+
+    private void fetch() {
+        try {
+            int size = (int) Math.min(pageSize, remaining);
+            if (skip > 0 && (searchAfter != null || skip + size > MAX_RESULT_WINDOW)) {
+                skip();
+            } else {
+                fetchNext(size);
+            }
+        } catch (IOException e) {
+            throw new ElasticsearchException("An error to execute a query on elasticsearch", e);
+        }
+    }
+
+    /**
+     * Reads a page of the skip, without the sources, just to move the search after past it.
+     */
+    private void skip() throws IOException {
+        int size = (int) Math.min(pageSize, skip);
+        List<Hit<Map>> hits = pitSearch(size, 0, request -> request.source(s -> s.fetch(false)));
+        skip -= hits.size();
+        if (hits.size() < size) {
+            close();
+        }
+    }
+
+    private void fetchNext(int size) throws IOException {
+        long from = skip;
+        skip = 0;
+        List<Hit<Map>> hits = pitSearch(size, from, request -> {
+        });
+        remaining -= hits.size();
+        page = hits.iterator();
+        if (hits.size() < size || remaining <= 0) {
+            close();
+        }
+    }
+
+    /**
+     * Searches the point in time after the last page, opening it on the first call, when the page starts at
+     * {@code from}. Without sorts, the pages are sorted by score, as the plain search, with the shard and the
+     * document to break the ties.
+     */
+    private List<Hit<Map>> pitSearch(int size, long from, Consumer<SearchRequest.Builder> customizer)
+            throws IOException {
+        if (pitId == null) {
+            pitId = client.openPointInTime(OpenPointInTimeRequest.of(b -> b.index(index)
+                    .keepAlive(t -> t.time(KEEP_ALIVE)))).id();
+        }
+        String id = pitId;
+        SearchRequest.Builder request = new SearchRequest.Builder()
+                .pit(p -> p.id(id).keepAlive(t -> t.time(KEEP_ALIVE)))
+                .size(size);
+        if (statement != null) {
+            request.query(statement);
+        }
+        if (query.sorts().isEmpty()) {
+            request.sort(s -> s.score(c -> c.order(SortOrder.Desc)));
+        } else {
+            EntityConverter.sort(query, request);
+        }
+        request.sort(s -> s.field(f -> f.field(SHARD_DOC).order(SortOrder.Asc)));
+        if (searchAfter != null) {
+            request.searchAfter(searchAfter);
+        } else if (from > 0) {
+            request.from((int) from);
+        }
+        customizer.accept(request);
+        SearchResponse<Map> response = client.search(request.build(), Map.class);
+        if (response.pitId() != null) {
+            pitId = response.pitId();
+        }
+        List<Hit<Map>> hits = response.hits().hits();
+        if (!hits.isEmpty()) {
+            searchAfter = hits.get(hits.size() - 1).sort();
+        }
+        return hits;
+    }
+
+    void close() {
+        finished = true;
+        if (pitId == null) {
+            return;
+        }
+        String id = pitId;
+        pitId = null;
+        try {
+            client.closePointInTime(ClosePointInTimeRequest.of(b -> b.id(id)));
+        } catch (IOException e) {
+            throw new ElasticsearchException("An error to close the point in time on elasticsearch", e);
+        }
+    }
+
+    private static Stream<DocumentEntity> search(ElasticsearchClient client, String index, DocumentQuery query,
+                                                 Query statement) {
+        SearchRequest.Builder request = new SearchRequest.Builder().index(index);
+        if (statement != null) {
+            request.query(statement);
+        }
+        EntityConverter.sort(query, request);
+        if (query.skip() > 0) {
+            request.from((int) query.skip());
+        }
+        request.size((int) query.limit());
+        try {
+            SearchResponse<Map> response = client.search(request.build(), Map.class);
+            return EntityConverter.getDocumentEntityStream(client, response);
+        } catch (IOException e) {
+            throw new ElasticsearchException("An error to execute a query on elasticsearch", e);
+        }
+    }
+}
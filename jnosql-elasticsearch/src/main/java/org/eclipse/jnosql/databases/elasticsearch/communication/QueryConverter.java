@@ -17,7 +17,6 @@ package org.eclipse.jnosql.databases.elasticsearch.communication;
 
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch._types.mapping.Property;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.MatchQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
@@ -33,10 +32,8 @@ import org.eclipse.jnosql.communication.document.DocumentCondition;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
 import org.eclipse.jnosql.communication.driver.ValueUtil;
 
-import java.io.IOException;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -52,12 +49,21 @@ final class QueryConverter {
     }
 
     static QueryConverterResult select(ElasticsearchClient client, String database, DocumentQuery query) {
+        return select(IndexMappingCache.keywords(IndexMappingCache.getMapping(client, database)), query);
+    }
 
-        var indexMappingRecord = getIndexMappingRecord(client, database, query);
+    /**
+     * Converts the query, with term queries on the fields mapped as keyword and match queries on the others.
+     *
+     * @param keywords the paths of the fields mapped as keyword, see {@link IndexMappingCache}
+     * @param query    the query
+     * @return the converted query
+     */
+    static QueryConverterResult select(Set<String> keywords, DocumentQuery query) {
 
         Query.Builder nameCondition = Optional.of(query.name())
                 .map(collection -> {
-                    if (supportTermQuery(indexMappingRecord, EntityConverter.ENTITY)) {
+                    if (keywords.contains(EntityConverter.ENTITY)) {
                         return new Query.Builder().term(q -> q
                                 .field(EntityConverter.ENTITY).value(collection));
                     }
@@ -69,7 +75,7 @@ final class QueryConverter {
                 .orElse(null);
 
         Query.Builder queryConditions = query.condition()
-                .map(c -> getCondition(indexMappingRecord, c))
+                .map(c -> getCondition(keywords, c))
                 .orElse(null);
 
 
@@ -84,40 +90,16 @@ final class QueryConverter {
     }
 
     public static boolean supportTermQuery(IndexMappingRecord indexMappingRecord, String attribute) {
-        return supportTermQuery(indexMappingRecord.mappings().properties(), attribute);
-    }
-
-    public static boolean supportTermQuery(Map<String, Property> properties, String attribute) {
-        String attributeName = attribute;
-        if (attributeName.contains(".")) {
-            attributeName = attribute.substring(0, attribute.indexOf("."));
-            Property property = properties.get(attributeName);
-            if (Objects.nonNull(property) && property.isObject()) {
-                return supportTermQuery(property.object().properties(),
-                        attribute.substring(attribute.indexOf(".") + 1));
-            }
-            return false;
-        }
-        Property property = properties.get(attributeName);
-        return Objects.nonNull(property) && property.isKeyword();
-    }
-
-    private static IndexMappingRecord getIndexMappingRecord(ElasticsearchClient client, String database, DocumentQuery query) {
-        try {
-            return client.indices().getMapping(q -> q.index(database))
-                    .get(database);
-        } catch (IOException e) {
-            throw new IllegalStateException("cannot retrieve the index's mapping: %s".formatted(e.getMessage()), e);
-        }
+        return IndexMappingCache.keywords(indexMappingRecord).contains(attribute);
     }
 
 
-    private static Query.Builder getCondition(IndexMappingRecord indexMappingRecord, DocumentCondition condition) {
+    private static Query.Builder getCondition(Set<String> keywords, DocumentCondition condition) {
         Document document = condition.document();
 
         switch (condition.condition()) {
             case EQUALS:
-                if (supportTermQuery(indexMappingRecord, document.name())) {
+                if (keywords.contains(document.name())) {
                     return (Query.Builder) new Query.Builder()
                             .term(TermQuery.of(tq -> tq
                                     .field(document.name())
@@ -159,7 +141,7 @@ final class QueryConverter {
                 return (Query.Builder) ValueUtil.convertToList(document.value())
                         .stream()
                         .map(val -> {
-                            if (supportTermQuery(indexMappingRecord, document.name())) {
+                            if (keywords.contains(document.name())) {
                                 return new Query.Builder()
                                         .term(TermQuery.of(tq -> tq
                                                 .field(document.name())
@@ -178,7 +160,7 @@ final class QueryConverter {
                 return document.get(new TypeReference<List<DocumentCondition>>() {
                         })
                         .stream()
-                        .map(d -> getCondition(indexMappingRecord, d))
+                        .map(d -> getCondition(keywords, d))
                         .filter(Objects::nonNull)
                         .reduce((d1, d2) -> (Query.Builder) new Query.Builder()
                                 .bool(BoolQuery.of(bq -> bq
@@ -189,7 +171,7 @@ final class QueryConverter {
                 return document.get(new TypeReference<List<DocumentCondition>>() {
                         })
                         .stream()
-                        .map(d -> getCondition(indexMappingRecord, d))
+                        .map(d -> getCondition(keywords, d))
                         .filter(Objects::nonNull)
                         .reduce((d1, d2) -> (Query.Builder) new Query.Builder()
                                 .bool(BoolQuery.of(bq -> bq
@@ -197,7 +179,7 @@ final class QueryConverter {
                         .orElseThrow(() -> new IllegalStateException("An and condition cannot be empty"));
             case NOT:
                 DocumentCondition dc = document.get(DocumentCondition.class);
-                Query.Builder queryBuilder = Optional.ofNullable(getCondition(indexMappingRecord, dc))
+                Query.Builder queryBuilder = Optional.ofNullable(getCondition(keywords, dc))
                         .orElseThrow(() -> new IllegalStateException("An and condition cannot be empty"));
                 return (Query.Builder) new Query.Builder()
                         .bool(BoolQuery.of(bq -> bq
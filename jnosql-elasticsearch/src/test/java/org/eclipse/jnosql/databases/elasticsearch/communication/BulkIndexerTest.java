@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BulkIndexerTest {
+
+    private static final String INDEX = "library";
+
+    @Test
+    public void shouldReportEachFailureOfTheSameId() {
+        ElasticsearchAsyncClient client = mock(ElasticsearchAsyncClient.class);
+        BulkResponse response = BulkResponse.of(b -> b.errors(true).took(1L).items(
+                failure("ada", "version_conflict_engine_exception"),
+                success("otaviojava"),
+                failure("ada", "mapper_parsing_exception")));
+        when(client.bulk(any(BulkRequest.class))).thenReturn(CompletableFuture.completedFuture(response));
+        BulkIndexer indexer = new BulkIndexer(client, INDEX, BulkIndexer.DEFAULT_BULK_SIZE,
+                BulkIndexer.DEFAULT_BULK_BYTES, BulkIndexer.DEFAULT_BULK_IN_FLIGHT, null);
+
+        ElasticsearchBulkException exception = assertThrows(ElasticsearchBulkException.class,
+                () -> indexer.index(List.of(entity("ada"), entity("otaviojava"), entity("ada"))));
+        assertThat(exception.failures()).containsOnlyKeys("ada");
+        assertThat(exception.failures().get("ada")).containsExactly(
+                "version_conflict_engine_exception: failed", "mapper_parsing_exception: failed");
+        assertEquals("The bulk request failed to write 2 documents", exception.getMessage());
+    }
+
+    private static DocumentEntity entity(String id) {
+        DocumentEntity entity = DocumentEntity.of("Book");
+        entity.add(Document.of(EntityConverter.ID_FIELD, id));
+        entity.add(Document.of("name", "Effective Java"));
+        return entity;
+    }
+
+    private static BulkResponseItem success(String id) {
+        return BulkResponseItem.of(i -> i.operationType(OperationType.Index).index(INDEX).id(id).status(201));
+    }
+
+    private static BulkResponseItem failure(String id, String type) {
+        return BulkResponseItem.of(i -> i.operationType(OperationType.Index).index(INDEX).id(id).status(400)
+                .error(e -> e.type(type).reason("failed")));
+    }
+}
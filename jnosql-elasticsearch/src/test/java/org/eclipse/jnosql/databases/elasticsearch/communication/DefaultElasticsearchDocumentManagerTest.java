@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch._types.ShardFailure;
+import co.elastic.clients.elasticsearch.core.DeleteByQueryRequest;
+import co.elastic.clients.elasticsearch.core.DeleteByQueryResponse;
+import co.elastic.clients.elasticsearch.indices.ElasticsearchIndicesClient;
+import co.elastic.clients.elasticsearch.indices.GetMappingRequest;
+import co.elastic.clients.elasticsearch.indices.GetMappingResponse;
+import co.elastic.clients.elasticsearch.indices.get_mapping.IndexMappingRecord;
+import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.communication.document.DocumentDeleteQuery.delete;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DefaultElasticsearchDocumentManagerTest {
+
+    private static final String INDEX = "library";
+
+    private static final DocumentDeleteQuery QUERY = delete().from("Book").where("name").eq("Effective Java")
+            .build();
+
+    private ElasticsearchClient client;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        client = mock(ElasticsearchClient.class);
+        ElasticsearchIndicesClient indices = mock(ElasticsearchIndicesClient.class);
+        when(client.indices()).thenReturn(indices);
+        IndexMappingRecord mapping = IndexMappingRecord.of(r -> r
+                .mappings(m -> m.properties("name", p -> p.text(t -> t))));
+        when(indices.getMapping(any(GetMappingRequest.class)))
+                .thenReturn(GetMappingResponse.of(b -> b.result(INDEX, mapping)));
+    }
+
+    @Test
+    public void shouldReturnTheDeletedCount() throws IOException {
+        when(client.deleteByQuery(any(DeleteByQueryRequest.class)))
+                .thenReturn(DeleteByQueryResponse.of(b -> b.deleted(2L)));
+        assertEquals(2L, manager(null).deleteByQuery(QUERY));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenShardsFailToBeSearched() throws IOException {
+        when(client.deleteByQuery(any(DeleteByQueryRequest.class)))
+                .thenReturn(DeleteByQueryResponse.of(b -> b.deleted(2L).searchFailures(ShardFailure.of(f -> f
+                        .shard(1).index(INDEX).reason(r -> r.type("search_phase_execution_exception")
+                                .reason("timeout"))))));
+        ElasticsearchException exception = assertThrows(ElasticsearchException.class,
+                () -> manager(null).deleteByQuery(QUERY));
+        assertThat(exception.getMessage()).contains("1 shards", "2 documents", "timeout");
+    }
+
+    @Test
+    public void shouldRefreshWhenThePolicyIsWaitFor() throws IOException {
+        when(client.deleteByQuery(any(DeleteByQueryRequest.class)))
+                .thenReturn(DeleteByQueryResponse.of(b -> b.deleted(0L)));
+        manager(Refresh.WaitFor).deleteByQuery(QUERY);
+        manager(Refresh.False).deleteByQuery(QUERY);
+        manager(null).deleteByQuery(QUERY);
+        ArgumentCaptor<DeleteByQueryRequest> requests = ArgumentCaptor.forClass(DeleteByQueryRequest.class);
+        verify(client, times(3)).deleteByQuery(requests.capture());
+        assertThat(requests.getAllValues()).extracting(DeleteByQueryRequest::refresh)
+                .containsExactly(true, false, null);
+    }
+
+    private ElasticsearchDocumentManager manager(Refresh refresh) {
+        return new DefaultElasticsearchDocumentManager(client, INDEX, BulkIndexer.DEFAULT_BULK_SIZE,
+                BulkIndexer.DEFAULT_BULK_BYTES, BulkIndexer.DEFAULT_BULK_IN_FLIGHT, refresh,
+                new IndexMappingCache(IndexMappingCache.DEFAULT_TTL), null, PagedSearch.DEFAULT_PAGE_SIZE);
+    }
+}
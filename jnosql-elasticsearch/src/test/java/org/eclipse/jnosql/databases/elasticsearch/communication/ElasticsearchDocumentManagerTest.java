@@ -14,6 +14,10 @@
  */
 package org.eclipse.jnosql.databases.elasticsearch.communication;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch._types.Slices;
+import co.elastic.clients.elasticsearch._types.SlicesCalculation;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import org.awaitility.Awaitility;
 import org.eclipse.jnosql.communication.TypeReference;
@@ -124,6 +128,41 @@ public class ElasticsearchDocumentManagerTest {
         await().until(getSingleResult(query), equalTo(documentEntity));
     }
 
+    @Test
+    public void shouldInsertIterableInBulk() {
+        ElasticsearchClient client = new ElasticsearchDocumentConfiguration()
+                .buildElasticsearchClient(DocumentDatabase.INSTANCE.getSettings());
+        var manager = new ElasticsearchDocumentManagerFactory(client, 10, 1024, 2, Refresh.WaitFor,
+                IndexMappingCache.DEFAULT_TTL, null, PagedSearch.DEFAULT_PAGE_SIZE)
+                .apply(DocumentEntityGerator.INDEX);
+        List<DocumentEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 25; index++) {
+            DocumentEntity entity = DocumentEntity.of(DocumentEntityGerator.COLLECTION_NAME);
+            entity.add(Document.of(EntityConverter.ID_FIELD, "bulk-" + index));
+            entity.add(Document.of("name", "Poliana " + index));
+            entities.add(entity);
+        }
+        Iterable<DocumentEntity> inserted = manager.insert(entities);
+        assertThat(inserted).containsExactlyElementsOf(entities);
+        assertEquals(25L, manager.count(DocumentEntityGerator.COLLECTION_NAME));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenBulkEntityHasNoId() {
+        DocumentEntity entity = DocumentEntity.of(DocumentEntityGerator.COLLECTION_NAME);
+        entity.add(Document.of("name", "Poliana"));
+        assertThrows(ElasticsearchKeyFoundException.class,
+                () -> entityManager.insert(List.of(DocumentEntityGerator.getEntity(), entity)));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenBulkSizeIsInvalid() {
+        ElasticsearchClient client = new ElasticsearchDocumentConfiguration()
+                .buildElasticsearchClient(DocumentDatabase.INSTANCE.getSettings());
+        assertThrows(IllegalArgumentException.class,
+                () -> new ElasticsearchDocumentManagerFactory(client, 0, 1024, 1, null, 0, null, 1));
+    }
+
     @Test
     public void shouldInsertTTL() {
         assertThrows(UnsupportedOperationException.class, () -> entityManager.insert(DocumentEntityGerator.getEntity(), Duration.ofSeconds(1L)));
@@ -222,6 +261,64 @@ public class ElasticsearchDocumentManagerTest {
 
     }
 
+    @Test
+    public void shouldDeleteByQuery() {
+        ElasticsearchClient client = new ElasticsearchDocumentConfiguration()
+                .buildElasticsearchClient(DocumentDatabase.INSTANCE.getSettings());
+        var manager = new ElasticsearchDocumentManagerFactory(client, 10, 1024, 1, Refresh.WaitFor,
+                IndexMappingCache.DEFAULT_TTL, Slices.of(s -> s.computed(SlicesCalculation.Auto)),
+                PagedSearch.DEFAULT_PAGE_SIZE)
+                .apply(DocumentEntityGerator.INDEX);
+        List<DocumentEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 25; index++) {
+            DocumentEntity entity = DocumentEntity.of(DocumentEntityGerator.COLLECTION_NAME);
+            entity.add(Document.of(EntityConverter.ID_FIELD, "purge-" + index));
+            entity.add(Document.of("name", "Poliana"));
+            entities.add(entity);
+        }
+        manager.insert(entities);
+
+        long deleted = manager.deleteByQuery(delete().from(DocumentEntityGerator.COLLECTION_NAME).build());
+
+        assertEquals(25L, deleted);
+        assertEquals(0L, manager.count(DocumentEntityGerator.COLLECTION_NAME));
+    }
+
+    @Test
+    public void shouldSubmitDeleteByQuery() {
+        entityManager.insert(DocumentEntityGerator.getEntity());
+        DocumentQuery query = select().from(DocumentEntityGerator.COLLECTION_NAME).build();
+        await().until(numberOfEntitiesFrom(query), equalTo(1L));
+
+        String task = entityManager.submitDeleteByQuery(delete().from(DocumentEntityGerator.COLLECTION_NAME).build());
+
+        assertThat(task).isNotBlank();
+        await().until(numberOfEntitiesFrom(query), equalTo(0L));
+    }
+
+    @Test
+    public void shouldSelectPageByPage() {
+        ElasticsearchClient client = new ElasticsearchDocumentConfiguration()
+                .buildElasticsearchClient(DocumentDatabase.INSTANCE.getSettings());
+        var manager = new ElasticsearchDocumentManagerFactory(client, 100, 1024 * 1024, 1, Refresh.WaitFor,
+                IndexMappingCache.DEFAULT_TTL, null, 10)
+                .apply(DocumentEntityGerator.INDEX);
+        List<DocumentEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 25; index++) {
+            DocumentEntity entity = DocumentEntity.of(DocumentEntityGerator.COLLECTION_NAME);
+            entity.add(Document.of(EntityConverter.ID_FIELD, "page-" + index));
+            entity.add(Document.of("name", "Poliana"));
+            entities.add(entity);
+        }
+        manager.insert(entities);
+
+        DocumentQuery all = select().from(DocumentEntityGerator.COLLECTION_NAME).build();
+        DocumentQuery range = select().from(DocumentEntityGerator.COLLECTION_NAME).skip(5).limit(15).build();
+
+        assertThat(manager.select(all)).hasSize(25);
+        assertThat(manager.select(range)).hasSize(15);
+    }
+
     @Test
     public void shouldFindDocumentByName() {
         DocumentEntity entity = entityManager.insert(DocumentEntityGerator.getEntity());
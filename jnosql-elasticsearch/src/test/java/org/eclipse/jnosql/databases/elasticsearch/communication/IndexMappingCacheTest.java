@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.ElasticsearchIndicesClient;
+import co.elastic.clients.elasticsearch.indices.GetMappingRequest;
+import co.elastic.clients.elasticsearch.indices.GetMappingResponse;
+import co.elastic.clients.elasticsearch.indices.get_mapping.IndexMappingRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IndexMappingCacheTest {
+
+    private static final String INDEX = "library";
+
+    private static final IndexMappingRecord MAPPING = IndexMappingRecord.of(r -> r
+            .mappings(m -> m
+                    .properties("@entity", p -> p.keyword(k -> k))
+                    .properties("name", p -> p.text(t -> t))
+                    .properties("doc2", p -> p.object(o -> o
+                            .properties("data1", d -> d.keyword(k -> k))
+                            .properties("data2", d -> d.long_(l -> l))))));
+
+    private ElasticsearchClient client;
+
+    private ElasticsearchIndicesClient indices;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        client = mock(ElasticsearchClient.class);
+        indices = mock(ElasticsearchIndicesClient.class);
+        when(client.indices()).thenReturn(indices);
+        when(indices.getMapping(any(GetMappingRequest.class)))
+                .thenReturn(GetMappingResponse.of(b -> b.result(INDEX, MAPPING)));
+    }
+
+    @Test
+    public void shouldReturnKeywordPaths() {
+        assertThat(IndexMappingCache.keywords(MAPPING)).containsExactlyInAnyOrder("@entity", "doc2.data1");
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenThereIsNoMapping() {
+        assertThat(IndexMappingCache.keywords((IndexMappingRecord) null)).isEmpty();
+    }
+
+    @Test
+    public void shouldCacheMapping() throws IOException {
+        IndexMappingCache cache = new IndexMappingCache(IndexMappingCache.DEFAULT_TTL);
+        assertThat(cache.keywords(client, INDEX)).contains("@entity");
+        assertThat(cache.keywords(client, INDEX)).contains("@entity");
+        verify(indices, times(1)).getMapping(any(GetMappingRequest.class));
+    }
+
+    @Test
+    public void shouldReadMappingAgainWhenInvalidated() throws IOException {
+        IndexMappingCache cache = new IndexMappingCache(IndexMappingCache.DEFAULT_TTL);
+        cache.keywords(client, INDEX);
+        cache.invalidate(INDEX);
+        cache.keywords(client, INDEX);
+        verify(indices, times(2)).getMapping(any(GetMappingRequest.class));
+    }
+
+    @Test
+    public void shouldNotCacheWhenTTLIsZero() throws IOException {
+        IndexMappingCache cache = new IndexMappingCache(0);
+        cache.keywords(client, INDEX);
+        cache.keywords(client, INDEX);
+        verify(indices, times(2)).getMapping(any(GetMappingRequest.class));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTTLIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new IndexMappingCache(-1));
+    }
+}
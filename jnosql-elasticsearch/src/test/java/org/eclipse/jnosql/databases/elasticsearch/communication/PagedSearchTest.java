@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch.core.ClosePointInTimeRequest;
+import co.elastic.clients.elasticsearch.core.ClosePointInTimeResponse;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeRequest;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeResponse;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.communication.document.DocumentQuery.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PagedSearchTest {
+
+    private static final String INDEX = "library";
+
+    private ElasticsearchClient client;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        client = mock(ElasticsearchClient.class);
+        when(client.openPointInTime(any(OpenPointInTimeRequest.class)))
+                .thenReturn(OpenPointInTimeResponse.of(b -> b.id("pit")));
+        when(client.closePointInTime(any(ClosePointInTimeRequest.class)))
+                .thenReturn(ClosePointInTimeResponse.of(b -> b.succeeded(true).numFreed(1)));
+    }
+
+    @Test
+    public void shouldReadResultThatFitsInAPageWithASingleSearch() throws IOException {
+        when(client.search(any(SearchRequest.class), eq(Map.class))).thenReturn(response(hits(0, 1)));
+
+        List<DocumentEntity> entities = select(select().from("Book").limit(2).build(), 2);
+
+        assertEquals(1, entities.size());
+        verify(client, times(1)).search(any(SearchRequest.class), eq(Map.class));
+        verify(client, never()).openPointInTime(any(OpenPointInTimeRequest.class));
+    }
+
+    @Test
+    public void shouldReadEveryPageFromThePointInTime() throws IOException {
+        when(client.search(any(SearchRequest.class), eq(Map.class)))
+                .thenReturn(response(hits(0, 2)), response(hits(2, 1)));
+
+        List<DocumentEntity> entities = select(select().from("Book").build(), 2);
+
+        assertEquals(3, entities.size());
+        ArgumentCaptor<SearchRequest> requests = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(2)).search(requests.capture(), eq(Map.class));
+        assertThat(requests.getAllValues()).allSatisfy(request -> {
+            assertNotNull(request.pit());
+            assertNull(request.from());
+            SortOptions tiebreak = request.sort().get(request.sort().size() - 1);
+            assertEquals("_shard_doc", tiebreak.field().field());
+        });
+        assertNull(requests.getAllValues().get(0).searchAfter());
+        assertNotNull(requests.getAllValues().get(1).searchAfter());
+        verify(client, times(1)).openPointInTime(any(OpenPointInTimeRequest.class));
+        verify(client, times(1)).closePointInTime(any(ClosePointInTimeRequest.class));
+    }
+
+    @Test
+    public void shouldSkipOnTheFirstPageOfThePointInTime() throws IOException {
+        when(client.search(any(SearchRequest.class), eq(Map.class))).thenReturn(response(hits(5, 1)));
+
+        List<DocumentEntity> entities = select(select().from("Book").skip(5).limit(3).build(), 2);
+
+        assertEquals(1, entities.size());
+        ArgumentCaptor<SearchRequest> request = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(1)).search(request.capture(), eq(Map.class));
+        assertNotNull(request.getValue().pit());
+        assertEquals(5, request.getValue().from());
+        assertEquals(2, request.getValue().size());
+        verify(client, times(1)).closePointInTime(any(ClosePointInTimeRequest.class));
+    }
+
+    @Test
+    public void shouldSkipBeyondTheMaxResultWindowWithSearchAfter() throws IOException {
+        when(client.search(any(SearchRequest.class), eq(Map.class))).thenAnswer(invocation -> {
+            SearchRequest request = invocation.getArgument(0);
+            boolean sources = request.source() == null || !Boolean.FALSE.equals(request.source().fetch());
+            return response(sources ? hits(0, 1) : hits(0, request.size()));
+        });
+        int skip = PagedSearch.MAX_RESULT_WINDOW + 1;
+
+        List<DocumentEntity> entities = select(select().from("Book").skip(skip).build(), PagedSearch.MAX_RESULT_WINDOW);
+
+        assertEquals(1, entities.size());
+        ArgumentCaptor<SearchRequest> requests = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(3)).search(requests.capture(), eq(Map.class));
+        assertThat(requests.getAllValues()).allSatisfy(request -> {
+            assertNotNull(request.pit());
+            assertNull(request.from());
+        });
+        assertThat(requests.getAllValues()).extracting(SearchRequest::size)
+                .containsExactly(PagedSearch.MAX_RESULT_WINDOW, 1, PagedSearch.MAX_RESULT_WINDOW);
+        assertNotNull(requests.getAllValues().get(2).searchAfter());
+    }
+
+    private List<DocumentEntity> select(DocumentQuery query, int pageSize) {
+        return EntityConverter.query(query, client, INDEX, Set.of(), pageSize).collect(Collectors.toList());
+    }
+
+    private static SearchResponse<Map> response(List<Hit<Map>> hits) {
+        return SearchResponse.<Map>of(b -> b.took(1L).timedOut(false)
+                .shards(s -> s.total(1).successful(1).failed(0))
+                .hits(h -> h.hits(hits)));
+    }
+
+    private static List<Hit<Map>> hits(int start, int size) {
+        List<Hit<Map>> hits = new ArrayList<>();
+        for (int index = start; index < start + size; index++) {
+            String id = Integer.toString(index);
+            long sort = index;
+            hits.add(Hit.<Map>of(h -> h.index(INDEX).id(id)
+                    .source(Map.of(EntityConverter.ENTITY, "Book", "name", "Effective Java"))
+                    .sort(FieldValue.of(sort))));
+        }
+        return hits;
+    }
+}
@@ -17,6 +17,7 @@ package org.eclipse.jnosql.databases.hbase.communication;
 
 import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
 import org.eclipse.jnosql.communication.column.Column;
 import org.eclipse.jnosql.communication.column.ColumnEntity;
 
@@ -30,20 +31,20 @@ import static org.apache.hadoop.hbase.CellUtil.cloneValue;
 
 class EntityUnit {
 
-    private String rowKey;
+    private Object rowKey;
 
     private String columnFamily;
 
     private final List<Column> columns = new ArrayList<>();
 
-    EntityUnit(Result result) {
+    EntityUnit(Result result, HBaseCodec codec, RowKeys rowKeys) {
 
         for (Cell cell : result.rawCells()) {
 
-            String name = new String(cloneQualifier(cell));
-            String value = new String(cloneValue(cell));
+            String name = Bytes.toString(cloneQualifier(cell));
+            Object value = codec.decode(cloneValue(cell));
             if (this.rowKey == null) {
-                this.rowKey = new String(cloneRow(cell));
+                this.rowKey = rowKeys.toKey(cloneRow(cell));
             }
             if (this.columnFamily == null) {
                 this.columnFamily = new String(cloneFamily(cell));
@@ -57,9 +58,18 @@ class EntityUnit {
         return !columns.isEmpty();
     }
 
-    public ColumnEntity toEntity() {
+    /**
+     * @param projection the columns of the query, or an empty list for all of them
+     * @return the entity with the row key and the projected columns, without the columns that were read
+     * just to filter the rows
+     */
+    public ColumnEntity toEntity(List<String> projection) {
         ColumnEntity entity = ColumnEntity.of(columnFamily);
-        entity.addAll(columns);
+        if (projection.isEmpty()) {
+            entity.addAll(columns);
+        } else {
+            columns.stream().filter(c -> projection.contains(c.name())).forEach(entity::add);
+        }
         entity.add(HBaseUtils.getKey(rowKey));
         return entity;
     }
@@ -67,7 +77,7 @@ class EntityUnit {
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("EntityUnit{");
-        sb.append("rowKey='").append(rowKey).append('\'');
+        sb.append("rowKey=").append(rowKey);
         sb.append(", columnFamily='").append(columnFamily).append('\'');
         sb.append(", columns=").append(columns);
         sb.append('}');
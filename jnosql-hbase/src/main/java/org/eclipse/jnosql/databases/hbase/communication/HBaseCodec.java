@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hbase.communication;
+
+
+import org.eclipse.jnosql.communication.Value;
+
+/**
+ * Converts the cell values, or the row keys, to the bytes stored in HBase and back. The conditions compare the
+ * encoded bytes, so an encoding that preserves the order of the values keeps the comparisons right.
+ *
+ * @see HBaseColumnConfiguration#codec(HBaseCodec)
+ * @see HBaseColumnConfiguration#rowKeyCodec(HBaseCodec)
+ */
+public interface HBaseCodec {
+
+    /**
+     * Encodes the value
+     *
+     * @param value the value
+     * @return the bytes to store
+     */
+    byte[] encode(Value value);
+
+    /**
+     * Decodes the bytes stored
+     *
+     * @param bytes the bytes
+     * @return the value
+     */
+    Object decode(byte[] bytes);
+
+    /**
+     * Whether the encoded bytes of the value compare, as unsigned bytes, in the order of the values of its type.
+     * The row key ranges are rejected for the values whose order the codec does not keep. By default, true.
+     *
+     * @param value the value
+     * @return true when the encoding keeps the order of the value
+     */
+    default boolean isOrdered(Object value) {
+        return true;
+    }
+
+    /**
+     * The default codec: it stores strings, numbers, booleans, dates and times in compact binary forms, prefixed
+     * by a type tag, so the reads return the original type and the values of the same type keep their order.
+     * Bytes without a type tag, as written by {@link HBaseCodec#string()}, are read as strings, but the column
+     * conditions compare the tagged bytes, so they do not match those cells until they are written again.
+     *
+     * @return the typed codec
+     */
+    static HBaseCodec typed() {
+        return TypedCodec.INSTANCE;
+    }
+
+    /**
+     * The codec that stores every value as its UTF-8 text, which is how the values were stored before
+     * {@link HBaseCodec#typed()}, and reads every value as a string.
+     *
+     * @return the string codec
+     */
+    static HBaseCodec string() {
+        return StringCodec.INSTANCE;
+    }
+}
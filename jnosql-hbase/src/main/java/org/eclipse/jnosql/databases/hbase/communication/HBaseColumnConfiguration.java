@@ -17,6 +17,7 @@ package org.eclipse.jnosql.databases.hbase.communication;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.HBaseConfiguration;
+import org.apache.hadoop.hbase.client.BufferedMutator;
 import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.column.ColumnConfiguration;
 
@@ -37,6 +38,12 @@ public class HBaseColumnConfiguration implements ColumnConfiguration {
 
     private final List<String> families = new ArrayList<>();
 
+    private BufferedMutator.ExceptionListener exceptionListener;
+
+    private HBaseCodec codec = HBaseCodec.typed();
+
+    private HBaseCodec rowKeyCodec = HBaseCodec.string();
+
     /**
      * creates an {@link HBaseColumnConfiguration} instance with {@link HBaseConfiguration#create()}
      */
@@ -76,7 +83,42 @@ public class HBaseColumnConfiguration implements ColumnConfiguration {
         this.families.add(requireNonNull(family, "family is required"));
     }
 
+    /**
+     * Defines the listener that receives the mutations that failed on the write buffer, row by row. Without
+     * a listener, the failures are thrown as {@link HBaseException} on the next write or flush.
+     *
+     * @param exceptionListener the listener
+     * @throws NullPointerException when exceptionListener is null
+     */
+    public void exceptionListener(BufferedMutator.ExceptionListener exceptionListener) {
+        this.exceptionListener = requireNonNull(exceptionListener, "exceptionListener is required");
+    }
+
+
 
+    /**
+     * Defines the codec of the cell values. By default, {@link HBaseCodec#typed()}. The row keys have their own
+     * codec, see {@link HBaseColumnConfiguration#rowKeyCodec(HBaseCodec)}.
+     *
+     * @param codec the codec
+     * @throws NullPointerException when codec is null
+     */
+    public void codec(HBaseCodec codec) {
+        this.codec = requireNonNull(codec, "codec is required");
+    }
+
+    /**
+     * Defines the codec of the row keys. By default, {@link HBaseCodec#string()}, the text of the keys, which is
+     * how the existing tables store them; the row key ranges then just compare strings. {@link HBaseCodec#typed()}
+     * keeps the order of the numbers, dates and times, so their ranges are right, but the rows of a table must all
+     * be written with the same row key codec to be found.
+     *
+     * @param rowKeyCodec the codec
+     * @throws NullPointerException when rowKeyCodec is null
+     */
+    public void rowKeyCodec(HBaseCodec rowKeyCodec) {
+        this.rowKeyCodec = requireNonNull(rowKeyCodec, "rowKeyCodec is required");
+    }
 
     @Override
     public HBaseColumnManagerFactory apply(Settings settings) throws NullPointerException {
@@ -84,7 +126,14 @@ public class HBaseColumnConfiguration implements ColumnConfiguration {
 
         List<String> families = settings.prefix(HbaseConfigurations.FAMILY)
                 .stream().map(Object::toString).collect(Collectors.toList());
-        return new HBaseColumnManagerFactory(configuration, families);
+        Long writeBufferSize = settings.get(HbaseConfigurations.WRITE_BUFFER_SIZE)
+                .map(Object::toString).map(Long::parseLong).orElse(null);
+        long periodicFlush = settings.get(HbaseConfigurations.WRITE_BUFFER_PERIODIC_FLUSH)
+                .map(Object::toString).map(Long::parseLong).orElse(HBaseColumnManagerFactory.DEFAULT_PERIODIC_FLUSH);
+        int saltBuckets = settings.get(HbaseConfigurations.SALT_BUCKETS)
+                .map(Object::toString).map(Integer::parseInt).orElse(0);
+        return new HBaseColumnManagerFactory(configuration, families, writeBufferSize, periodicFlush,
+                exceptionListener, codec, rowKeyCodec, saltBuckets);
     }
 
     @Override
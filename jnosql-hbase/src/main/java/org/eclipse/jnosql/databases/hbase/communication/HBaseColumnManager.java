@@ -15,18 +15,19 @@
 package org.eclipse.jnosql.databases.hbase.communication;
 
 
+import org.apache.hadoop.hbase.client.BufferedMutator;
 import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.Delete;
 import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.filter.FirstKeyOnlyFilter;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.TypeReference;
-import org.eclipse.jnosql.communication.Value;
-import org.eclipse.jnosql.communication.ValueWriter;
-import org.eclipse.jnosql.communication.ValueWriterDecorator;
 import org.eclipse.jnosql.communication.column.Column;
 import org.eclipse.jnosql.communication.column.ColumnCondition;
 import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
@@ -37,8 +38,12 @@ import org.eclipse.jnosql.communication.column.ColumnQuery;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -53,21 +58,37 @@ import static org.eclipse.jnosql.communication.Condition.OR;
  * The Hbase implementation to {@link ColumnManager}.
  * It does not support TTL methods
  * <p>{@link HBaseColumnManager#insert(ColumnEntity, Duration)}</p>
+ * <p>The queries by row keys with EQUALS, IN and OR are read with gets; any other query is a scan of the
+ * column family, streamed as it is read, see {@link ScanConverter}.</p>
+ * <p>The inserts and updates of several entities go through a write buffer, a {@link BufferedMutator},
+ * which is flushed before they return. {@link HBaseColumnManager#buffer(Iterable)} leaves the entities in the
+ * buffer, to be sent when it is full, on the periodic flush, or on {@link HBaseColumnManager#flush()}.</p>
  */
 public class HBaseColumnManager implements ColumnManager {
 
+    /**
+     * The number of rows fetched per RPC when counting.
+     */
+    private static final int COUNT_CACHING = 1000;
+
     private static final String KEY_REQUIRED_ERROR = "\"To save an entity is necessary to have an row, a Column that has a blank name. Documents.of(\\\"\\\", keyValue);\"";
 
     private final Connection connection;
     private final Table table;
-    private final ValueWriter writerField = ValueWriterDecorator.getInstance();
+    private final BufferedMutator mutator;
+    private final HBaseCodec codec;
+    private final RowKeys rowKeys;
 
     private final String database;
 
 
-    HBaseColumnManager(Connection connection, Table table, String database) {
+    HBaseColumnManager(Connection connection, Table table, BufferedMutator mutator, HBaseCodec codec,
+                       RowKeys rowKeys, String database) {
         this.connection = connection;
         this.table = table;
+        this.mutator = mutator;
+        this.codec = codec;
+        this.rowKeys = rowKeys;
         this.database = database;
     }
 
@@ -79,20 +100,12 @@ public class HBaseColumnManager implements ColumnManager {
     @Override
     public ColumnEntity insert(ColumnEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
-        String family = entity.name();
-        List<Column> columns = entity.columns();
-        if (columns.isEmpty()) {
+        Optional<Put> put = toPut(entity);
+        if (put.isEmpty()) {
             return entity;
         }
-        Column columnID = entity.find(HBaseUtils.KEY_COLUMN).orElseThrow(() -> new HBaseException(KEY_REQUIRED_ERROR));
-
-        Put put = new Put(Bytes.toBytes(valueToString(columnID.value())));
-        columns.stream().filter(Predicate.isEqual(columnID).negate()).forEach(column ->
-                put.addColumn(Bytes.toBytes(family),
-                        Bytes.toBytes(column.name()),
-                        Bytes.toBytes(valueToString(column.value()))));
         try {
-            table.put(put);
+            table.put(put.get());
         } catch (IOException e) {
             throw new HBaseException("An error happened when try to save an entity", e);
         }
@@ -106,10 +119,7 @@ public class HBaseColumnManager implements ColumnManager {
 
     @Override
     public Iterable<ColumnEntity> update(Iterable<ColumnEntity> entities) {
-        Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update)
-                .collect(Collectors.toList());
+        return insert(entities);
     }
 
     @Override
@@ -119,10 +129,47 @@ public class HBaseColumnManager implements ColumnManager {
 
     @Override
     public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities) {
+        List<ColumnEntity> inserted = buffer(entities);
+        flush();
+        return inserted;
+    }
+
+    /**
+     * Adds the entities to the write buffer without waiting for them to be sent. They are sent when the buffer
+     * is full, on the periodic flush, or on {@link HBaseColumnManager#flush()} and {@link HBaseColumnManager#close()}.
+     *
+     * @param entities the entities
+     * @return the entities
+     * @throws NullPointerException when entities is null
+     * @throws HBaseException       when an entity does not have a row key or the buffer fails to send mutations
+     */
+    public List<ColumnEntity> buffer(Iterable<ColumnEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert)
-                .collect(Collectors.toList());
+        List<ColumnEntity> buffered = new ArrayList<>();
+        List<Put> puts = new ArrayList<>();
+        for (ColumnEntity entity : entities) {
+            toPut(Objects.requireNonNull(entity, "entity is required")).ifPresent(puts::add);
+            buffered.add(entity);
+        }
+        try {
+            mutator.mutate(puts);
+        } catch (IOException e) {
+            throw new HBaseException("An error happened when try to save entities", e);
+        }
+        return buffered;
+    }
+
+    /**
+     * Sends the mutations in the write buffer and waits for them.
+     *
+     * @throws HBaseException when any mutation fails and there is no exception listener
+     */
+    public void flush() {
+        try {
+            mutator.flush();
+        } catch (IOException e) {
+            throw new HBaseException("An error happened when try to flush the write buffer", e);
+        }
     }
 
     @Override
@@ -141,12 +188,9 @@ public class HBaseColumnManager implements ColumnManager {
         ColumnCondition condition = query.condition()
                 .orElseThrow(() -> new IllegalArgumentException("Condition is required"));
         checkedCondition(condition);
-        List<String> values = new ArrayList<>();
-
-        convert(condition, values);
-        List<Delete> deletes = values
+        List<Delete> deletes = ScanConverter.keys(condition)
                 .stream()
-                .map(String::getBytes)
+                .map(rowKeys::toRow)
                 .map(Delete::new)
                 .collect(toList());
         try {
@@ -161,68 +205,124 @@ public class HBaseColumnManager implements ColumnManager {
     @Override
     public Stream<ColumnEntity> select(ColumnQuery query) {
         Objects.requireNonNull(query, "query is required");
-        ColumnCondition condition = query.condition()
-                .orElseThrow(() -> new IllegalArgumentException("Condition is required"));
-        checkedCondition(condition);
-        return Stream.of(findById(condition))
-                .map(EntityUnit::new).filter(EntityUnit::isNotEmpty)
-                .map(EntityUnit::toEntity);
+        Optional<List<Get>> gets = ScanConverter.gets(query, rowKeys);
+        if (gets.isPresent()) {
+            return Stream.of(get(gets.get()))
+                    .map(this::toUnit).filter(EntityUnit::isNotEmpty)
+                    .map(u -> u.toEntity(query.columns()));
+        }
+        Stream<ColumnEntity> entities = ScanConverter.convert(query, codec, rowKeys).stream()
+                .flatMap(this::scan)
+                .map(this::toUnit).filter(EntityUnit::isNotEmpty)
+                .map(u -> u.toEntity(query.columns()));
+        if (query.skip() > 0) {
+            entities = entities.skip(query.skip());
+        }
+        if (query.limit() > 0) {
+            entities = entities.limit(query.limit());
+        }
+        return entities;
     }
 
+    /**
+     * Counts the rows that have the column family, reading just the first cell of each row.
+     *
+     * @param columnFamily the column family
+     * @return the number of rows
+     */
     @Override
     public long count(String columnFamily) {
-        throw new UnsupportedOperationException("Hbase does not have support to count method");
+        Objects.requireNonNull(columnFamily, "columnFamily is required");
+        Scan scan = new Scan().addFamily(Bytes.toBytes(columnFamily))
+                .setFilter(new FirstKeyOnlyFilter())
+                .setCaching(COUNT_CACHING)
+                .setCacheBlocks(false);
+        try (ResultScanner scanner = table.getScanner(scan)) {
+            long count = 0;
+            while (scanner.next() != null) {
+                count++;
+            }
+            return count;
+        } catch (IOException e) {
+            throw new HBaseException("An error when try to count the column family " + columnFamily, e);
+        }
     }
 
 
+    /**
+     * Closes the write buffer, which sends its last mutations, then the table and the connection. Each one is
+     * closed even when the previous one fails.
+     *
+     * @throws HBaseException when a resource fails to close, or a buffered mutation fails and there is no
+     *                        exception listener
+     */
     @Override
     public void close() {
-        try {
-            connection.close();
-            table.close();
+        try (Connection openConnection = connection; Table openTable = table; BufferedMutator buffer = mutator) {
+            // closed in the reverse order: the buffer, the table and the connection
         } catch (IOException e) {
-            e.printStackTrace();
+            throw new HBaseException("An error happened when try to close the manager", e);
         }
     }
 
-    private String valueToString(Value value) {
-        Object object = value.get();
-        if (writerField.test(object.getClass())) {
-            return writerField.write(object).toString();
-        } else {
-            return object.toString();
+    private Optional<Put> toPut(ColumnEntity entity) {
+        String family = entity.name();
+        List<Column> columns = entity.columns();
+        if (columns.isEmpty()) {
+            return Optional.empty();
         }
+        Column columnID = entity.find(HBaseUtils.KEY_COLUMN).orElseThrow(() -> new HBaseException(KEY_REQUIRED_ERROR));
+
+        Put put = new Put(rowKeys.toRow(columnID.value()));
+        columns.stream().filter(Predicate.isEqual(columnID).negate()).forEach(column ->
+                put.addColumn(Bytes.toBytes(family),
+                        Bytes.toBytes(column.name()),
+                        codec.encode(column.value())));
+        return Optional.of(put);
     }
 
-    private Result[] findById(ColumnCondition condition) {
-        List<String> values = new ArrayList<>();
-        convert(condition, values);
+    private EntityUnit toUnit(Result result) {
+        return new EntityUnit(result, codec, rowKeys);
+    }
 
-        List<Get> gets = values.stream()
-                .map(String::getBytes)
-                .map(Get::new).collect(toList());
+    /**
+     * Streams the results as the scanner fetches them, closing it when it is exhausted or the stream is closed.
+     */
+    private Stream<Result> scan(Scan scan) {
+        ResultScanner scanner;
         try {
-            return table.get(gets);
+            scanner = table.getScanner(scan);
         } catch (IOException e) {
-            throw new HBaseException("An error when try to find by id", e);
+            throw new HBaseException("An error when try to scan", e);
         }
-    }
-
+        Iterator<Result> results = new Iterator<>() {
 
-    private void convert(ColumnCondition columnCondition, List<String> values) {
-        Condition condition = columnCondition.condition();
+            private final Iterator<Result> iterator = scanner.iterator();
 
-        if (OR.equals(condition)) {
-            columnCondition.column().get(new TypeReference<List<ColumnCondition>>() {
-            }).forEach(c -> convert(c, values));
-        } else if (IN.equals(condition)) {
-            values.addAll(columnCondition.column().get(new TypeReference<List<String>>() {
-            }));
-        } else if (EQUALS.equals(condition)) {
-            values.add(valueToString(columnCondition.column().value()));
-        }
+            @Override
+            public boolean hasNext() {
+                if (iterator.hasNext()) {
+                    return true;
+                }
+                scanner.close();
+                return false;
+            }
 
+            @Override
+            public Result next() {
+                return iterator.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(results, Spliterator.ORDERED), false)
+                .onClose(scanner::close);
+    }
 
+    private Result[] get(List<Get> gets) {
+        try {
+            return table.get(gets);
+        } catch (IOException e) {
+            throw new HBaseException("An error when try to find by id", e);
+        }
     }
 
     private void checkedCondition(ColumnCondition columnCondition) {
@@ -18,6 +18,8 @@ package org.eclipse.jnosql.databases.hbase.communication;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.BufferedMutatorParams;
 import org.apache.hadoop.hbase.client.ColumnFamilyDescriptor;
 import org.apache.hadoop.hbase.client.ColumnFamilyDescriptorBuilder;
 import org.apache.hadoop.hbase.client.Connection;
@@ -34,13 +36,42 @@ import java.util.stream.Collectors;
 
 public class HBaseColumnManagerFactory implements ColumnManagerFactory {
 
+    static final long DEFAULT_PERIODIC_FLUSH = 1000L;
+
     private final Configuration configuration;
 
     private final List<String> families;
 
+    private final Long writeBufferSize;
+
+    private final long periodicFlush;
+
+    private final BufferedMutator.ExceptionListener exceptionListener;
+
+    private final HBaseCodec codec;
+
+    private final RowKeys rowKeys;
+
     HBaseColumnManagerFactory(Configuration configuration, List<String> families) {
+        this(configuration, families, null, DEFAULT_PERIODIC_FLUSH, null, HBaseCodec.typed(), HBaseCodec.string(), 0);
+    }
+
+    HBaseColumnManagerFactory(Configuration configuration, List<String> families, Long writeBufferSize,
+                              long periodicFlush, BufferedMutator.ExceptionListener exceptionListener,
+                              HBaseCodec codec, HBaseCodec rowKeyCodec, int saltBuckets) {
+        if (writeBufferSize != null && writeBufferSize <= 0) {
+            throw new IllegalArgumentException("The write buffer size must be greater than zero: " + writeBufferSize);
+        }
+        if (periodicFlush < 0) {
+            throw new IllegalArgumentException("The periodic flush must not be negative: " + periodicFlush);
+        }
         this.configuration = configuration;
         this.families = families;
+        this.writeBufferSize = writeBufferSize;
+        this.periodicFlush = periodicFlush;
+        this.exceptionListener = exceptionListener;
+        this.codec = codec;
+        this.rowKeys = new RowKeys(rowKeyCodec, saltBuckets);
     }
 
     @Override
@@ -55,12 +86,29 @@ public class HBaseColumnManagerFactory implements ColumnManagerFactory {
                 createTable(admin, tableName);
             }
             Table table = connection.getTable(tableName);
-            return new HBaseColumnManager(connection, table, database);
+            return new HBaseColumnManager(connection, table, connection.getBufferedMutator(params(tableName)),
+                    codec, rowKeys, database);
         } catch (IOException e) {
             throw new HBaseException("A error happened when try to create ColumnManager", e);
         }
     }
 
+    /**
+     * The write buffer of the managers: it is flushed when it reaches the write buffer size, on the periodic
+     * flush, and on {@link HBaseColumnManager#flush()} and {@link HBaseColumnManager#close()}. The mutations
+     * that fail are reported to the exception listener, when there is one, or thrown on the next write.
+     */
+    private BufferedMutatorParams params(TableName tableName) {
+        BufferedMutatorParams params = new BufferedMutatorParams(tableName)
+                .setWriteBufferPeriodicFlushTimeoutMs(periodicFlush);
+        if (writeBufferSize != null) {
+            params.writeBufferSize(writeBufferSize);
+        }
+        if (exceptionListener != null) {
+            params.listener(exceptionListener);
+        }
+        return params;
+    }
 
     private void existTable(Admin admin, TableName tableName) throws IOException {
         TableDescriptor tableDescriptor = admin.getDescriptor(tableName);
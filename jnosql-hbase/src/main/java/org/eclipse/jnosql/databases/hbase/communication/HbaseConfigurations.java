@@ -29,7 +29,22 @@ public enum  HbaseConfigurations implements Supplier<String> {
     /**
      * The Column family prefixes. E.g.: jnosql.hbase.family.1=FAMILY
      */
-    FAMILY("jnosql.hbase.family");
+    FAMILY("jnosql.hbase.family"),
+    /**
+     * The size, in bytes, of the write buffer that groups the mutations before they are sent to the region
+     * servers. By default, it uses the hbase.client.write.buffer of the HBase configuration.
+     */
+    WRITE_BUFFER_SIZE("jnosql.hbase.write.buffer.size"),
+    /**
+     * The time, in milliseconds, after which the write buffer is flushed even when it is not full. By default,
+     * 1000 milliseconds; zero disables the periodic flush.
+     */
+    WRITE_BUFFER_PERIODIC_FLUSH("jnosql.hbase.write.buffer.periodic.flush"),
+    /**
+     * The number of salt buckets, up to 256, that spread the row keys across the regions with a one byte prefix.
+     * By default, zero: the row keys are not salted. Changing it makes the rows written before unreachable.
+     */
+    SALT_BUCKETS("jnosql.hbase.salt.buckets");
 
     private final String configuration;
 
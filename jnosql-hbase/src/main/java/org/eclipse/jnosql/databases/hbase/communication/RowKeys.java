@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hbase.communication;
+
+
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.Arrays;
+
+/**
+ * Converts the row key column to the HBase row and back with the row key codec. By default, it is
+ * {@link HBaseCodec#string()}, whatever the codec of the cell values, so the rows keep the layout they had before
+ * {@link HBaseCodec} and are found by id. The row key ranges compare the encoded rows, so they are rejected for
+ * the keys whose order the codec does not keep, as the numbers stored as text: {@link HBaseCodec#typed()} keeps it.
+ * When there are salt buckets, the row starts with one byte, the hash of the encoded key modulo the number of
+ * buckets, so the sequential keys are spread across the regions instead of all being written to the last one.
+ */
+final class RowKeys {
+
+    static final int MAX_SALT_BUCKETS = 256;
+
+    private final HBaseCodec codec;
+
+    private final int buckets;
+
+    RowKeys(int buckets) {
+        this(HBaseCodec.string(), buckets);
+    }
+
+    RowKeys(HBaseCodec codec, int buckets) {
+        if (buckets < 0 || buckets > MAX_SALT_BUCKETS) {
+            throw new IllegalArgumentException("The salt buckets must be between 0 and " + MAX_SALT_BUCKETS
+                    + ": " + buckets);
+        }
+        this.codec = codec;
+        this.buckets = buckets;
+    }
+
+    /**
+     * @param key the row key value
+     * @return the row, salted when there are buckets
+     */
+    byte[] toRow(Value key) {
+        return salt(encode(key));
+    }
+
+    /**
+     * @param key the row key value
+     * @return the row without the salt, as the row key ranges compare it
+     */
+    byte[] encode(Value key) {
+        return codec.encode(key);
+    }
+
+    /**
+     * @param key the bound of a row key range
+     * @return the row without the salt
+     * @throws UnsupportedOperationException when the row key codec does not keep the order of the bound
+     */
+    byte[] encodeBound(Value key) {
+        Object value = key.get();
+        if (!codec.isOrdered(value)) {
+            throw new UnsupportedOperationException("The row key codec does not keep the order of "
+                    + value.getClass().getName() + ", so the row keys cannot be compared with " + value
+                    + "; define HBaseCodec.typed() as the row key codec to compare them");
+        }
+        return codec.encode(key);
+    }
+
+    /**
+     * @param row the row
+     * @return the row key value
+     */
+    Object toKey(byte[] row) {
+        return codec.decode(isSalted() ? Arrays.copyOfRange(row, 1, row.length) : row);
+    }
+
+    boolean isSalted() {
+        return buckets > 0;
+    }
+
+    int buckets() {
+        return buckets;
+    }
+
+    private byte[] salt(byte[] key) {
+        if (!isSalted()) {
+            return key;
+        }
+        byte[] row = new byte[key.length + 1];
+        row[0] = (byte) ((Arrays.hashCode(key) & Integer.MAX_VALUE) % buckets);
+        System.arraycopy(key, 0, row, 1, key.length);
+        return row;
+    }
+}
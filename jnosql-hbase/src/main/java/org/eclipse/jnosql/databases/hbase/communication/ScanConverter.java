@@ -0,0 +1,441 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hbase.communication;
+
+
+import jakarta.data.repository.Sort;
+import org.apache.hadoop.hbase.CompareOperator;
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.filter.BinaryComparator;
+import org.apache.hadoop.hbase.filter.ByteArrayComparable;
+import org.apache.hadoop.hbase.filter.Filter;
+import org.apache.hadoop.hbase.filter.FilterList;
+import org.apache.hadoop.hbase.filter.RegexStringComparator;
+import org.apache.hadoop.hbase.filter.RowFilter;
+import org.apache.hadoop.hbase.filter.SingleColumnValueFilter;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.ValueUtil;
+import org.eclipse.jnosql.communication.column.Column;
+import org.eclipse.jnosql.communication.column.ColumnCondition;
+import org.eclipse.jnosql.communication.column.ColumnQuery;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.toList;
+import static org.eclipse.jnosql.communication.Condition.EQUALS;
+import static org.eclipse.jnosql.communication.Condition.IN;
+import static org.eclipse.jnosql.communication.Condition.OR;
+
+/**
+ * Converts a {@link ColumnQuery} to the gets or the scans that read it. A condition that just matches row keys
+ * with EQUALS, IN and OR is read with a {@link Get} for each key. Otherwise, the row key conditions of the top level AND narrow the
+ * start and stop rows of the scan; every other condition becomes a server-side filter: {@link RowFilter} for
+ * the row key and {@link SingleColumnValueFilter} for the columns. The projection becomes the scanned columns,
+ * the limit is pushed down, and a descending sort by the row key becomes a reversed scan. With salted row keys,
+ * there is a scan for each salt bucket, with the same range after the salt byte.
+ */
+final class ScanConverter {
+
+    private final byte[] family;
+
+    private final HBaseCodec codec;
+
+    private final RowKeys rowKeys;
+
+    private final Set<String> qualifiers = new LinkedHashSet<>();
+
+    private byte[] start = HConstants.EMPTY_START_ROW;
+
+    private boolean startInclusive = true;
+
+    private byte[] stop = HConstants.EMPTY_END_ROW;
+
+    private boolean stopInclusive = false;
+
+    private ScanConverter(String family, HBaseCodec codec, RowKeys rowKeys) {
+        this.family = Bytes.toBytes(family);
+        this.codec = codec;
+        this.rowKeys = rowKeys;
+    }
+
+    /**
+     * Converts the query.
+     *
+     * @param query   the query
+     * @param codec   the codec of the cell values
+     * @param rowKeys the conversion of the row keys
+     * @return the scans, one per salt bucket when the row keys are salted
+     * @throws UnsupportedOperationException when the query sorts by a column other than the row key, or sorts
+     *                                       or compares salted row keys out of the top level AND
+     */
+    static List<Scan> convert(ColumnQuery query, HBaseCodec codec, RowKeys rowKeys) {
+        return new ScanConverter(query.name(), codec, rowKeys).scans(query);
+    }
+
+    /**
+     * Converts a query by row keys.
+     *
+     * @param query   the query
+     * @param rowKeys the conversion of the row keys
+     * @return a get for each row key, or empty when the condition does not just match row keys with EQUALS,
+     * IN and OR
+     */
+    static Optional<List<Get>> gets(ColumnQuery query, RowKeys rowKeys) {
+        Optional<ColumnCondition> condition = query.condition();
+        if (condition.isEmpty() || !isFindById(condition.get())) {
+            return Optional.empty();
+        }
+        return Optional.of(keys(condition.get()).stream()
+                .map(rowKeys::toRow)
+                .map(Get::new)
+                .collect(toList()));
+    }
+
+    /**
+     * @param condition the condition
+     * @return the row key values of the EQUALS and IN conditions, including those nested in OR
+     */
+    static List<Value> keys(ColumnCondition condition) {
+        List<Value> values = new ArrayList<>();
+        keys(condition, values);
+        return values;
+    }
+
+    private static void keys(ColumnCondition columnCondition, List<Value> values) {
+        Condition condition = columnCondition.condition();
+        if (OR.equals(condition)) {
+            columnCondition.column().get(new TypeReference<List<ColumnCondition>>() {
+            }).forEach(c -> keys(c, values));
+        } else if (IN.equals(condition)) {
+            ValueUtil.convertToList(columnCondition.column().value()).stream()
+                    .map(Value::of)
+                    .forEach(values::add);
+        } else if (EQUALS.equals(condition)) {
+            values.add(columnCondition.column().value());
+        }
+    }
+
+    private static boolean isFindById(ColumnCondition columnCondition) {
+        Condition condition = columnCondition.condition();
+        if (OR.equals(condition)) {
+            List<ColumnCondition> columnConditions = columnCondition.column().get(new TypeReference<>() {
+            });
+            return columnConditions.stream().allMatch(ScanConverter::isFindById);
+        }
+        return (EQUALS.equals(condition) || IN.equals(condition))
+                && HBaseUtils.KEY_COLUMN.equals(columnCondition.column().name());
+    }
+
+    private List<Scan> scans(ColumnQuery query) {
+        List<Filter> filters = new ArrayList<>();
+        query.condition().ifPresent(condition -> {
+            for (ColumnCondition conjunct : conjuncts(condition)) {
+                if (!narrow(conjunct)) {
+                    filters.add(filter(conjunct, false));
+                }
+            }
+        });
+        List<String> columns = query.columns().stream()
+                .filter(c -> !HBaseUtils.KEY_COLUMN.equals(c)).collect(toList());
+        qualifiers.addAll(columns);
+        Filter filter = null;
+        if (filters.size() == 1) {
+            filter = filters.get(0);
+        } else if (!filters.isEmpty()) {
+            filter = new FilterList(FilterList.Operator.MUST_PASS_ALL, filters);
+        }
+        boolean reversed = isReversed(query.sorts());
+        if (!rowKeys.isSalted()) {
+            Scan scan = scan(query, columns.isEmpty(), filter);
+            if (reversed) {
+                scan.setReversed(true);
+                return List.of(scan.withStartRow(stop, stopInclusive).withStopRow(start, startInclusive));
+            }
+            return List.of(scan.withStartRow(start, startInclusive).withStopRow(stop, stopInclusive));
+        }
+        if (!query.sorts().isEmpty()) {
+            throw new UnsupportedOperationException("The salted row keys are not sorted across the salt buckets");
+        }
+        List<Scan> scans = new ArrayList<>();
+        for (int bucket = 0; bucket < rowKeys.buckets(); bucket++) {
+            byte[] salt = {(byte) bucket};
+            Scan scan = scan(query, columns.isEmpty(), filter)
+                    .withStartRow(Bytes.add(salt, start), start.length == 0 || startInclusive);
+            if (stop.length > 0) {
+                scan.withStopRow(Bytes.add(salt, stop), stopInclusive);
+            } else if (bucket + 1 < RowKeys.MAX_SALT_BUCKETS) {
+                scan.withStopRow(new byte[]{(byte) (bucket + 1)}, false);
+            }
+            scans.add(scan);
+        }
+        return scans;
+    }
+
+    private Scan scan(ColumnQuery query, boolean allColumns, Filter filter) {
+        Scan scan = new Scan();
+        if (allColumns) {
+            scan.addFamily(family);
+        } else {
+            qualifiers.forEach(q -> scan.addColumn(family, Bytes.toBytes(q)));
+        }
+        if (filter != null) {
+            scan.setFilter(filter);
+        }
+        if (query.limit() > 0) {
+            scan.setLimit((int) Math.min(Integer.MAX_VALUE, query.limit() + query.skip()));
+        }
+        return scan;
+    }
+
+    private static List<ColumnCondition> conjuncts(ColumnCondition condition) {
+        if (Condition.AND.equals(condition.condition())) {
+            return condition.column().get(new TypeReference<>() {
+            });
+        }
+        return List.of(condition);
+    }
+
+    private static boolean isReversed(List<Sort> sorts) {
+        boolean reversed = false;
+        for (Sort sort : sorts) {
+            if (!HBaseUtils.KEY_COLUMN.equals(sort.property())) {
+                throw new UnsupportedOperationException("HBase just sorts by the row key " + HBaseUtils.KEY_COLUMN
+                        + ", it does not support the sort by " + sort.property());
+            }
+            reversed = !sort.isAscending();
+        }
+        return reversed;
+    }
+
+    /**
+     * Narrows the start and stop rows with a row key condition.
+     *
+     * @return false when the condition is not a row key range, so it needs a filter
+     */
+    private boolean narrow(ColumnCondition condition) {
+        Column column = condition.column();
+        if (!HBaseUtils.KEY_COLUMN.equals(column.name())) {
+            return false;
+        }
+        switch (condition.condition()) {
+            case EQUALS:
+                byte[] row = rowKeys.encode(column.value());
+                lower(row, true);
+                upper(row, true);
+                return true;
+            case GREATER_THAN:
+                lower(rowKeys.encodeBound(column.value()), false);
+                return true;
+            case GREATER_EQUALS_THAN:
+                lower(rowKeys.encodeBound(column.value()), true);
+                return true;
+            case LESSER_THAN:
+                upper(rowKeys.encodeBound(column.value()), false);
+                return true;
+            case LESSER_EQUALS_THAN:
+                upper(rowKeys.encodeBound(column.value()), true);
+                return true;
+            case BETWEEN:
+                List<byte[]> bounds = keys(column.value());
+                lower(bounds.get(0), true);
+                upper(bounds.get(1), true);
+                return true;
+            case LIKE:
+                String pattern = column.value().get(String.class);
+                String prefix = pattern.endsWith("%") ? pattern.substring(0, pattern.length() - 1) : null;
+                if (prefix == null || prefix.isEmpty() || prefix.contains("%") || prefix.contains("_")) {
+                    return false;
+                }
+                byte[] prefixRow = rowKeys.encode(Value.of(prefix));
+                lower(prefixRow, true);
+                byte[] next = nextPrefix(prefixRow);
+                if (next.length > 0) {
+                    upper(next, false);
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void lower(byte[] row, boolean inclusive) {
+        int compare = Bytes.compareTo(row, start);
+        if (start.length == 0 || compare > 0 || (compare == 0 && !inclusive)) {
+            start = row;
+            startInclusive = inclusive;
+        }
+    }
+
+    private void upper(byte[] row, boolean inclusive) {
+        int compare = Bytes.compareTo(row, stop);
+        if (stop.length == 0 || compare < 0 || (compare == 0 && !inclusive)) {
+            stop = row;
+            stopInclusive = inclusive;
+        }
+    }
+
+    /**
+     * The first row after all the rows that start with the prefix, or an empty array when there is none.
+     */
+    private static byte[] nextPrefix(byte[] prefix) {
+        for (int index = prefix.length - 1; index >= 0; index--) {
+            if (prefix[index] != (byte) 0xFF) {
+                byte[] next = Arrays.copyOf(prefix, index + 1);
+                next[index]++;
+                return next;
+            }
+        }
+        return HConstants.EMPTY_END_ROW;
+    }
+
+    private Filter filter(ColumnCondition condition, boolean negate) {
+        Column column = condition.column();
+        String name = column.name();
+        switch (condition.condition()) {
+            case EQUALS:
+                return compare(name, negate ? CompareOperator.NOT_EQUAL : CompareOperator.EQUAL, column.value());
+            case GREATER_THAN:
+                return compare(name, negate ? CompareOperator.LESS_OR_EQUAL : CompareOperator.GREATER,
+                        column.value());
+            case GREATER_EQUALS_THAN:
+                return compare(name, negate ? CompareOperator.LESS : CompareOperator.GREATER_OR_EQUAL,
+                        column.value());
+            case LESSER_THAN:
+                return compare(name, negate ? CompareOperator.GREATER_OR_EQUAL : CompareOperator.LESS,
+                        column.value());
+            case LESSER_EQUALS_THAN:
+                return compare(name, negate ? CompareOperator.GREATER : CompareOperator.LESS_OR_EQUAL,
+                        column.value());
+            case LIKE:
+                return like(name, negate ? CompareOperator.NOT_EQUAL : CompareOperator.EQUAL,
+                        column.value().get(String.class));
+            case IN:
+                List<Filter> in = ValueUtil.convertToList(column.value()).stream()
+                        .map(v -> compare(name, negate ? CompareOperator.NOT_EQUAL : CompareOperator.EQUAL,
+                                Value.of(v)))
+                        .collect(toList());
+                return new FilterList(negate ? FilterList.Operator.MUST_PASS_ALL : FilterList.Operator.MUST_PASS_ONE,
+                        in);
+            case BETWEEN:
+                List<Object> bounds = ValueUtil.convertToList(column.value());
+                return new FilterList(negate ? FilterList.Operator.MUST_PASS_ONE : FilterList.Operator.MUST_PASS_ALL,
+                        compare(name, negate ? CompareOperator.LESS : CompareOperator.GREATER_OR_EQUAL,
+                                Value.of(bounds.get(0))),
+                        compare(name, negate ? CompareOperator.GREATER : CompareOperator.LESS_OR_EQUAL,
+                                Value.of(bounds.get(1))));
+            case NOT:
+                return filter(column.get(ColumnCondition.class), !negate);
+            case AND:
+                return list(column, negate, negate ? FilterList.Operator.MUST_PASS_ONE
+                        : FilterList.Operator.MUST_PASS_ALL);
+            case OR:
+                return list(column, negate, negate ? FilterList.Operator.MUST_PASS_ALL
+                        : FilterList.Operator.MUST_PASS_ONE);
+            default:
+                throw new UnsupportedOperationException("Hbase does not support the following condition: "
+                        + condition.condition());
+        }
+    }
+
+    private Filter list(Column column, boolean negate, FilterList.Operator operator) {
+        List<ColumnCondition> conditions = column.get(new TypeReference<>() {
+        });
+        return new FilterList(operator, conditions.stream().map(c -> filter(c, negate)).collect(toList()));
+    }
+
+    /**
+     * Compares the encoded value. The salted row keys are not in the order of the keys, so the row key
+     * filters just compare them for equality.
+     */
+    private Filter compare(String name, CompareOperator operator, Value value) {
+        if (!HBaseUtils.KEY_COLUMN.equals(name)) {
+            return column(name, operator, new BinaryComparator(codec.encode(value)));
+        }
+        if (!rowKeys.isSalted()) {
+            boolean equality = CompareOperator.EQUAL.equals(operator) || CompareOperator.NOT_EQUAL.equals(operator);
+            return new RowFilter(operator, new BinaryComparator(equality ? rowKeys.encode(value)
+                    : rowKeys.encodeBound(value)));
+        }
+        if (CompareOperator.EQUAL.equals(operator) || CompareOperator.NOT_EQUAL.equals(operator)) {
+            return new RowFilter(operator, new BinaryComparator(rowKeys.toRow(value)));
+        }
+        throw new UnsupportedOperationException("The salted row keys support ranges just in the top level AND");
+    }
+
+    private Filter like(String name, CompareOperator operator, String like) {
+        boolean key = HBaseUtils.KEY_COLUMN.equals(name);
+        RegexStringComparator comparator = new RegexStringComparator(regex(like, key), Pattern.DOTALL);
+        if (key) {
+            return new RowFilter(operator, comparator);
+        }
+        return column(name, operator, comparator);
+    }
+
+    private Filter column(String name, CompareOperator operator, ByteArrayComparable comparator) {
+        qualifiers.add(name);
+        SingleColumnValueFilter filter = new SingleColumnValueFilter(family, Bytes.toBytes(name), operator,
+                comparator);
+        filter.setFilterIfMissing(true);
+        return filter;
+    }
+
+    private List<byte[]> keys(Value value) {
+        return ValueUtil.convertToList(value).stream()
+                .map(v -> rowKeys.encodeBound(Value.of(v)))
+                .collect(toList());
+    }
+
+    /**
+     * Converts a LIKE pattern, where % matches any sequence and _ any single character, to an anchored regex
+     * that skips the salt of a row key, and the bytes the codec writes before a string.
+     */
+    private String regex(String like, boolean key) {
+        StringBuilder regex = new StringBuilder("^");
+        if (key && rowKeys.isSalted()) {
+            regex.append('.');
+        }
+        String header = Bytes.toString(key ? rowKeys.encode(Value.of("")) : codec.encode(Value.of("")));
+        if (!header.isEmpty()) {
+            regex.append(Pattern.quote(header));
+        }
+        StringBuilder literal = new StringBuilder();
+        for (char character : like.toCharArray()) {
+            if (character == '%' || character == '_') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(character == '%' ? ".*" : ".");
+            } else {
+                literal.append(character);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return regex.append('$').toString();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hbase.communication;
+
+
+import org.apache.hadoop.hbase.util.Bytes;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.ValueWriter;
+import org.eclipse.jnosql.communication.ValueWriterDecorator;
+
+enum StringCodec implements HBaseCodec {
+
+    INSTANCE;
+
+    private final ValueWriter writerField = ValueWriterDecorator.getInstance();
+
+    @Override
+    public byte[] encode(Value value) {
+        return Bytes.toBytes(toString(value.get()));
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        return Bytes.toString(bytes);
+    }
+
+    /**
+     * The text of the numbers, dates and other values does not compare in their order, "10" is before "9".
+     */
+    @Override
+    public boolean isOrdered(Object value) {
+        return value instanceof String;
+    }
+
+    @SuppressWarnings("unchecked")
+    String toString(Object object) {
+        if (writerField.test(object.getClass())) {
+            return writerField.write(object).toString();
+        }
+        return object.toString();
+    }
+}
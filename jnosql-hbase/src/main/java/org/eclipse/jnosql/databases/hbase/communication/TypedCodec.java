@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hbase.communication;
+
+
+import org.apache.hadoop.hbase.util.Bytes;
+import org.eclipse.jnosql.communication.Value;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Stores each value as a type tag followed by its binary form. The integers are big-endian with the sign bit
+ * flipped and the floating points have the IEEE 754 bits flipped as well, so the unsigned byte order HBase
+ * compares with is the numeric order. Dates and times are stored as their epoch values in the same way.
+ * Big integers are stored as their sign, their length and their two's complement bytes, so they keep their order
+ * too. Decimals are stored as text, so they are read back exactly but do not keep their order.
+ */
+enum TypedCodec implements HBaseCodec {
+
+    INSTANCE;
+
+    private static final byte STRING = 0x01;
+    private static final byte INTEGER = 0x02;
+    private static final byte LONG = 0x03;
+    private static final byte SHORT = 0x04;
+    private static final byte BYTE = 0x05;
+    private static final byte DOUBLE = 0x06;
+    private static final byte FLOAT = 0x07;
+    private static final byte BOOLEAN = 0x08;
+    private static final byte BIG_INTEGER = 0x09;
+    private static final byte BIG_DECIMAL = 0x0A;
+    private static final byte LOCAL_DATE = 0x0B;
+    private static final byte LOCAL_DATE_TIME = 0x0C;
+    private static final byte INSTANT = 0x0D;
+    private static final byte BYTES = 0x0E;
+
+    @Override
+    public byte[] encode(Value value) {
+        return encode(value.get());
+    }
+
+    private byte[] encode(Object value) {
+        if (value instanceof String) {
+            return tag(STRING, Bytes.toBytes((String) value));
+        } else if (value instanceof Integer) {
+            return tag(INTEGER, Bytes.toBytes((Integer) value ^ Integer.MIN_VALUE));
+        } else if (value instanceof Long) {
+            return tag(LONG, Bytes.toBytes((Long) value ^ Long.MIN_VALUE));
+        } else if (value instanceof Short) {
+            return tag(SHORT, Bytes.toBytes((short) ((Short) value ^ Short.MIN_VALUE)));
+        } else if (value instanceof Byte) {
+            return new byte[]{BYTE, (byte) ((Byte) value ^ Byte.MIN_VALUE)};
+        } else if (value instanceof Double) {
+            long bits = Double.doubleToLongBits((Double) value);
+            return tag(DOUBLE, Bytes.toBytes(bits < 0 ? ~bits : bits ^ Long.MIN_VALUE));
+        } else if (value instanceof Float) {
+            int bits = Float.floatToIntBits((Float) value);
+            return tag(FLOAT, Bytes.toBytes(bits < 0 ? ~bits : bits ^ Integer.MIN_VALUE));
+        } else if (value instanceof Boolean) {
+            return new byte[]{BOOLEAN, (byte) ((Boolean) value ? 1 : 0)};
+        } else if (value instanceof BigInteger) {
+            return tag(BIG_INTEGER, bigInteger((BigInteger) value));
+        } else if (value instanceof BigDecimal) {
+            return tag(BIG_DECIMAL, Bytes.toBytes(((BigDecimal) value).toString()));
+        } else if (value instanceof LocalDate) {
+            return tag(LOCAL_DATE, Bytes.toBytes(((LocalDate) value).toEpochDay() ^ Long.MIN_VALUE));
+        } else if (value instanceof LocalDateTime) {
+            return tag(LOCAL_DATE_TIME, time(((LocalDateTime) value).toInstant(ZoneOffset.UTC)));
+        } else if (value instanceof Instant) {
+            return tag(INSTANT, time((Instant) value));
+        } else if (value instanceof byte[]) {
+            return tag(BYTES, (byte[]) value);
+        }
+        return tag(STRING, Bytes.toBytes(StringCodec.INSTANCE.toString(value)));
+    }
+
+    /**
+     * The decimals, stored as text, and the values of other types, stored as their string, do not keep their order.
+     */
+    @Override
+    public boolean isOrdered(Object value) {
+        return value instanceof String || value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte || value instanceof Double
+                || value instanceof Float || value instanceof Boolean || value instanceof BigInteger
+                || value instanceof LocalDate || value instanceof LocalDateTime || value instanceof Instant
+                || value instanceof byte[];
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        if (bytes.length == 0) {
+            return "";
+        }
+        switch (bytes[0]) {
+            case STRING:
+                return Bytes.toString(bytes, 1, bytes.length - 1);
+            case INTEGER:
+                return Bytes.toInt(bytes, 1) ^ Integer.MIN_VALUE;
+            case LONG:
+                return Bytes.toLong(bytes, 1) ^ Long.MIN_VALUE;
+            case SHORT:
+                return (short) (Bytes.toShort(bytes, 1) ^ Short.MIN_VALUE);
+            case BYTE:
+                return (byte) (bytes[1] ^ Byte.MIN_VALUE);
+            case DOUBLE:
+                long longBits = Bytes.toLong(bytes, 1);
+                return Double.longBitsToDouble(longBits < 0 ? longBits ^ Long.MIN_VALUE : ~longBits);
+            case FLOAT:
+                int intBits = Bytes.toInt(bytes, 1);
+                return Float.intBitsToFloat(intBits < 0 ? intBits ^ Integer.MIN_VALUE : ~intBits);
+            case BOOLEAN:
+                return bytes[1] != 0;
+            case BIG_INTEGER:
+                return new BigInteger(Arrays.copyOfRange(bytes, 2 + Integer.BYTES, bytes.length));
+            case BIG_DECIMAL:
+                return new BigDecimal(Bytes.toString(bytes, 1, bytes.length - 1));
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(Bytes.toLong(bytes, 1) ^ Long.MIN_VALUE);
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.ofInstant(instant(bytes), ZoneOffset.UTC);
+            case INSTANT:
+                return instant(bytes);
+            case BYTES:
+                return Arrays.copyOfRange(bytes, 1, bytes.length);
+            default:
+                return Bytes.toString(bytes);
+        }
+    }
+
+    private static byte[] tag(byte tag, byte[] value) {
+        byte[] bytes = new byte[value.length + 1];
+        bytes[0] = tag;
+        System.arraycopy(value, 0, bytes, 1, value.length);
+        return bytes;
+    }
+
+    /**
+     * The sign first, then the length, inverted for the negative numbers as the longer ones are the smaller,
+     * then the two's complement bytes, which compare as unsigned bytes in the numeric order for the same length.
+     */
+    private static byte[] bigInteger(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        boolean negative = value.signum() < 0;
+        return ByteBuffer.allocate(1 + Integer.BYTES + bytes.length)
+                .put((byte) (negative ? 0 : 1))
+                .putInt(negative ? ~bytes.length : bytes.length)
+                .put(bytes)
+                .array();
+    }
+
+    private static byte[] time(Instant instant) {
+        return ByteBuffer.allocate(Long.BYTES + Integer.BYTES)
+                .putLong(instant.getEpochSecond() ^ Long.MIN_VALUE)
+                .putInt(instant.getNano())
+                .array();
+    }
+
+    private static Instant instant(byte[] bytes) {
+        return Instant.ofEpochSecond(Bytes.toLong(bytes, 1) ^ Long.MIN_VALUE, Bytes.toInt(bytes, 1 + Long.BYTES));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hbase.communication;
+
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.column.Column;
+import org.eclipse.jnosql.communication.column.ColumnEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EntityUnitTest {
+
+    private static final byte[] FAMILY = Bytes.toBytes("person");
+
+    private final HBaseCodec codec = HBaseCodec.typed();
+
+    private final RowKeys rowKeys = new RowKeys(0);
+
+    @Test
+    public void shouldReturnAllTheColumnsWithoutProjection() {
+        ColumnEntity entity = new EntityUnit(result(), codec, rowKeys).toEntity(List.of());
+        assertThat(entity.columns()).containsExactlyInAnyOrder(Column.of(HBaseUtils.KEY_COLUMN, "otaviojava"),
+                Column.of("name", "Otavio"), Column.of("age", 26));
+    }
+
+    @Test
+    public void shouldRemoveTheColumnsReadJustToFilter() {
+        ColumnEntity entity = new EntityUnit(result(), codec, rowKeys).toEntity(List.of("name"));
+        assertThat(entity.columns()).containsExactlyInAnyOrder(Column.of(HBaseUtils.KEY_COLUMN, "otaviojava"),
+                Column.of("name", "Otavio"));
+    }
+
+    private Result result() {
+        byte[] row = rowKeys.toRow(Value.of("otaviojava"));
+        return Result.create(List.of(
+                new KeyValue(row, FAMILY, Bytes.toBytes("age"), codec.encode(Value.of(26))),
+                new KeyValue(row, FAMILY, Bytes.toBytes("name"), codec.encode(Value.of("Otavio")))));
+    }
+}
@@ -41,6 +41,25 @@ public class HBaseColumnConfigurationTest {
         assertNotNull(configuration.apply(Settings.builder().build()));
     }
 
+    @Test
+    public void shouldCreatesColumnManagerFactoryWithWriteBuffer() {
+        HBaseColumnConfiguration configuration = new HBaseColumnConfiguration();
+        configuration.exceptionListener((e, mutator) -> {
+        });
+        Settings settings = Settings.builder()
+                .put(HbaseConfigurations.WRITE_BUFFER_SIZE.get(), "4194304")
+                .put(HbaseConfigurations.WRITE_BUFFER_PERIODIC_FLUSH.get(), "500")
+                .build();
+        assertNotNull(configuration.apply(settings));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenWriteBufferIsInvalid() {
+        ColumnConfiguration configuration = new HBaseColumnConfiguration();
+        Settings settings = Settings.builder().put(HbaseConfigurations.WRITE_BUFFER_SIZE.get(), "0").build();
+        assertThrows(IllegalArgumentException.class, () -> configuration.apply(settings));
+    }
+
     @Test
     public void shouldReturnErrorCreatesColumnManagerFactory() {
         assertThrows(NullPointerException.class, () -> new HBaseColumnConfiguration(null));
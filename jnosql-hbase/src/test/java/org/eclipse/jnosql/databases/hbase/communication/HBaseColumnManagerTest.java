@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hbase.communication;
+
+import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Table;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class HBaseColumnManagerTest {
+
+    private final Connection connection = mock(Connection.class);
+
+    private final Table table = mock(Table.class);
+
+    private final BufferedMutator mutator = mock(BufferedMutator.class);
+
+    private final HBaseColumnManager manager = new HBaseColumnManager(connection, table, mutator,
+            HBaseCodec.string(), new RowKeys(0), "database");
+
+    @Test
+    public void shouldCloseBufferBeforeConnection() throws IOException {
+        manager.close();
+        InOrder order = inOrder(mutator, table, connection);
+        order.verify(mutator).close();
+        order.verify(table).close();
+        order.verify(connection).close();
+    }
+
+    @Test
+    public void shouldThrowBufferedFailuresOnClose() throws IOException {
+        IOException failure = new IOException("The buffered mutations failed");
+        doThrow(failure).when(mutator).close();
+
+        HBaseException exception = assertThrows(HBaseException.class, manager::close);
+
+        assertSame(failure, exception.getCause());
+        verify(table).close();
+        verify(connection).close();
+    }
+}
@@ -15,6 +15,13 @@
 
 package org.eclipse.jnosql.databases.hbase.communication;
 
+import org.apache.hadoop.hbase.HBaseConfiguration;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.ConnectionFactory;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
 import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.column.Column;
 import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
@@ -26,6 +33,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -86,7 +95,7 @@ public class HBaseFamilyManagerTest {
         ColumnEntity entity = columnFamilyEntities.get(0);
         assertEquals(FAMILY, entity.name());
         assertThat(entity.columns()).contains(Column.of(ID_FIELD, "otaviojava"),
-                Column.of("age", "26"), Column.of("country", "Brazil"));
+                Column.of("age", 26), Column.of("country", "Brazil"));
     }
 
     @Test
@@ -128,6 +137,155 @@ public class HBaseFamilyManagerTest {
         assertTrue(entities.isEmpty());
     }
 
+    @Test
+    public void shouldInsertIterable() {
+        manager.insert(List.of(createEntity(), createEntity2()));
+
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).eq("otaviojava")
+                .or(ID_FIELD).eq("poliana").build();
+        assertEquals(2L, manager.select(query).count());
+    }
+
+    @Test
+    public void shouldBufferAndFlush() {
+        HBaseColumnManager hbaseManager = (HBaseColumnManager) manager;
+        hbaseManager.buffer(List.of(createEntity(), createEntity2()));
+        hbaseManager.flush();
+
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).eq("otaviojava")
+                .or(ID_FIELD).eq("poliana").build();
+        assertEquals(2L, manager.select(query).count());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenBufferedKeyIsNotDefined() {
+        ColumnEntity entity = ColumnEntity.of(FAMILY);
+        entity.add(Column.of("id", "otaviojava"));
+        assertThrows(HBaseException.class, () -> manager.insert(List.of(createEntity(), entity)));
+    }
+
+    @Test
+    public void shouldFindByRowKeyRange() {
+        manager.insert(List.of(createEntity(), createEntity2()));
+
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).gte("otaviojava")
+                .and(ID_FIELD).lte("poliana").build();
+        List<ColumnEntity> entities = manager.select(query).collect(Collectors.toList());
+        assertThat(entities).extracting(e -> e.find(ID_FIELD).orElseThrow().get())
+                .containsExactly("otaviojava", "poliana");
+
+        query = select().from(FAMILY).where(ID_FIELD).gt("otaviojava").build();
+        assertThat(manager.select(query).collect(Collectors.toList())).extracting(e -> e.find(ID_FIELD)
+                .orElseThrow().get()).contains("poliana").doesNotContain("otaviojava");
+    }
+
+    @Test
+    public void shouldFindByRowKeyPrefix() {
+        manager.insert(List.of(createEntity(), createEntity2()));
+
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).like("pol%").build();
+        List<ColumnEntity> entities = manager.select(query).collect(Collectors.toList());
+        assertThat(entities).extracting(e -> e.find(ID_FIELD).orElseThrow().get()).containsExactly("poliana");
+    }
+
+    @Test
+    public void shouldFindByColumn() {
+        manager.insert(List.of(createEntity(), createEntity2()));
+
+        ColumnQuery query = select("age").from(FAMILY).where("country").eq("Brazil")
+                .and("age").eq(26).build();
+        List<ColumnEntity> entities = manager.select(query).collect(Collectors.toList());
+        assertEquals(1, entities.size());
+        assertThat(entities.get(0).columns()).containsExactlyInAnyOrder(Column.of(ID_FIELD, "otaviojava"),
+                Column.of("age", 26));
+    }
+
+    @Test
+    public void shouldCompareNumbersInBinary() {
+        manager.insert(List.of(createEntity(), createEntity2()));
+
+        ColumnQuery query = select().from(FAMILY).where("age").gt(25)
+                .and(ID_FIELD).in(List.of("otaviojava", "poliana")).build();
+        List<ColumnEntity> entities = manager.select(query).collect(Collectors.toList());
+        assertThat(entities).extracting(e -> e.find(ID_FIELD).orElseThrow().get()).containsExactly("otaviojava");
+    }
+
+    @Test
+    public void shouldFindWithLimitAndSortByRowKey() {
+        manager.insert(List.of(createEntity(), createEntity2()));
+
+        ColumnQuery query = select().from(FAMILY).where("country").eq("Brazil")
+                .orderBy(ID_FIELD).desc().limit(1).build();
+        List<ColumnEntity> entities = manager.select(query).collect(Collectors.toList());
+        assertEquals(1, entities.size());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSortIsNotByRowKey() {
+        ColumnQuery query = select().from(FAMILY).orderBy("age").asc().build();
+        assertThrows(UnsupportedOperationException.class, () -> manager.select(query));
+    }
+
+    @Test
+    public void shouldFindByNumericRowKeyRange() {
+        HBaseColumnConfiguration configuration = new HBaseColumnConfiguration();
+        configuration.add(FAMILY);
+        configuration.rowKeyCodec(HBaseCodec.typed());
+        ColumnManager typed = configuration.apply(Settings.builder().build()).apply("typed_row_keys");
+        List<ColumnEntity> entities = new ArrayList<>();
+        List<Integer> keys = new ArrayList<>();
+        for (int key = 1; key <= 12; key++) {
+            keys.add(key);
+            ColumnEntity entity = ColumnEntity.of(FAMILY);
+            entity.add(Column.of(ID_FIELD, key));
+            entity.add(Column.of("name", "name " + key));
+            entities.add(entity);
+        }
+        typed.insert(entities);
+
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).gt(9).build();
+        assertThat(typed.select(query).collect(Collectors.toList())).extracting(e -> e.find(ID_FIELD)
+                .orElseThrow().get()).containsExactly(10, 11, 12);
+        query = select().from(FAMILY).where(ID_FIELD).between(2, 10).build();
+        assertThat(typed.select(query).collect(Collectors.toList())).extracting(e -> e.find(ID_FIELD)
+                .orElseThrow().get()).containsExactly(2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+        typed.delete(delete().from(FAMILY).where(ID_FIELD).in(keys).build());
+        typed.close();
+    }
+
+    @Test
+    public void shouldReadUpdateAndDeleteRowsWrittenAsText() throws IOException {
+        try (Connection connection = ConnectionFactory.createConnection(HBaseConfiguration.create());
+             Table table = connection.getTable(TableName.valueOf(DATA_BASE))) {
+            table.put(new Put(Bytes.toBytes("ada")).addColumn(Bytes.toBytes(FAMILY), Bytes.toBytes("age"),
+                    Bytes.toBytes("36")));
+        }
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).eq("ada").build();
+        List<ColumnEntity> entities = manager.select(query).collect(Collectors.toList());
+        assertEquals(1, entities.size());
+        assertThat(entities.get(0).columns()).contains(Column.of(ID_FIELD, "ada"), Column.of("age", "36"));
+
+        ColumnEntity entity = ColumnEntity.of(FAMILY);
+        entity.add(Column.of(ID_FIELD, "ada"));
+        entity.add(Column.of("age", 37));
+        manager.update(entity);
+        ColumnQuery range = select().from(FAMILY).where(ID_FIELD).gte("ada").and(ID_FIELD).lte("ada").build();
+        entities = manager.select(range).collect(Collectors.toList());
+        assertEquals(1, entities.size());
+        assertThat(entities.get(0).columns()).contains(Column.of("age", 37));
+
+        manager.delete(delete().from(FAMILY).where(ID_FIELD).eq("ada").build());
+        assertEquals(0L, manager.select(query).count());
+        assertEquals(0L, manager.select(range).count());
+    }
+
+    @Test
+    public void shouldCount() {
+        manager.insert(List.of(createEntity(), createEntity2()));
+        assertTrue(manager.count(FAMILY) >= 2L);
+    }
+
     private ColumnEntity createEntity() {
         ColumnEntity entity = ColumnEntity.of(FAMILY);
         entity.add(Column.of(ID_FIELD, "otaviojava"));
@@ -0,0 +1,301 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hbase.communication;
+
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.filter.ByteArrayComparable;
+import org.apache.hadoop.hbase.filter.Filter;
+import org.apache.hadoop.hbase.filter.RowFilter;
+import org.apache.hadoop.hbase.filter.SingleColumnValueFilter;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.column.ColumnQuery;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.communication.column.ColumnQuery.select;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScanConverterTest {
+
+    private static final String FAMILY = "person";
+
+    private static final String ID_FIELD = HBaseUtils.KEY_COLUMN;
+
+    private final HBaseCodec codec = HBaseCodec.typed();
+
+    private final RowKeys rowKeys = new RowKeys(0);
+
+    @Test
+    public void shouldConvertRowKeyRangeToStartAndStopRows() {
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).gte("otaviojava")
+                .and(ID_FIELD).lt("poliana").build();
+        List<Scan> scans = ScanConverter.convert(query, codec, rowKeys);
+        assertEquals(1, scans.size());
+        Scan scan = scans.get(0);
+        assertArrayEquals(encode("otaviojava"), scan.getStartRow());
+        assertTrue(scan.includeStartRow());
+        assertArrayEquals(encode("poliana"), scan.getStopRow());
+        assertFalse(scan.includeStopRow());
+        assertFalse(scan.hasFilter());
+    }
+
+    @Test
+    public void shouldKeepTheNarrowestRange() {
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).gt("a").and(ID_FIELD).gte("b")
+                .and(ID_FIELD).lte("y").and(ID_FIELD).lt("x").build();
+        Scan scan = ScanConverter.convert(query, codec, rowKeys).get(0);
+        assertArrayEquals(encode("b"), scan.getStartRow());
+        assertTrue(scan.includeStartRow());
+        assertArrayEquals(encode("x"), scan.getStopRow());
+        assertFalse(scan.includeStopRow());
+    }
+
+    @Test
+    public void shouldConvertEqualsToGetOfTheTextRow() {
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).eq("otaviojava").build();
+        assertThat(ScanConverter.gets(query, rowKeys).orElseThrow()).extracting(Get::getRow)
+                .containsExactly(Bytes.toBytes("otaviojava"));
+        query = select().from(FAMILY).where(ID_FIELD).eq(26).build();
+        assertThat(ScanConverter.gets(query, rowKeys).orElseThrow()).extracting(Get::getRow)
+                .containsExactly(Bytes.toBytes("26"));
+    }
+
+    @Test
+    public void shouldConvertInAndOrToGets() {
+        ColumnQuery in = select().from(FAMILY).where(ID_FIELD).in(List.of("otaviojava", "poliana")).build();
+        assertThat(ScanConverter.gets(in, rowKeys).orElseThrow()).extracting(Get::getRow)
+                .containsExactly(encode("otaviojava"), encode("poliana"));
+
+        ColumnQuery or = select().from(FAMILY).where(ID_FIELD).eq("otaviojava")
+                .or(ID_FIELD).eq("poliana").build();
+        assertThat(ScanConverter.gets(or, rowKeys).orElseThrow()).extracting(Get::getRow)
+                .containsExactly(encode("otaviojava"), encode("poliana"));
+    }
+
+    @Test
+    public void shouldNotConvertOtherConditionsToGets() {
+        assertTrue(ScanConverter.gets(select().from(FAMILY).build(), rowKeys).isEmpty());
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).eq("otaviojava").and("age").eq(26).build();
+        assertTrue(ScanConverter.gets(query, rowKeys).isEmpty());
+        query = select().from(FAMILY).where(ID_FIELD).eq("otaviojava").or("age").eq(26).build();
+        assertTrue(ScanConverter.gets(query, rowKeys).isEmpty());
+    }
+
+    @Test
+    public void shouldReverseTheScanWhenSortingByRowKeyDescending() {
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).gte("otaviojava")
+                .and(ID_FIELD).lt("poliana").orderBy(ID_FIELD).desc().build();
+        Scan scan = ScanConverter.convert(query, codec, rowKeys).get(0);
+        assertTrue(scan.isReversed());
+        assertArrayEquals(encode("poliana"), scan.getStartRow());
+        assertFalse(scan.includeStartRow());
+        assertArrayEquals(encode("otaviojava"), scan.getStopRow());
+        assertTrue(scan.includeStopRow());
+
+        query = select().from(FAMILY).orderBy(ID_FIELD).asc().build();
+        assertFalse(ScanConverter.convert(query, codec, rowKeys).get(0).isReversed());
+    }
+
+    @Test
+    public void shouldLimitTheScanToSkipPlusLimit() {
+        ColumnQuery query = select().from(FAMILY).skip(5).limit(10).build();
+        assertEquals(15, ScanConverter.convert(query, codec, rowKeys).get(0).getLimit());
+
+        query = select().from(FAMILY).skip(5).build();
+        assertEquals(-1, ScanConverter.convert(query, codec, rowKeys).get(0).getLimit());
+    }
+
+    @Test
+    public void shouldScanTheProjectionAndTheFilteredColumns() {
+        ColumnQuery query = select("name").from(FAMILY).where("age").eq(26).build();
+        Scan scan = ScanConverter.convert(query, codec, rowKeys).get(0);
+        assertTrue(scan.hasFilter());
+        assertThat(scan.getFamilyMap().get(Bytes.toBytes(FAMILY))).extracting(Bytes::toString)
+                .containsExactlyInAnyOrder("name", "age");
+
+        query = select().from(FAMILY).where("age").eq(26).build();
+        scan = ScanConverter.convert(query, codec, rowKeys).get(0);
+        assertTrue(scan.getFamilyMap().containsKey(Bytes.toBytes(FAMILY)));
+        assertThat(scan.getFamilyMap().get(Bytes.toBytes(FAMILY))).isNull();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSortIsNotByRowKey() {
+        ColumnQuery query = select().from(FAMILY).orderBy("age").asc().build();
+        assertThrows(UnsupportedOperationException.class, () -> ScanConverter.convert(query, codec, rowKeys));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSortingSaltedRowKeys() {
+        ColumnQuery query = select().from(FAMILY).orderBy(ID_FIELD).asc().build();
+        RowKeys salted = new RowKeys(4);
+        assertThrows(UnsupportedOperationException.class, () -> ScanConverter.convert(query, codec, salted));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenComparingSaltedRowKeysOutOfTheTopLevelAnd() {
+        ColumnQuery query = select().from(FAMILY).where("age").eq(26).or(ID_FIELD).gt("otaviojava").build();
+        RowKeys salted = new RowKeys(4);
+        assertThrows(UnsupportedOperationException.class, () -> ScanConverter.convert(query, codec, salted));
+    }
+
+    @Test
+    public void shouldNarrowRowKeyPrefix() {
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).like("pol%").build();
+        Scan scan = ScanConverter.convert(query, codec, rowKeys).get(0);
+        assertArrayEquals(Bytes.toBytes("pol"), scan.getStartRow());
+        assertArrayEquals(Bytes.toBytes("pom"), scan.getStopRow());
+        assertFalse(scan.includeStopRow());
+        assertFalse(scan.hasFilter());
+    }
+
+    @Test
+    public void shouldMatchLikeOnRowKeys() {
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).like("%vio_ava").build();
+        ByteArrayComparable comparator = rowComparator(ScanConverter.convert(query, codec, rowKeys).get(0));
+        assertEquals(0, comparator.compareTo(rowKeys.toRow(Value.of("otaviojava"))));
+        assertNotEquals(0, comparator.compareTo(rowKeys.toRow(Value.of("poliana"))));
+        assertNotEquals(0, comparator.compareTo(rowKeys.toRow(Value.of("otaviojavas"))));
+    }
+
+    @Test
+    public void shouldMatchLikeOnSaltedRowKeys() {
+        RowKeys salted = new RowKeys(16);
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).like("%vio_ava").build();
+        for (Scan scan : ScanConverter.convert(query, codec, salted)) {
+            ByteArrayComparable comparator = rowComparator(scan);
+            assertEquals(0, comparator.compareTo(salted.toRow(Value.of("otaviojava"))));
+            assertNotEquals(0, comparator.compareTo(salted.toRow(Value.of("poliana"))));
+        }
+    }
+
+    @Test
+    public void shouldMatchLikeOnColumnsAfterTheCodecHeader() {
+        ColumnQuery query = select().from(FAMILY).where("name").like("Ot_vio%").build();
+        Filter filter = ScanConverter.convert(query, codec, rowKeys).get(0).getFilter();
+        ByteArrayComparable comparator = ((SingleColumnValueFilter) filter).getComparator();
+        assertEquals(0, comparator.compareTo(codec.encode(Value.of("Otavio Santana"))));
+        assertEquals(0, comparator.compareTo(codec.encode(Value.of("Otavio"))));
+        assertNotEquals(0, comparator.compareTo(codec.encode(Value.of("Poliana"))));
+        assertNotEquals(0, comparator.compareTo(codec.encode(Value.of("Ottavio"))));
+    }
+
+    @Test
+    public void shouldScanEachSaltBucketWithTheSameRange() {
+        RowKeys salted = new RowKeys(4);
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).gte("otaviojava")
+                .and(ID_FIELD).lt("poliana").build();
+        List<Scan> scans = ScanConverter.convert(query, codec, salted);
+        assertEquals(4, scans.size());
+        for (int bucket = 0; bucket < scans.size(); bucket++) {
+            byte[] salt = {(byte) bucket};
+            Scan scan = scans.get(bucket);
+            assertArrayEquals(Bytes.add(salt, Bytes.toBytes("otaviojava")), scan.getStartRow());
+            assertTrue(scan.includeStartRow());
+            assertArrayEquals(Bytes.add(salt, Bytes.toBytes("poliana")), scan.getStopRow());
+            assertFalse(scan.includeStopRow());
+        }
+        assertEquals(1, matches(scans, salted.toRow(Value.of("otaviojava"))));
+        assertEquals(1, matches(scans, salted.toRow(Value.of("paulo"))));
+        assertEquals(0, matches(scans, salted.toRow(Value.of("poliana"))));
+    }
+
+    @Test
+    public void shouldScanTheWholeSaltBuckets() {
+        RowKeys salted = new RowKeys(4);
+        List<Scan> scans = ScanConverter.convert(select().from(FAMILY).build(), codec, salted);
+        assertEquals(4, scans.size());
+        for (int bucket = 0; bucket < scans.size(); bucket++) {
+            assertArrayEquals(new byte[]{(byte) bucket}, scans.get(bucket).getStartRow());
+            assertArrayEquals(new byte[]{(byte) (bucket + 1)}, scans.get(bucket).getStopRow());
+        }
+        for (String key : List.of("ada", "otaviojava", "poliana", "zé")) {
+            assertEquals(1, matches(scans, salted.toRow(Value.of(key))));
+        }
+    }
+
+    private static ByteArrayComparable rowComparator(Scan scan) {
+        return ((RowFilter) scan.getFilter()).getComparator();
+    }
+
+    /**
+     * The number of scans whose range has the row.
+     */
+    private static long matches(List<Scan> scans, byte[] row) {
+        return scans.stream().filter(scan -> {
+            int start = Bytes.compareTo(row, scan.getStartRow());
+            int stop = Bytes.compareTo(row, scan.getStopRow());
+            return (start > 0 || (start == 0 && scan.includeStartRow()))
+                    && (scan.getStopRow().length == 0 || stop < 0 || (stop == 0 && scan.includeStopRow()));
+        }).count();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenComparingNumericRowKeysAsText() {
+        ColumnQuery range = select().from(FAMILY).where(ID_FIELD).gt(9).build();
+        assertThrows(UnsupportedOperationException.class, () -> ScanConverter.convert(range, codec, rowKeys));
+
+        ColumnQuery between = select().from(FAMILY).where(ID_FIELD).between(2, 10).build();
+        assertThrows(UnsupportedOperationException.class, () -> ScanConverter.convert(between, codec, rowKeys));
+
+        ColumnQuery filter = select().from(FAMILY).where("age").eq(26).or(ID_FIELD).lt(10).build();
+        assertThrows(UnsupportedOperationException.class, () -> ScanConverter.convert(filter, codec, rowKeys));
+    }
+
+    @Test
+    public void shouldKeepTheNumericOrderOfTypedRowKeys() {
+        RowKeys typed = new RowKeys(HBaseCodec.typed(), 0);
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).gt(9).build();
+        Scan scan = ScanConverter.convert(query, codec, typed).get(0);
+        assertArrayEquals(typed.toRow(Value.of(9)), scan.getStartRow());
+        assertFalse(scan.includeStartRow());
+        assertThat(Bytes.compareTo(typed.toRow(Value.of(10)), scan.getStartRow())).isPositive();
+        assertThat(Bytes.compareTo(typed.toRow(Value.of(100)), scan.getStartRow())).isPositive();
+
+        query = select().from(FAMILY).where(ID_FIELD).between(2, 10).build();
+        scan = ScanConverter.convert(query, codec, typed).get(0);
+        for (int key = 2; key <= 10; key++) {
+            byte[] row = typed.toRow(Value.of(key));
+            assertThat(Bytes.compareTo(row, scan.getStartRow())).isNotNegative();
+            assertThat(Bytes.compareTo(row, scan.getStopRow())).isNotPositive();
+        }
+        assertTrue(scan.includeStopRow());
+        assertThat(Bytes.compareTo(typed.toRow(Value.of(11)), scan.getStopRow())).isPositive();
+        assertThat(Bytes.compareTo(typed.toRow(Value.of(1)), scan.getStartRow())).isNegative();
+    }
+
+    @Test
+    public void shouldMatchLikeOnTypedRowKeys() {
+        RowKeys typed = new RowKeys(HBaseCodec.typed(), 0);
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).like("%java").build();
+        RowFilter filter = (RowFilter) ScanConverter.convert(query, codec, typed).get(0).getFilter();
+        ByteArrayComparable comparator = filter.getComparator();
+        assertEquals(0, comparator.compareTo(typed.toRow(Value.of("otaviojava"))));
+        assertNotEquals(0, comparator.compareTo(typed.toRow(Value.of("poliana"))));
+    }
+
+    private byte[] encode(Object value) {
+        return rowKeys.encode(Value.of(value));
+    }
+}
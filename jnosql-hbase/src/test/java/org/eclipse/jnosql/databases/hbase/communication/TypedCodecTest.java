@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hbase.communication;
+
+import org.apache.hadoop.hbase.util.Bytes;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TypedCodecTest {
+
+    private final HBaseCodec codec = HBaseCodec.typed();
+
+    @Test
+    public void shouldDecodeTheSameType() {
+        List<Object> values = List.of("otaviojava", 26, 26L, (short) 26, (byte) 26, 26.5D, 26.5F, true,
+                new BigDecimal("26.50"), new BigInteger("-26"), LocalDate.of(2023, 10, 1), LocalDateTime.of(2023, 10, 1, 10, 30, 1, 5),
+                Instant.ofEpochSecond(1696156201L, 5));
+        for (Object value : values) {
+            assertEquals(value, codec.decode(codec.encode(Value.of(value))));
+        }
+    }
+
+    @Test
+    public void shouldKeepTheNumericOrder() {
+        assertOrder(-10, -1, 0, 1, 10, Integer.MAX_VALUE);
+        assertOrder(Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE);
+        assertOrder(Double.NEGATIVE_INFINITY, -2.5D, -0.5D, 0D, 0.5D, 2.5D, Double.POSITIVE_INFINITY);
+        assertOrder(LocalDate.of(1969, 1, 1), LocalDate.of(1970, 1, 1), LocalDate.of(2023, 10, 1));
+        assertOrder(new BigInteger("-100000000000000000000"), BigInteger.valueOf(-256), BigInteger.valueOf(-129),
+                BigInteger.valueOf(-128), BigInteger.valueOf(-1), BigInteger.ZERO, BigInteger.ONE,
+                BigInteger.valueOf(127), BigInteger.valueOf(128), new BigInteger("100000000000000000000"));
+    }
+
+    @Test
+    public void shouldDecodeLegacyStrings() {
+        assertEquals("26", codec.decode(Bytes.toBytes("26")));
+        assertEquals("26", HBaseCodec.string().decode(HBaseCodec.string().encode(Value.of(26))));
+    }
+
+    @Test
+    public void shouldSaltRowKeys() {
+        RowKeys rowKeys = new RowKeys(16);
+        byte[] row = rowKeys.toRow(Value.of("otaviojava"));
+        assertThat(row[0]).isBetween((byte) 0, (byte) 15);
+        assertEquals("otaviojava", rowKeys.toKey(row));
+        assertThrows(IllegalArgumentException.class, () -> new RowKeys(257));
+    }
+
+    @Test
+    public void shouldKeepTheRowKeysAsText() {
+        RowKeys rowKeys = new RowKeys(0);
+        assertArrayEquals(Bytes.toBytes("otaviojava"), rowKeys.toRow(Value.of("otaviojava")));
+        assertArrayEquals(Bytes.toBytes("26"), rowKeys.toRow(Value.of(26)));
+        assertEquals("otaviojava", rowKeys.toKey(Bytes.toBytes("otaviojava")));
+    }
+
+    private void assertOrder(Object... values) {
+        for (int index = 1; index < values.length; index++) {
+            byte[] previous = codec.encode(Value.of(values[index - 1]));
+            byte[] current = codec.encode(Value.of(values[index]));
+            assertThat(Bytes.compareTo(previous, current)).isNegative();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.codecs.BsonTypeClassMap;
+import org.bson.codecs.BsonTypeCodecMap;
+import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.communication.driver.ValueUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.eclipse.jnosql.databases.mongodb.communication.MongoDBUtils.ID_FIELD;
+
+/**
+ * The {@link Codec} that reads and writes {@link DocumentEntity} straight from and to BSON, without the
+ * intermediate {@link org.bson.Document}. Embedded documents are read as a list of {@link Document},
+ * arrays of embedded documents as a list of those lists, and binary data as a byte array; the other BSON
+ * types are delegated to the codecs of the collection's registry.
+ */
+final class DocumentEntityCodec implements CollectibleCodec<DocumentEntity> {
+
+    private static final BsonTypeClassMap BSON_TYPE_CLASS_MAP = new BsonTypeClassMap();
+
+    private final String collectionName;
+
+    private final CodecRegistry registry;
+
+    private final BsonTypeCodecMap bsonTypeCodecMap;
+
+    private DocumentEntityCodec(String collectionName, CodecRegistry registry) {
+        this.collectionName = collectionName;
+        this.registry = registry;
+        this.bsonTypeCodecMap = new BsonTypeCodecMap(BSON_TYPE_CLASS_MAP, registry);
+    }
+
+    /**
+     * Creates a registry that decodes documents of the given collection as {@link DocumentEntity}
+     * and delegates the remaining types to the given registry.
+     *
+     * @param collectionName the collection name, used as the {@link DocumentEntity#name()}
+     * @param registry       the collection's registry
+     * @return the codec registry
+     */
+    static CodecRegistry registry(String collectionName, CodecRegistry registry) {
+        return CodecRegistries.fromRegistries(
+                CodecRegistries.fromCodecs(new DocumentEntityCodec(collectionName, registry)), registry);
+    }
+
+    @Override
+    public DocumentEntity decode(BsonReader reader, DecoderContext decoderContext) {
+        return DocumentEntity.of(collectionName, readDocument(reader, decoderContext));
+    }
+
+    @Override
+    public void encode(BsonWriter writer, DocumentEntity entity, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        entity.find(ID_FIELD).ifPresent(id -> writeDocument(writer, id, encoderContext));
+        for (Document document : entity.documents()) {
+            if (!ID_FIELD.equals(document.name())) {
+                writeDocument(writer, document, encoderContext);
+            }
+        }
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<DocumentEntity> getEncoderClass() {
+        return DocumentEntity.class;
+    }
+
+    @Override
+    public DocumentEntity generateIdIfAbsentFromDocument(DocumentEntity entity) {
+        if (!documentHasId(entity)) {
+            entity.add(Document.of(ID_FIELD, new ObjectId()));
+        }
+        return entity;
+    }
+
+    @Override
+    public boolean documentHasId(DocumentEntity entity) {
+        return entity.find(ID_FIELD).isPresent();
+    }
+
+    @Override
+    public BsonValue getDocumentId(DocumentEntity entity) {
+        Document id = entity.find(ID_FIELD)
+                .orElseThrow(() -> new IllegalStateException("The document does not contain an _id"));
+        BsonDocument idHolder = new BsonDocument();
+        BsonWriter writer = new BsonDocumentWriter(idHolder);
+        writer.writeStartDocument();
+        writeDocument(writer, id, EncoderContext.builder().build());
+        writer.writeEndDocument();
+        return idHolder.get(ID_FIELD);
+    }
+
+    private List<Document> readDocument(BsonReader reader, DecoderContext decoderContext) {
+        List<Document> documents = new ArrayList<>();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            Object value = readValue(reader, decoderContext);
+            if (value != null) {
+                documents.add(Document.of(name, value));
+            }
+        }
+        reader.readEndDocument();
+        return documents;
+    }
+
+    private Object readValue(BsonReader reader, DecoderContext decoderContext) {
+        BsonType type = reader.getCurrentBsonType();
+        switch (type) {
+            case NULL:
+                reader.readNull();
+                return null;
+            case DOCUMENT:
+                return readDocument(reader, decoderContext);
+            case ARRAY:
+                return readArray(reader, decoderContext);
+            case BINARY:
+                return reader.readBinaryData().getData();
+            default:
+                return bsonTypeCodecMap.get(type).decode(reader, decoderContext);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> readArray(BsonReader reader, DecoderContext decoderContext) {
+        List<Object> items = new ArrayList<>();
+        List<Integer> subDocuments = new ArrayList<>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (reader.getCurrentBsonType() == BsonType.DOCUMENT) {
+                subDocuments.add(items.size());
+            }
+            items.add(readValue(reader, decoderContext));
+        }
+        reader.readEndArray();
+        if (subDocuments.size() != items.size()) {
+            for (int index : subDocuments) {
+                org.bson.Document document = new org.bson.Document();
+                ((List<Document>) items.get(index)).forEach(d -> document.append(d.name(), d.get()));
+                items.set(index, document);
+            }
+        }
+        return items;
+    }
+
+    private void writeDocument(BsonWriter writer, Document document, EncoderContext encoderContext) {
+        writer.writeName(document.name());
+        writeValue(writer, ValueUtil.convert(document.value()), encoderContext);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void writeValue(BsonWriter writer, Object value, EncoderContext encoderContext) {
+        if (value == null) {
+            writer.writeNull();
+        } else if (value instanceof Document) {
+            writer.writeStartDocument();
+            writeDocument(writer, (Document) value, encoderContext);
+            writer.writeEndDocument();
+        } else if (value instanceof Iterable) {
+            writeIterable(writer, (Iterable<Object>) value, encoderContext);
+        } else if (value instanceof Map) {
+            writer.writeStartDocument();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                writer.writeName(Objects.toString(entry.getKey()));
+                writeValue(writer, entry.getValue(), encoderContext);
+            }
+            writer.writeEndDocument();
+        } else {
+            Codec codec = registry.get(value.getClass());
+            encoderContext.encodeWithChildContext(codec, writer, value);
+        }
+    }
+
+    private void writeIterable(BsonWriter writer, Iterable<Object> values, EncoderContext encoderContext) {
+        boolean subDocument = true;
+        for (Object value : values) {
+            if (!(value instanceof Document)) {
+                subDocument = false;
+                break;
+            }
+        }
+        if (subDocument) {
+            writer.writeStartDocument();
+            values.forEach(d -> writeDocument(writer, (Document) d, encoderContext));
+            writer.writeEndDocument();
+        } else {
+            writer.writeStartArray();
+            values.forEach(v -> writeValue(writer, v, encoderContext));
+            writer.writeEndArray();
+        }
+    }
+}
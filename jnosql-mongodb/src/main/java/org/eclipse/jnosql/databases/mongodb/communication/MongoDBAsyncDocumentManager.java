@@ -0,0 +1,259 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import jakarta.data.repository.Sort;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.reactivestreams.FlowAdapters;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+
+import static java.util.stream.Collectors.toList;
+import static org.eclipse.jnosql.databases.mongodb.communication.MongoDBUtils.ID_FIELD;
+
+/**
+ * The asynchronous counterpart of {@link MongoDBDocumentManager}, backed by the MongoDB reactive streams driver.
+ * Operations that return a single result return a {@link CompletionStage}, and queries return a
+ * {@link Flow.Publisher} that fetches the documents from the server on demand, honoring the subscriber's
+ * backpressure. Nothing is sent to the server until the returned publisher is subscribed.
+ */
+public class MongoDBAsyncDocumentManager implements AutoCloseable {
+
+    private static final BsonDocument EMPTY = new BsonDocument();
+
+    private final MongoDatabase mongoDatabase;
+
+    private final String database;
+
+    private final Map<String, MongoCollection<DocumentEntity>> collections = new ConcurrentHashMap<>();
+
+    MongoDBAsyncDocumentManager(MongoDatabase mongoDatabase, String database) {
+        this.mongoDatabase = mongoDatabase;
+        this.database = database;
+    }
+
+    /**
+     * @return the database name
+     */
+    public String name() {
+        return database;
+    }
+
+    /**
+     * Inserts an entity, adding the generated {@code _id} when the entity does not have it.
+     *
+     * @param entity the entity to be inserted
+     * @return the stage completed with the inserted entity
+     * @throws NullPointerException when entity is null
+     */
+    public CompletionStage<DocumentEntity> insert(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        MongoCollection<DocumentEntity> collection = getCollection(entity.name());
+        return Publishers.last(collection.insertOne(entity))
+                .thenApply(r -> entity);
+    }
+
+    /**
+     * Inserts entities, grouped by collection, with one insertMany per collection.
+     *
+     * @param entities the entities to be inserted
+     * @return the stage completed with the inserted entities
+     * @throws NullPointerException when entities is null
+     */
+    public CompletionStage<Iterable<DocumentEntity>> insert(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        Map<String, List<DocumentEntity>> groups = new LinkedHashMap<>();
+        List<DocumentEntity> result = new ArrayList<>();
+        for (DocumentEntity entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            groups.computeIfAbsent(entity.name(), k -> new ArrayList<>()).add(entity);
+            result.add(entity);
+        }
+        CompletionStage<?> inserts = CompletableFuture.completedFuture(null);
+        for (Map.Entry<String, List<DocumentEntity>> group : groups.entrySet()) {
+            inserts = inserts.thenCompose(r -> insertMany(group.getKey(), group.getValue()));
+        }
+        return inserts.<Iterable<DocumentEntity>>thenApply(r -> result);
+    }
+
+    /**
+     * Replaces the document with the same {@code _id} of the entity.
+     *
+     * @param entity the entity to be updated
+     * @return the stage completed with the entity
+     * @throws NullPointerException          when entity is null
+     * @throws UnsupportedOperationException when the entity does not have the {@code _id} field
+     */
+    public CompletionStage<DocumentEntity> update(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        MongoCollection<DocumentEntity> collection = getCollection(entity.name());
+        Document id = entity.find(ID_FIELD)
+                .map(d -> new Document(d.name(), d.value().get()))
+                .orElseThrow(() -> new UnsupportedOperationException("To update this DocumentEntity " +
+                        "the field `id` is required"));
+        return Publishers.last(collection.replaceOne(id, entity))
+                .thenApply(r -> entity);
+    }
+
+    /**
+     * Deletes the documents that match the query.
+     *
+     * @param query the delete query
+     * @return the stage completed with the number of deleted documents
+     * @throws NullPointerException when query is null
+     */
+    public CompletionStage<Long> delete(DocumentDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        Bson mongoDBQuery = query.condition().map(DocumentQueryConversor::convert).orElse(EMPTY);
+        return delete(query.name(), mongoDBQuery);
+    }
+
+    /**
+     * Removes all documents from the collection that match the given query filter.
+     *
+     * @param collectionName the collection name
+     * @param filter         the delete filter
+     * @return the stage completed with the number of deleted documents
+     * @throws NullPointerException when filter or collectionName is null
+     */
+    public CompletionStage<Long> delete(String collectionName, Bson filter) {
+        Objects.requireNonNull(filter, "filter is required");
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        MongoCollection<DocumentEntity> collection = getCollection(collectionName);
+        return Publishers.last(collection.deleteMany(filter))
+                .thenApply(DeleteResult::getDeletedCount);
+    }
+
+    /**
+     * Finds the documents that match the query.
+     *
+     * @param query the query
+     * @return the publisher of the entities found
+     * @throws NullPointerException when query is null
+     */
+    public Flow.Publisher<DocumentEntity> select(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        MongoCollection<DocumentEntity> collection = getCollection(query.name());
+        Bson mongoDBQuery = query.condition().map(DocumentQueryConversor::convert).orElse(EMPTY);
+
+        FindPublisher<DocumentEntity> documents = collection.find(mongoDBQuery)
+                .projection(Projections.include(query.documents()));
+        if (query.skip() > 0) {
+            documents.skip((int) query.skip());
+        }
+        if (query.limit() > 0) {
+            documents.limit((int) query.limit());
+        }
+        if (!query.sorts().isEmpty()) {
+            documents.sort(Sorts.orderBy(query.sorts().stream().map(this::getSort).collect(toList())));
+        }
+        return FlowAdapters.toFlowPublisher(documents);
+    }
+
+    /**
+     * Finds all documents in the collection that match the filter.
+     *
+     * @param collectionName the collection name
+     * @param filter         the query filter
+     * @return the publisher of the entities found
+     * @throws NullPointerException when filter or collectionName is null
+     */
+    public Flow.Publisher<DocumentEntity> select(String collectionName, Bson filter) {
+        Objects.requireNonNull(filter, "filter is required");
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        MongoCollection<DocumentEntity> collection = getCollection(collectionName);
+        return FlowAdapters.toFlowPublisher(collection.find(filter));
+    }
+
+    /**
+     * Aggregates documents according to the specified aggregation pipeline.
+     *
+     * @param collectionName the collection name
+     * @param pipeline       the aggregation pipeline
+     * @return the publisher of the aggregation result
+     * @throws NullPointerException when pipeline or collectionName is null
+     */
+    public Flow.Publisher<DocumentEntity> aggregate(String collectionName, List<Bson> pipeline) {
+        Objects.requireNonNull(pipeline, "pipeline is required");
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        MongoCollection<DocumentEntity> collection = getCollection(collectionName);
+        return FlowAdapters.toFlowPublisher(collection.aggregate(pipeline));
+    }
+
+    /**
+     * Returns the number of documents in the collection.
+     *
+     * @param collectionName the collection name
+     * @return the stage completed with the number of documents
+     * @throws NullPointerException when collectionName is null
+     */
+    public CompletionStage<Long> count(String collectionName) {
+        return count(collectionName, EMPTY);
+    }
+
+    /**
+     * Returns the number of documents in the collection that match the given query filter.
+     *
+     * @param collectionName the collection name
+     * @param filter         the query filter
+     * @return the stage completed with the number of documents found
+     * @throws NullPointerException when filter or collectionName is null
+     */
+    public CompletionStage<Long> count(String collectionName, Bson filter) {
+        Objects.requireNonNull(filter, "filter is required");
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        MongoCollection<DocumentEntity> collection = getCollection(collectionName);
+        return Publishers.last(collection.countDocuments(filter));
+    }
+
+    @Override
+    public void close() {
+
+    }
+
+    private CompletionStage<InsertManyResult> insertMany(String collectionName, List<DocumentEntity> entities) {
+        MongoCollection<DocumentEntity> collection = getCollection(collectionName);
+        return Publishers.last(collection.insertMany(entities));
+    }
+
+    private MongoCollection<DocumentEntity> getCollection(String collectionName) {
+        return collections.computeIfAbsent(collectionName, n -> MongoDBUtils.getCollection(mongoDatabase, n));
+    }
+
+    private Bson getSort(Sort sort) {
+        return sort.isAscending() ? Sorts.ascending(sort.property()) : Sorts.descending(sort.property());
+    }
+}
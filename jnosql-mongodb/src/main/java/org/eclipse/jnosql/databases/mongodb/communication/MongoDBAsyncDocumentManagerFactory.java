@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The factory of {@link MongoDBAsyncDocumentManager}, backed by the MongoDB reactive streams client.
+ */
+public class MongoDBAsyncDocumentManagerFactory implements Function<String, MongoDBAsyncDocumentManager>,
+        AutoCloseable {
+
+    private final MongoClient mongoClient;
+
+    MongoDBAsyncDocumentManagerFactory(MongoClient mongoClient) {
+        this.mongoClient = mongoClient;
+    }
+
+    @Override
+    public MongoDBAsyncDocumentManager apply(String database) {
+        Objects.requireNonNull(database, "database is required");
+        return new MongoDBAsyncDocumentManager(mongoClient.getDatabase(database), database);
+    }
+
+    @Override
+    public void close() {
+        mongoClient.close();
+    }
+
+    @Override
+    public String toString() {
+        return "MongoDBAsyncDocumentManagerFactory{" + "mongoClient=" + mongoClient +
+                '}';
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.bulk.BulkWriteError;
+import org.eclipse.jnosql.communication.CommunicationException;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Exception thrown when one or more batches of a bulk insert or update fail.
+ * Each {@link BulkWriteError#getIndex()} refers to the position of the entity within
+ * the entities of the same collection, in the order they were given.
+ */
+public class MongoDBBulkWriteException extends CommunicationException {
+
+    private final String collection;
+
+    private final List<BulkWriteError> errors;
+
+    MongoDBBulkWriteException(String collection, List<BulkWriteError> errors, Throwable cause) {
+        super("There are " + errors.size() + " write errors at the collection " + collection, cause);
+        this.collection = collection;
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * @return the collection where the write errors happened
+     */
+    public String collection() {
+        return collection;
+    }
+
+    /**
+     * @return the write errors of every failed batch
+     */
+    public List<BulkWriteError> errors() {
+        return errors;
+    }
+}
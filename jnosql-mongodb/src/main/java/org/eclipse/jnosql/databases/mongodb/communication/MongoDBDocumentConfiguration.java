@@ -76,6 +76,42 @@ public class MongoDBDocumentConfiguration implements DocumentConfiguration {
     public MongoDBDocumentManagerFactory apply(Settings settings) throws NullPointerException {
         requireNonNull(settings, "settings is required");
 
+        int batchSize = settings.get(MongoDBDocumentConfigurations.BATCH_SIZE, Integer.class)
+                .orElse(MongoDBDocumentManager.DEFAULT_BATCH_SIZE);
+        boolean ordered = settings.get(MongoDBDocumentConfigurations.BATCH_ORDERED, Boolean.class)
+                .orElse(true);
+        MongoClient mongoClient = MongoClients.create(toMongoClientSettings(settings));
+        return new MongoDBDocumentManagerFactory(mongoClient, batchSize, ordered);
+    }
+
+    /**
+     * Creates a {@link MongoDBAsyncDocumentManagerFactory}, backed by the reactive streams driver,
+     * from the same settings used by {@link MongoDBDocumentConfiguration#apply(Settings)}
+     *
+     * @param settings the settings
+     * @return a MongoDBAsyncDocumentManagerFactory instance
+     * @throws NullPointerException when the settings is null
+     */
+    public MongoDBAsyncDocumentManagerFactory async(Settings settings) throws NullPointerException {
+        requireNonNull(settings, "settings is required");
+        return new MongoDBAsyncDocumentManagerFactory(com.mongodb.reactivestreams.client.MongoClients
+                .create(toMongoClientSettings(settings)));
+    }
+
+    /**
+     * Creates a {@link MongoDBAsyncDocumentManagerFactory} from the reactive streams mongoClient
+     *
+     * @param mongoClient the reactive streams mongo client
+     * @return a MongoDBAsyncDocumentManagerFactory instance
+     * @throws NullPointerException when the mongoClient is null
+     */
+    public MongoDBAsyncDocumentManagerFactory async(com.mongodb.reactivestreams.client.MongoClient mongoClient)
+            throws NullPointerException {
+        requireNonNull(mongoClient, "mongo client is required");
+        return new MongoDBAsyncDocumentManagerFactory(mongoClient);
+    }
+
+    private MongoClientSettings toMongoClientSettings(Settings settings) {
         List<ServerAddress> servers = settings
                 .prefixSupplier(Arrays.asList(MongoDBDocumentConfigurations.HOST,
                         Configurations.HOST))
@@ -93,20 +129,15 @@ public class MongoDBDocumentConfiguration implements DocumentConfiguration {
             return connectionString.map(c -> MongoClientSettings.builder()
                     .applyConnectionString(c)
                     .build())
-                    .map(MongoClients::create)
-                    .map(MongoDBDocumentManagerFactory::new)
-                    .orElseGet(() -> new MongoDBDocumentManagerFactory(MongoClients.create()));
+                    .orElseGet(() -> MongoClientSettings.builder().build());
         }
 
         Optional<MongoCredential> credential = MongoAuthentication.of(settings);
 
-
-        final MongoClientSettings mongoClientSettings = credential.map(c -> MongoClientSettings.builder().credential(c)
+        return credential.map(c -> MongoClientSettings.builder().credential(c)
                 .applyToClusterSettings(builder -> builder.hosts(servers))).orElseGet(() ->
                 MongoClientSettings.builder()
                         .applyToClusterSettings(builder -> builder.hosts(servers))).build();
-
-        return new MongoDBDocumentManagerFactory(MongoClients.create(mongoClientSettings));
     }
 
     public MongoDBDocumentManagerFactory get(String pathFileConfig) throws NullPointerException {
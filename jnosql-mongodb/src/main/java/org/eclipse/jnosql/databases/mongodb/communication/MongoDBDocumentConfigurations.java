@@ -48,7 +48,17 @@ public enum MongoDBDocumentConfigurations implements Supplier<String> {
     /**
      * Authentication mechanisms {@link com.mongodb.AuthenticationMechanism}
      */
-    AUTHENTICATION_MECHANISM("jnosql.mongodb.authentication.mechanism");
+    AUTHENTICATION_MECHANISM("jnosql.mongodb.authentication.mechanism"),
+    /**
+     * The maximum number of documents sent in a single insertMany/bulkWrite call when
+     * inserting or updating several entities. The default value is 1000.
+     */
+    BATCH_SIZE("jnosql.mongodb.batch.size"),
+    /**
+     * Whether bulk writes are ordered; when false, the server keeps processing the
+     * remaining documents of a batch after a failure. The default value is true.
+     */
+    BATCH_ORDERED("jnosql.mongodb.batch.ordered");
 
     private final String configuration;
 
@@ -15,12 +15,19 @@
 
 package org.eclipse.jnosql.databases.mongodb.communication;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertManyOptions;
 import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import jakarta.data.repository.Sort;
 import org.bson.BsonDocument;
@@ -30,13 +37,16 @@ import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.communication.document.DocumentManager;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
-import org.eclipse.jnosql.communication.document.Documents;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -44,7 +54,6 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
 import org.bson.BsonValue;
 import static org.eclipse.jnosql.databases.mongodb.communication.MongoDBUtils.ID_FIELD;
-import static org.eclipse.jnosql.databases.mongodb.communication.MongoDBUtils.getDocument;
 
 /**
  * The mongodb implementation to {@link DocumentManager} that does not support TTL methods
@@ -52,15 +61,34 @@ import static org.eclipse.jnosql.databases.mongodb.communication.MongoDBUtils.ge
  */
 public class MongoDBDocumentManager implements DocumentManager {
 
+    static final int DEFAULT_BATCH_SIZE = 1000;
+
     private static final BsonDocument EMPTY = new BsonDocument();
 
+    private static final ReplaceOptions UPSERT = new ReplaceOptions().upsert(true);
+
     private final MongoDatabase mongoDatabase;
 
     private final String database;
 
+    private final int batchSize;
+
+    private final boolean ordered;
+
+    private final Map<String, MongoCollection<DocumentEntity>> collections = new ConcurrentHashMap<>();
+
     MongoDBDocumentManager(MongoDatabase mongoDatabase, String database) {
+        this(mongoDatabase, database, DEFAULT_BATCH_SIZE, true);
+    }
+
+    MongoDBDocumentManager(MongoDatabase mongoDatabase, String database, int batchSize, boolean ordered) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be greater than zero: " + batchSize);
+        }
         this.mongoDatabase = mongoDatabase;
         this.database = database;
+        this.batchSize = batchSize;
+        this.ordered = ordered;
     }
 
 
@@ -72,15 +100,8 @@ public class MongoDBDocumentManager implements DocumentManager {
     @Override
     public DocumentEntity insert(DocumentEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
-        String collectionName = entity.name();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        Document document = getDocument(entity);
-        collection.insertOne(document);
-        boolean hasNotId = entity.documents().stream()
-                .map(org.eclipse.jnosql.communication.document.Document::name).noneMatch(k -> k.equals(ID_FIELD));
-        if (hasNotId) {
-            entity.add(Documents.of(ID_FIELD, document.get(ID_FIELD)));
-        }
+        MongoCollection<DocumentEntity> collection = getCollection(entity.name());
+        collection.insertOne(entity);
         return entity;
     }
 
@@ -90,12 +111,21 @@ public class MongoDBDocumentManager implements DocumentManager {
         throw new UnsupportedOperationException("MongoDB does not support save with TTL");
     }
 
+    /**
+     * Inserts the entities grouped by collection, sending each group with insertMany
+     * in batches of, at most, {@link MongoDBDocumentConfigurations#BATCH_SIZE} documents.
+     *
+     * @param entities entities to be inserted
+     * @return the entities, with the generated {@code _id} when it was absent
+     * @throws NullPointerException       when entities is null
+     * @throws MongoDBBulkWriteException when any document could not be inserted
+     */
     @Override
     public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert)
-                .collect(toList());
+        List<DocumentEntity> result = StreamSupport.stream(entities.spliterator(), false).collect(toList());
+        groupByCollection(result).forEach((collectionName, group) -> bulk(collectionName, group, this::insertMany));
+        return result;
     }
 
     @Override
@@ -112,24 +142,36 @@ public class MongoDBDocumentManager implements DocumentManager {
     public DocumentEntity update(DocumentEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
 
-        DocumentEntity copy = entity.copy();
-        String collectionName = entity.name();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        Document id = copy.find(ID_FIELD)
+        MongoCollection<DocumentEntity> collection = getCollection(entity.name());
+        Document id = entity.find(ID_FIELD)
                 .map(d -> new Document(d.name(), d.value().get()))
                 .orElseThrow(() -> new UnsupportedOperationException("To update this DocumentEntity " +
                         "the field `id` is required"));
-        copy.remove(ID_FIELD);
-        collection.findOneAndReplace(id, getDocument(entity));
+        collection.replaceOne(id, entity);
         return entity;
     }
 
+    /**
+     * Replaces the entities by {@code _id}, inserting them when they do not exist yet.
+     * The entities are grouped by collection and sent with bulkWrite in batches of, at most,
+     * {@link MongoDBDocumentConfigurations#BATCH_SIZE} documents.
+     *
+     * @param entities entities to be updated
+     * @return the entities
+     * @throws NullPointerException          when entities is null
+     * @throws UnsupportedOperationException when any entity does not have the {@code _id} field
+     * @throws MongoDBBulkWriteException    when any document could not be written
+     */
     @Override
     public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update)
-                .collect(toList());
+        List<DocumentEntity> result = StreamSupport.stream(entities.spliterator(), false).collect(toList());
+        boolean hasNotId = result.stream().anyMatch(e -> e.find(ID_FIELD).isEmpty());
+        if (hasNotId) {
+            throw new UnsupportedOperationException("To update this DocumentEntity the field `id` is required");
+        }
+        groupByCollection(result).forEach((collectionName, group) -> bulk(collectionName, group, this::replaceMany));
+        return result;
     }
 
 
@@ -137,8 +179,7 @@ public class MongoDBDocumentManager implements DocumentManager {
     public void delete(DocumentDeleteQuery query) {
         Objects.requireNonNull(query, "query is required");
 
-        String collectionName = query.name();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
+        MongoCollection<DocumentEntity> collection = getCollection(query.name());
         Bson mongoDBQuery = query.condition().map(DocumentQueryConversor::convert).orElse(EMPTY);
         collection.deleteMany(mongoDBQuery);
     }
@@ -147,11 +188,10 @@ public class MongoDBDocumentManager implements DocumentManager {
     @Override
     public Stream<DocumentEntity> select(DocumentQuery query) {
         Objects.requireNonNull(query, "query is required");
-        String collectionName = query.name();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
+        MongoCollection<DocumentEntity> collection = getCollection(query.name());
         Bson mongoDBQuery = query.condition().map(DocumentQueryConversor::convert).orElse(EMPTY);
 
-        FindIterable<Document> documents = collection.find(mongoDBQuery);
+        FindIterable<DocumentEntity> documents = collection.find(mongoDBQuery);
         documents.projection(Projections.include(query.documents()));
         if (query.skip() > 0) {
             documents.skip((int) query.skip());
@@ -163,15 +203,14 @@ public class MongoDBDocumentManager implements DocumentManager {
 
         query.sorts().stream().map(this::getSort).forEach(documents::sort);
 
-        return stream(documents.spliterator(), false).map(MongoDBUtils::of)
-                .map(ds -> DocumentEntity.of(collectionName, ds));
+        return stream(documents.spliterator(), false);
 
     }
 
     @Override
     public long count(String documentCollection) {
         Objects.requireNonNull(documentCollection, "documentCollection is required");
-        MongoCollection<Document> collection = mongoDatabase.getCollection(documentCollection);
+        MongoCollection<DocumentEntity> collection = getCollection(documentCollection);
         return collection.countDocuments();
     }
 
@@ -193,7 +232,7 @@ public class MongoDBDocumentManager implements DocumentManager {
         Objects.requireNonNull(filter, "filter is required");
         Objects.requireNonNull(collectionName, "collectionName is required");
 
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
+        MongoCollection<DocumentEntity> collection = getCollection(collectionName);
         DeleteResult result = collection.deleteMany(filter);
         return result.getDeletedCount();
     }
@@ -225,10 +264,9 @@ public class MongoDBDocumentManager implements DocumentManager {
     public Stream<DocumentEntity> aggregate(String collectionName, List<Bson> pipeline) {
         Objects.requireNonNull(pipeline, "pipeline is required");
         Objects.requireNonNull(collectionName, "collectionName is required");
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        AggregateIterable<Document> aggregate = collection.aggregate(pipeline);
-        return stream(aggregate.spliterator(), false).map(MongoDBUtils::of)
-                .map(ds -> DocumentEntity.of(collectionName, ds));
+        MongoCollection<DocumentEntity> collection = getCollection(collectionName);
+        AggregateIterable<DocumentEntity> aggregate = collection.aggregate(pipeline);
+        return stream(aggregate.spliterator(), false);
     }
 
     /**
@@ -242,10 +280,60 @@ public class MongoDBDocumentManager implements DocumentManager {
     public Stream<DocumentEntity> select(String collectionName, Bson filter) {
         Objects.requireNonNull(filter, "filter is required");
         Objects.requireNonNull(collectionName, "collectionName is required");
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        FindIterable<Document> documents = collection.find(filter);
-        return stream(documents.spliterator(), false).map(MongoDBUtils::of)
-                .map(ds -> DocumentEntity.of(collectionName, ds));
+        MongoCollection<DocumentEntity> collection = getCollection(collectionName);
+        FindIterable<DocumentEntity> documents = collection.find(filter);
+        return stream(documents.spliterator(), false);
+    }
+
+    private Map<String, List<DocumentEntity>> groupByCollection(List<DocumentEntity> entities) {
+        Map<String, List<DocumentEntity>> collections = new LinkedHashMap<>();
+        for (DocumentEntity entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            collections.computeIfAbsent(entity.name(), k -> new ArrayList<>()).add(entity);
+        }
+        return collections;
+    }
+
+    private void bulk(String collectionName, List<DocumentEntity> entities,
+                      BiConsumer<MongoCollection<DocumentEntity>, List<DocumentEntity>> writer) {
+        MongoCollection<DocumentEntity> collection = getCollection(collectionName);
+        List<BulkWriteError> errors = new ArrayList<>();
+        MongoBulkWriteException cause = null;
+        for (int offset = 0; offset < entities.size(); offset += batchSize) {
+            List<DocumentEntity> batch = entities.subList(offset, Math.min(offset + batchSize, entities.size()));
+            try {
+                writer.accept(collection, batch);
+            } catch (MongoBulkWriteException exception) {
+                for (BulkWriteError error : exception.getWriteErrors()) {
+                    errors.add(new BulkWriteError(error.getCode(), error.getMessage(), error.getDetails(),
+                            error.getIndex() + offset));
+                }
+                cause = cause == null ? exception : cause;
+                if (ordered) {
+                    break;
+                }
+            }
+        }
+        if (cause != null) {
+            throw new MongoDBBulkWriteException(collectionName, errors, cause);
+        }
+    }
+
+    private void insertMany(MongoCollection<DocumentEntity> collection, List<DocumentEntity> entities) {
+        collection.insertMany(entities, new InsertManyOptions().ordered(ordered));
+    }
+
+    private void replaceMany(MongoCollection<DocumentEntity> collection, List<DocumentEntity> entities) {
+        List<WriteModel<DocumentEntity>> replaces = new ArrayList<>(entities.size());
+        for (DocumentEntity entity : entities) {
+            Document id = new Document(ID_FIELD, entity.find(ID_FIELD).orElseThrow().get());
+            replaces.add(new ReplaceOneModel<>(id, entity, UPSERT));
+        }
+        collection.bulkWrite(replaces, new BulkWriteOptions().ordered(ordered));
+    }
+
+    private MongoCollection<DocumentEntity> getCollection(String collectionName) {
+        return collections.computeIfAbsent(collectionName, n -> MongoDBUtils.getCollection(mongoDatabase, n));
     }
 
     private Bson getSort(Sort sort) {
@@ -263,7 +351,7 @@ public class MongoDBDocumentManager implements DocumentManager {
     public long count(String collectionName, Bson filter) {
         Objects.requireNonNull(filter, "filter is required");
         Objects.requireNonNull(collectionName, "collectionName is required");
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
+        MongoCollection<DocumentEntity> collection = getCollection(collectionName);
         return collection.countDocuments(filter);
     }
 
@@ -27,14 +27,24 @@ public class MongoDBDocumentManagerFactory implements DocumentManagerFactory {
 
     private final MongoClient mongoClient;
 
+    private final int batchSize;
+
+    private final boolean ordered;
+
     MongoDBDocumentManagerFactory(MongoClient mongoClient) {
+        this(mongoClient, MongoDBDocumentManager.DEFAULT_BATCH_SIZE, true);
+    }
+
+    MongoDBDocumentManagerFactory(MongoClient mongoClient, int batchSize, boolean ordered) {
         this.mongoClient = mongoClient;
+        this.batchSize = batchSize;
+        this.ordered = ordered;
     }
 
     @Override
     public MongoDBDocumentManager apply(String database) {
         Objects.requireNonNull(database, "database is required");
-        return new MongoDBDocumentManager(mongoClient.getDatabase(database), database);
+        return new MongoDBDocumentManager(mongoClient.getDatabase(database), database, batchSize, ordered);
     }
 
 
@@ -46,6 +56,8 @@ public class MongoDBDocumentManagerFactory implements DocumentManagerFactory {
     @Override
     public String toString() {
        return "MongoDBDocumentManagerFactory{" + "mongoClient=" + mongoClient +
+               ", batchSize=" + batchSize +
+               ", ordered=" + ordered +
                 '}';
     }
 }
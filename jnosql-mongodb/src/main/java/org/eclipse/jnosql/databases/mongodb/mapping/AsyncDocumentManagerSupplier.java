@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2022 Eclipse Contribuitor
+ * All rights reserved. This program and the accompanying materials
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *    You may elect to redistribute this code under either of these licenses.
+ */
+
+package org.eclipse.jnosql.databases.mongodb.mapping;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.data.exceptions.MappingException;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.Typed;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBAsyncDocumentManager;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBAsyncDocumentManagerFactory;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBDocumentConfiguration;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.eclipse.jnosql.mapping.config.MappingConfigurations.DOCUMENT_DATABASE;
+
+@ApplicationScoped
+class AsyncDocumentManagerSupplier implements Supplier<MongoDBAsyncDocumentManager> {
+
+    private static final Logger LOGGER = Logger.getLogger(AsyncDocumentManagerSupplier.class.getName());
+
+    private MongoDBAsyncDocumentManagerFactory factory;
+
+    private MongoDBAsyncDocumentManager manager;
+
+    /**
+     * Returns the manager of the application, created on the first call: every manager shares the reactive
+     * client, and its connection pool, of a single factory, which is closed with the application.
+     */
+    @Override
+    @Produces
+    @Typed(MongoDBAsyncDocumentManager.class)
+    public synchronized MongoDBAsyncDocumentManager get() {
+        if (manager == null) {
+            Settings settings = MicroProfileSettings.INSTANCE;
+            Optional<String> database = settings.get(DOCUMENT_DATABASE, String.class);
+            String db = database.orElseThrow(() -> new MappingException("Please, inform the database filling up the property "
+                    + DOCUMENT_DATABASE));
+            MongoDBDocumentConfiguration configuration = new MongoDBDocumentConfiguration();
+            factory = configuration.async(settings);
+            manager = factory.apply(db);
+            LOGGER.log(Level.FINEST, "Starting  a MongoDBAsyncDocumentManager instance using Eclipse MicroProfile Config," +
+                    " database name: " + db);
+        }
+        return manager;
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        if (manager != null) {
+            LOGGER.log(Level.FINEST, "Closing MongoDBAsyncDocumentManager resource, database name: " + manager.name());
+            manager.close();
+            factory.close();
+            manager = null;
+            factory = null;
+        }
+    }
+
+}
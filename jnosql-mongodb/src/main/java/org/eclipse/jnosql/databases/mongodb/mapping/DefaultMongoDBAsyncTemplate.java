@@ -0,0 +1,209 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.mapping;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Typed;
+import jakarta.inject.Inject;
+import org.bson.conversions.Bson;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBAsyncDocumentManager;
+import org.eclipse.jnosql.mapping.document.DocumentEntityConverter;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+
+@ApplicationScoped
+@Typed(MongoDBAsyncTemplate.class)
+class DefaultMongoDBAsyncTemplate implements MongoDBAsyncTemplate {
+
+    private Instance<MongoDBAsyncDocumentManager> instance;
+
+    private volatile MongoDBAsyncDocumentManager manager;
+
+    private DocumentEntityConverter converter;
+
+    private EntitiesMetadata entities;
+
+
+    @Inject
+    DefaultMongoDBAsyncTemplate(Instance<MongoDBAsyncDocumentManager> manager,
+                                DocumentEntityConverter converter,
+                                EntitiesMetadata entities) {
+        this.instance = manager;
+        this.converter = converter;
+        this.entities = entities;
+    }
+
+    DefaultMongoDBAsyncTemplate() {
+
+    }
+
+    @Override
+    public <T> CompletionStage<T> insert(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        DocumentEntity documentEntity = this.converter.toDocument(entity);
+        return getManager().insert(documentEntity)
+                .thenApply(e -> this.converter.toEntity(entity, e));
+    }
+
+    @Override
+    public <T> CompletionStage<T> update(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        DocumentEntity documentEntity = this.converter.toDocument(entity);
+        return getManager().update(documentEntity)
+                .thenApply(e -> this.converter.toEntity(entity, e));
+    }
+
+    @Override
+    public CompletionStage<Long> delete(String collectionName, Bson filter) {
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        Objects.requireNonNull(filter, "filter is required");
+        return getManager().delete(collectionName, filter);
+    }
+
+    @Override
+    public <T> CompletionStage<Long> delete(Class<T> entity, Bson filter) {
+        Objects.requireNonNull(entity, "Entity is required");
+        Objects.requireNonNull(filter, "filter is required");
+        EntityMetadata entityMetadata = this.entities.get(entity);
+        return getManager().delete(entityMetadata.name(), filter);
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> select(String collectionName, Bson filter) {
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        Objects.requireNonNull(filter, "filter is required");
+        return toEntities(getManager().select(collectionName, filter));
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> select(Class<T> entity, Bson filter) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(filter, "filter is required");
+        EntityMetadata entityMetadata = this.entities.get(entity);
+        return toEntities(getManager().select(entityMetadata.name(), filter));
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> aggregate(String collectionName, List<Bson> pipeline) {
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        Objects.requireNonNull(pipeline, "pipeline is required");
+        return toEntities(getManager().aggregate(collectionName, pipeline));
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> aggregate(Class<T> entity, List<Bson> pipeline) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(pipeline, "pipeline is required");
+        EntityMetadata entityMetadata = this.entities.get(entity);
+        return toEntities(getManager().aggregate(entityMetadata.name(), pipeline));
+    }
+
+    @Override
+    public CompletionStage<Long> count(String collectionName, Bson filter) {
+        Objects.requireNonNull(collectionName, "collection name is required");
+        Objects.requireNonNull(filter, "filter is required");
+        return getManager().count(collectionName, filter);
+    }
+
+    @Override
+    public <T> CompletionStage<Long> count(Class<T> entity, Bson filter) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(filter, "filter is required");
+        EntityMetadata entityMetadata = this.entities.get(entity);
+        return getManager().count(entityMetadata.name(), filter);
+    }
+
+    /**
+     * Resolves the manager on the first operation, rather than on every one, so the dependent instances are not
+     * kept by the {@link Instance}.
+     */
+    private MongoDBAsyncDocumentManager getManager() {
+        MongoDBAsyncDocumentManager current = manager;
+        if (current == null) {
+            current = instance.get();
+            manager = current;
+        }
+        return current;
+    }
+
+    private <T> Flow.Publisher<T> toEntities(Flow.Publisher<DocumentEntity> publisher) {
+        return subscriber -> publisher.subscribe(new EntitySubscriber<>(subscriber));
+    }
+
+    /**
+     * Converts each document of the manager to the entity before it is handed to the subscriber, which keeps the
+     * demand and the cancellation of the subscription.
+     */
+    private final class EntitySubscriber<T> implements Flow.Subscriber<DocumentEntity> {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private Flow.Subscription subscription;
+
+        private boolean done;
+
+        private EntitySubscriber(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscriber.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(DocumentEntity entity) {
+            if (done) {
+                return;
+            }
+            T converted;
+            try {
+                converted = converter.toEntity(entity);
+            } catch (RuntimeException exp) {
+                done = true;
+                subscription.cancel();
+                subscriber.onError(exp);
+                return;
+            }
+            subscriber.onNext(converted);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!done) {
+                done = true;
+                subscriber.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                subscriber.onComplete();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.mapping;
+
+import org.bson.conversions.Bson;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * The asynchronous counterpart of {@link MongoDBTemplate}, backed by the MongoDB reactive streams driver.
+ * Single results are returned as {@link CompletionStage} and queries as {@link Flow.Publisher},
+ * which fetches the documents on demand, honoring the subscriber's backpressure.
+ */
+public interface MongoDBAsyncTemplate {
+
+    /**
+     * Inserts an entity
+     *
+     * @param entity the entity to be inserted
+     * @param <T>    the entity type
+     * @return the stage completed with the inserted entity
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> insert(T entity);
+
+    /**
+     * Updates an entity
+     *
+     * @param entity the entity to be updated
+     * @param <T>    the entity type
+     * @return the stage completed with the updated entity
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> update(T entity);
+
+    /**
+     * Removes all documents from the collection that match the given query filter.
+     *
+     * @param collectionName the collection name
+     * @param filter         the delete filter
+     * @return the stage completed with the number of documents deleted.
+     * @throws NullPointerException when filter or collectionName is null
+     */
+    CompletionStage<Long> delete(String collectionName, Bson filter);
+
+    /**
+     * Removes all documents from the collection that match the given query filter.
+     *
+     * @param entity the entity to take the collection name
+     * @param filter the delete filter
+     * @param <T>    the entity type
+     * @return the stage completed with the number of documents deleted.
+     * @throws NullPointerException when there is any null parameter
+     */
+    <T> CompletionStage<Long> delete(Class<T> entity, Bson filter);
+
+    /**
+     * Finds all documents in the collection.
+     *
+     * @param collectionName the collection name
+     * @param filter         the query filter
+     * @param <T>            the entity type
+     * @return the publisher of the result
+     * @throws NullPointerException when filter or collectionName is null
+     */
+    <T> Flow.Publisher<T> select(String collectionName, Bson filter);
+
+    /**
+     * Finds all documents in the collection.
+     *
+     * @param entity the collection name
+     * @param filter the query filter
+     * @param <T>    the entity type
+     * @return the publisher of the result
+     * @throws NullPointerException when filter or entity is null
+     */
+    <T> Flow.Publisher<T> select(Class<T> entity, Bson filter);
+
+    /**
+     * Aggregates documents according to the specified aggregation pipeline.
+     *
+     * @param collectionName the collection name
+     * @param pipeline       the aggregation pipeline
+     * @param <T>            the entity type
+     * @return the publisher of the result
+     * @throws NullPointerException when pipeline or collectionName is null
+     */
+    <T> Flow.Publisher<T> aggregate(String collectionName, List<Bson> pipeline);
+
+    /**
+     * Aggregates documents according to the specified aggregation pipeline.
+     *
+     * @param entity   the collection name
+     * @param pipeline the aggregation pipeline
+     * @param <T>      the entity type
+     * @return the publisher of the result
+     * @throws NullPointerException when pipeline or entity is null
+     */
+    <T> Flow.Publisher<T> aggregate(Class<T> entity, List<Bson> pipeline);
+
+    /**
+     * Returns the number of items in the collection that match the given query filter.
+     *
+     * @param collectionName the collection name
+     * @param filter         the query
+     * @return the stage completed with the number of documents founded.
+     * @throws NullPointerException when filter or collectionName is null
+     */
+    CompletionStage<Long> count(String collectionName, Bson filter);
+
+    /**
+     * Returns the number of items in the collection that match the given query filter.
+     *
+     * @param entity the entity type
+     * @param filter the filter
+     * @param <T>    the entity type
+     * @return the stage completed with the number of documents founded.
+     * @throws NullPointerException when filter or collectionName is null
+     */
+    <T> CompletionStage<Long> count(Class<T> entity, Bson filter);
+}
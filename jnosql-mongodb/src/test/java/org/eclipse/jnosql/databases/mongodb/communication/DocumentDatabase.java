@@ -44,6 +44,13 @@ public enum DocumentDatabase {
         return factory.apply(database);
     }
 
+    public MongoDBAsyncDocumentManager getAsync(String database) {
+        Settings settings = getSettings();
+        MongoDBDocumentConfiguration configuration = new MongoDBDocumentConfiguration();
+        MongoDBAsyncDocumentManagerFactory factory = configuration.async(settings);
+        return factory.apply(database);
+    }
+
 
     private Settings getSettings() {
         Map<String,Object> settings = new HashMap<>();
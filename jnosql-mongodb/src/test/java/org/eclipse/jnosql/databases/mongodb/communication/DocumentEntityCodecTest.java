@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.MongoClientSettings;
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DocumentEntityCodecTest {
+
+    private final CollectibleCodec<DocumentEntity> codec = (CollectibleCodec<DocumentEntity>) DocumentEntityCodec
+            .registry("person", MongoClientSettings.getDefaultCodecRegistry()).get(DocumentEntity.class);
+
+    @Test
+    public void shouldEncode() {
+        DocumentEntity entity = DocumentEntity.of("person");
+        entity.add(Document.of("name", "Ada"));
+        entity.add(Document.of("_id", 10));
+        entity.add(Document.of("phones", asList(Document.of("mobile", "1231231"))));
+        entity.add(Document.of("tags", asList("java", "nosql")));
+
+        BsonDocument document = encode(entity);
+
+        assertEquals("_id", document.getFirstKey());
+        assertEquals(new BsonInt32(10), document.get("_id"));
+        assertEquals(new BsonString("Ada"), document.get("name"));
+        assertEquals(new BsonString("1231231"), document.getDocument("phones").get("mobile"));
+        assertEquals(2, document.getArray("tags").size());
+    }
+
+    @Test
+    public void shouldDecode() {
+        BsonDocument document = new BsonDocument("_id", new BsonInt32(10))
+                .append("name", new BsonString("Ada"))
+                .append("contents", new BsonBinary(new byte[]{1, 2, 3}))
+                .append("phones", new BsonDocument("mobile", new BsonString("1231231")))
+                .append("contacts", new org.bson.BsonArray(asList(
+                        new BsonDocument("name", new BsonString("Ada")),
+                        new BsonDocument("name", new BsonString("Otavio")))));
+
+        DocumentEntity entity = codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+
+        assertEquals("person", entity.name());
+        assertEquals(10, entity.find("_id").get().get());
+        assertEquals("Ada", entity.find("name").get().get());
+        assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) entity.find("contents").get().get());
+        List<Document> phones = entity.find("phones").get().get(new TypeReference<>() {
+        });
+        assertThat(phones).containsExactly(Document.of("mobile", "1231231"));
+        List<List<Document>> contacts = (List<List<Document>>) entity.find("contacts").get().get();
+        assertThat(contacts).hasSize(2).allMatch(c -> c.size() == 1);
+    }
+
+    @Test
+    public void shouldGenerateId() {
+        DocumentEntity entity = DocumentEntity.of("person");
+        entity.add(Document.of("name", "Ada"));
+        assertFalse(codec.documentHasId(entity));
+
+        codec.generateIdIfAbsentFromDocument(entity);
+
+        assertTrue(codec.documentHasId(entity));
+        assertTrue(entity.find("_id").get().get() instanceof ObjectId);
+        assertTrue(codec.getDocumentId(entity).isObjectId());
+    }
+
+    private BsonDocument encode(DocumentEntity entity) {
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), entity, EncoderContext.builder().build());
+        return document;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import reactor.adapter.JdkFlowAdapter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.mongodb.client.model.Filters.eq;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.communication.document.DocumentQuery.select;
+import static org.eclipse.jnosql.communication.driver.IntegrationTest.MATCHES;
+import static org.eclipse.jnosql.communication.driver.IntegrationTest.NAMED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnabledIfSystemProperty(named = NAMED, matches = MATCHES)
+public class MongoDBAsyncDocumentManagerTest {
+
+    public static final String COLLECTION_NAME = "person";
+    private static MongoDBAsyncDocumentManager entityManager;
+
+    @BeforeAll
+    public static void setUp() {
+        entityManager = DocumentDatabase.INSTANCE.getAsync("database");
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        entityManager.delete(DocumentDeleteQuery.delete().from(COLLECTION_NAME).build())
+                .toCompletableFuture().join();
+    }
+
+    @Test
+    public void shouldInsert() {
+        DocumentEntity entity = entityManager.insert(getEntity("Poliana")).toCompletableFuture().join();
+        assertTrue(entity.find("_id").isPresent());
+    }
+
+    @Test
+    public void shouldInsertIterable() {
+        List<DocumentEntity> entities = IntStream.range(0, 100).mapToObj(i -> getEntity("Poliana"))
+                .collect(Collectors.toList());
+        Iterable<DocumentEntity> result = entityManager.insert(entities).toCompletableFuture().join();
+        assertThat(result).hasSize(100).allMatch(e -> e.find("_id").isPresent());
+        assertEquals(100L, entityManager.count(COLLECTION_NAME).toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldUpdate() {
+        DocumentEntity entity = entityManager.insert(getEntity("Poliana")).toCompletableFuture().join();
+        entity.add(Document.of("city", "Salvador"));
+        entityManager.update(entity).toCompletableFuture().join();
+
+        DocumentQuery query = select().from(COLLECTION_NAME).where("city").eq("Salvador").build();
+        List<DocumentEntity> entities = JdkFlowAdapter.flowPublisherToFlux(entityManager.select(query))
+                .collectList().block();
+        assertThat(entities).hasSize(1);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenUpdateWithoutId() {
+        assertThrows(UnsupportedOperationException.class, () -> entityManager.update(getEntity("Poliana")));
+    }
+
+    @Test
+    public void shouldSelectWithBackpressure() {
+        List<DocumentEntity> entities = IntStream.range(0, 10).mapToObj(i -> getEntity("Otavio"))
+                .collect(Collectors.toList());
+        entityManager.insert(entities).toCompletableFuture().join();
+
+        List<DocumentEntity> result = JdkFlowAdapter.flowPublisherToFlux(entityManager
+                        .select(COLLECTION_NAME, eq("name", "Otavio")))
+                .limitRate(2)
+                .collectList().block();
+        assertThat(result).hasSize(10);
+    }
+
+    @Test
+    public void shouldDeleteAndCount() {
+        entityManager.insert(getEntity("Ada")).toCompletableFuture().join();
+        entityManager.insert(getEntity("Lucas")).toCompletableFuture().join();
+        long deleted = entityManager.delete(COLLECTION_NAME, eq("name", "Ada")).toCompletableFuture().join();
+        assertEquals(1L, deleted);
+        assertEquals(1L, entityManager.count(COLLECTION_NAME, eq("name", "Lucas"))
+                .toCompletableFuture().join());
+    }
+
+    private DocumentEntity getEntity(String name) {
+        DocumentEntity entity = DocumentEntity.of(COLLECTION_NAME);
+        entity.add(Document.of("name", name));
+        entity.add(Document.of("age", 30));
+        return entity;
+    }
+}
@@ -38,6 +38,16 @@ public class MongoDBDocumentConfigurationTest {
     }
 
 
+    @Test
+    public void shouldReturnErrorWhenBatchSizeIsInvalid() {
+        Map<String, String> map = new HashMap<>();
+        map.put(MongoDBDocumentConfigurations.BATCH_SIZE.get(), "0");
+        MongoDBDocumentConfiguration configuration = new MongoDBDocumentConfiguration();
+        MongoDBDocumentManagerFactory managerFactory = configuration.get(map);
+        assertThrows(IllegalArgumentException.class, () -> managerFactory.apply("database"));
+        managerFactory.close();
+    }
+
     @Test
     public void shouldReturnErrorWhendSettingsIsNull() {
         DocumentConfiguration configuration = new MongoDBDocumentConfiguration();
@@ -83,6 +83,48 @@ public class MongoDBDocumentManagerTest {
         assertTrue(documentEntity.documents().stream().map(Document::name).anyMatch(s -> s.equals("_id")));
     }
 
+    @Test
+    public void shouldInsertIterable() {
+        List<DocumentEntity> entities = ThreadLocalRandom.current().ints(1500)
+                .mapToObj(i -> getEntity()).collect(Collectors.toList());
+        Iterable<DocumentEntity> result = entityManager.insert(entities);
+        assertThat(result).hasSize(1500)
+                .allMatch(e -> e.find("_id").isPresent());
+        assertEquals(1500L, entityManager.count(COLLECTION_NAME));
+    }
+
+    @Test
+    public void shouldUpdateIterableWithUpsert() {
+        DocumentEntity entity = entityManager.insert(getEntity());
+        entity.add(Document.of("newField", "10"));
+        DocumentEntity newEntity = getEntity();
+        newEntity.add(Document.of("_id", UUID.randomUUID().toString()));
+
+        entityManager.update(asList(entity, newEntity));
+
+        DocumentQuery query = select().from(COLLECTION_NAME).where("newField").eq("10").build();
+        assertEquals(1L, entityManager.select(query).count());
+        assertEquals(2L, entityManager.count(COLLECTION_NAME));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenUpdateIterableWithoutId() {
+        assertThrows(UnsupportedOperationException.class, () -> entityManager.update(List.of(getEntity())));
+    }
+
+    @Test
+    public void shouldReportBulkWriteErrors() {
+        DocumentEntity entity = entityManager.insert(getEntity());
+        DocumentEntity duplicated = getEntity();
+        duplicated.add(entity.find("_id").get());
+
+        MongoDBBulkWriteException exception = assertThrows(MongoDBBulkWriteException.class,
+                () -> entityManager.insert(asList(getEntity(), duplicated)));
+        assertEquals(COLLECTION_NAME, exception.collection());
+        assertThat(exception.errors()).hasSize(1)
+                .allMatch(e -> e.getIndex() == 1);
+    }
+
     @Test
     public void shouldThrowExceptionWhenInsertWithTTL() {
         assertThrows(UnsupportedOperationException.class, () -> entityManager.insert(getEntity(), Duration.ofSeconds(10)));
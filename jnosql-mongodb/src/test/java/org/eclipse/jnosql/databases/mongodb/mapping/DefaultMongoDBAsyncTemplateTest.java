@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *   Alessandro Moscatelli
+ */
+package org.eclipse.jnosql.databases.mongodb.mapping;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.bson.conversions.Bson;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBAsyncDocumentManager;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.document.DocumentEntityConverter;
+import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.eclipse.jnosql.mapping.spi.EntityMetadataExtension;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.mongodb.client.model.Filters.eq;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, DocumentEntityConverter.class})
+@AddPackages(Music.class)
+@AddPackages(Reflections.class)
+@AddExtensions({EntityMetadataExtension.class,
+        DocumentExtension.class})
+class DefaultMongoDBAsyncTemplateTest {
+
+    @Inject
+    private DocumentEntityConverter converter;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    private MongoDBAsyncTemplate template;
+
+    private MongoDBAsyncDocumentManager manager;
+
+    private Instance<MongoDBAsyncDocumentManager> instance;
+
+    @BeforeEach
+    public void setUp() {
+        this.manager = mock(MongoDBAsyncDocumentManager.class);
+        this.instance = mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        template = new DefaultMongoDBAsyncTemplate(instance, converter, entities);
+    }
+
+    @Test
+    public void shouldInsert() {
+        when(manager.insert(any(DocumentEntity.class)))
+                .thenAnswer(i -> CompletableFuture.completedFuture(i.getArgument(0)));
+        Person person = template.insert(new Person("Poliana", 30)).toCompletableFuture().join();
+        assertEquals(new Person("Poliana", 30), person);
+    }
+
+    @Test
+    public void shouldDeleteWithEntity() {
+        Bson filter = eq("name", "Poliana");
+        template.delete(Person.class, filter);
+        Mockito.verify(manager).delete("Person", filter);
+    }
+
+    @Test
+    public void shouldReturnErrorOnSelectMethod() {
+        assertThrows(NullPointerException.class, () -> template.select((String) null, null));
+        assertThrows(NullPointerException.class, () -> template.select("Collection", null));
+        assertThrows(NullPointerException.class, () -> template.select(Person.class, null));
+        assertThrows(NullPointerException.class, () -> template.select((Class<Object>) null,
+                eq("name", "Poliana")));
+    }
+
+    @Test
+    public void shouldSelectWithEntity() {
+        DocumentEntity entity = DocumentEntity.of("Person", Arrays
+                .asList(Document.of("_id", "Poliana"),
+                        Document.of("age", 30)));
+        Bson filter = eq("name", "Poliana");
+        when(manager.select("Person", filter))
+                .thenReturn(JdkFlowAdapter.publisherToFlowPublisher(Flux.just(entity)));
+        List<Person> people = JdkFlowAdapter.<Person>flowPublisherToFlux(template.select(Person.class, filter))
+                .collectList().block();
+        assertEquals(Collections.singletonList(new Person("Poliana", 30)), people);
+    }
+
+    @Test
+    public void shouldAggregateWithCollectionName() {
+        List<Bson> pipeline = Collections.singletonList(eq("name", "Poliana"));
+        when(manager.aggregate("Person", pipeline))
+                .thenReturn(JdkFlowAdapter.publisherToFlowPublisher(Flux.empty()));
+        template.aggregate("Person", pipeline);
+        Mockito.verify(manager).aggregate("Person", pipeline);
+    }
+
+    @Test
+    public void shouldResolveManagerOnce() {
+        template.count("Person", eq("name", "Poliana"));
+        template.delete("Person", eq("name", "Poliana"));
+        Mockito.verify(instance, Mockito.times(1)).get();
+    }
+
+    @Test
+    public void shouldCountByFilterWithEntity() {
+        var filter = eq("name", "Poliana");
+        template.count(Person.class, filter);
+        Mockito.verify(manager).count("Person", filter);
+    }
+}
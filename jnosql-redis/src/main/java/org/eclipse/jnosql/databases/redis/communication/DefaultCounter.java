@@ -14,7 +14,7 @@
  */
 package org.eclipse.jnosql.databases.redis.communication;
 
-import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
 
 import java.time.Duration;
 import java.util.Objects;
@@ -32,17 +32,17 @@ class DefaultCounter implements Counter {
 
     private final String key;
 
-    private Jedis jedis;
+    private final JedisPool jedisPool;
 
-    DefaultCounter(String key, Jedis jedis) {
+    DefaultCounter(String key, JedisPool jedisPool) {
         this.key = key;
-        this.jedis = jedis;
+        this.jedisPool = jedisPool;
     }
 
 
     @Override
     public Number get() {
-        return Optional.ofNullable(jedis.get(key))
+        return Optional.ofNullable(RedisUtils.execute(jedisPool, jedis -> jedis.get(key)))
                 .filter(IS_NOT_EMPTY)
                 .map(Double::valueOf)
                 .orElse(0D);
@@ -56,7 +56,7 @@ class DefaultCounter implements Counter {
     @Override
     public Number increment(Number value) throws NullPointerException {
         Objects.requireNonNull(value, "value is required");
-        return jedis.incrByFloat(key, value.doubleValue());
+        return RedisUtils.execute(jedisPool, jedis -> jedis.incrByFloat(key, value.doubleValue()));
     }
 
     @Override
@@ -67,23 +67,23 @@ class DefaultCounter implements Counter {
     @Override
     public Number decrement(Number value) {
         Objects.requireNonNull(value, "value is required");
-        return jedis.incrByFloat(key, -value.doubleValue());
+        return RedisUtils.execute(jedisPool, jedis -> jedis.incrByFloat(key, -value.doubleValue()));
     }
 
     @Override
     public void delete() {
-        jedis.del(key);
+        RedisUtils.run(jedisPool, jedis -> jedis.del(key));
     }
 
     @Override
     public void expire(Duration ttl) throws NullPointerException {
         Objects.requireNonNull(ttl, "ttl is required");
-        jedis.expire(key, (int) ttl.getSeconds());
+        RedisUtils.run(jedisPool, jedis -> jedis.expire(key, (int) ttl.getSeconds()));
     }
 
     @Override
     public void persist() {
-        jedis.persist(key);
+        RedisUtils.run(jedisPool, jedis -> jedis.persist(key));
     }
 
     @Override
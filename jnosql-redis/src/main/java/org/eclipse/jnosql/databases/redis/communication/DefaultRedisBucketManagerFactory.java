@@ -31,8 +31,15 @@ class DefaultRedisBucketManagerFactory implements RedisBucketManagerFactory {
 
     private final JedisPool jedisPool;
 
+    private final int batchSize;
+
     DefaultRedisBucketManagerFactory(JedisPool jedisPool) {
+        this(jedisPool, RedisBucketManager.DEFAULT_BATCH_SIZE);
+    }
+
+    DefaultRedisBucketManagerFactory(JedisPool jedisPool, int batchSize) {
         this.jedisPool = jedisPool;
+        this.batchSize = batchSize;
     }
 
 
@@ -40,47 +47,47 @@ class DefaultRedisBucketManagerFactory implements RedisBucketManagerFactory {
     public RedisBucketManager apply(String bucketName) {
         requireNonNull(bucketName, "bucket name is required");
 
-        return new RedisBucketManager(bucketName, JSON, jedisPool.getResource());
+        return new RedisBucketManager(bucketName, JSON, jedisPool.getResource(), batchSize);
     }
 
     @Override
     public <T> List<T> getList(String bucketName, Class<T> clazz) {
         requireNonNull(bucketName, "bucket name is required");
         requireNonNull(clazz, "Class type is required");
-        return new RedisList<>(jedisPool.getResource(), clazz, bucketName);
+        return new RedisList<>(jedisPool, clazz, bucketName);
     }
 
     @Override
     public <T> Set<T> getSet(String bucketName, Class<T> clazz) {
         requireNonNull(bucketName, "bucket name is required");
         requireNonNull(clazz, "Class type is required");
-        return new RedisSet<>(jedisPool.getResource(), clazz, bucketName);
+        return new RedisSet<>(jedisPool, clazz, bucketName);
     }
 
     @Override
     public <T> Queue<T> getQueue(String bucketName, Class<T> clazz) {
         requireNonNull(bucketName, "bucket name is required");
         requireNonNull(clazz, "Class type is required");
-        return new RedisQueue<>(jedisPool.getResource(), clazz, bucketName);
+        return new RedisQueue<>(jedisPool, clazz, bucketName);
     }
 
     @Override
     public <K, V> Map<K, V> getMap(String bucketName, Class<K> keyValue, Class<V> valueValue) {
         requireNonNull(bucketName, "bucket name is required");
         requireNonNull(valueValue, "Class type is required");
-        return new RedisMap<>(jedisPool.getResource(), keyValue, valueValue, bucketName);
+        return new RedisMap<>(jedisPool, keyValue, valueValue, bucketName);
     }
 
     @Override
     public SortedSet getSortedSet(String key) throws NullPointerException {
         requireNonNull(key, "key is required");
-        return new DefaultSortedSet(jedisPool.getResource(), key);
+        return new DefaultSortedSet(jedisPool, key);
     }
 
     @Override
     public Counter getCounter(String key) throws NullPointerException {
         requireNonNull(key, "key is required");
-        return new DefaultCounter(key, jedisPool.getResource());
+        return new DefaultCounter(key, jedisPool);
     }
 
 
@@ -93,6 +100,7 @@ class DefaultRedisBucketManagerFactory implements RedisBucketManagerFactory {
     public String toString() {
         final StringBuilder sb = new StringBuilder("RedisBucketManagerFactory{");
         sb.append("jedisPool=").append(jedisPool);
+        sb.append(", batchSize=").append(batchSize);
         sb.append('}');
         return sb.toString();
     }
@@ -16,7 +16,7 @@
 package org.eclipse.jnosql.databases.redis.communication;
 
 
-import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
 
 import java.time.Duration;
 import java.util.List;
@@ -33,33 +33,33 @@ class DefaultSortedSet implements SortedSet {
     private static final int LAST_ELEMENT = -1;
     private String key;
 
-    private Jedis jedis;
+    private final JedisPool jedisPool;
 
-    DefaultSortedSet(Jedis jedis, String keyspace) {
-        Objects.requireNonNull(jedis, "jedis is required");
+    DefaultSortedSet(JedisPool jedisPool, String keyspace) {
+        Objects.requireNonNull(jedisPool, "jedisPool is required");
         Objects.requireNonNull(keyspace, "keyspace is required");
         this.key = keyspace;
-        this.jedis = jedis;
+        this.jedisPool = jedisPool;
     }
 
     @Override
     public void add(String member, Number value) throws NullPointerException {
         Objects.requireNonNull(member, "member is required");
         Objects.requireNonNull(value, "value is required");
-        jedis.zadd(key, value.doubleValue(), member);
+        RedisUtils.run(jedisPool, jedis -> jedis.zadd(key, value.doubleValue(), member));
     }
 
     @Override
     public void add(Ranking ranking) throws NullPointerException {
         Objects.requireNonNull(ranking, "ranking is required");
-        jedis.zadd(key, ranking.getPoints().doubleValue(), ranking.getMember());
+        add(ranking.getMember(), ranking.getPoints());
     }
 
     @Override
     public Number increment(String member, Number value) throws NullPointerException {
         Objects.requireNonNull(member, "member is required");
         Objects.requireNonNull(value, "value is required");
-        return jedis.zincrby(key, value.doubleValue(), member);
+        return RedisUtils.execute(jedisPool, jedis -> jedis.zincrby(key, value.doubleValue(), member));
     }
 
     @Override
@@ -71,12 +71,12 @@ class DefaultSortedSet implements SortedSet {
 
     @Override
     public void remove(String member) throws NullPointerException {
-        jedis.zrem(key, member);
+        RedisUtils.run(jedisPool, jedis -> jedis.zrem(key, member));
     }
 
     @Override
     public int size() {
-        return (int) jedis.zcard(key);
+        return RedisUtils.execute(jedisPool, jedis -> (int) jedis.zcard(key));
     }
 
     @Override
@@ -86,31 +86,31 @@ class DefaultSortedSet implements SortedSet {
 
     @Override
     public void delete() {
-        jedis.del(key);
+        RedisUtils.run(jedisPool, jedis -> jedis.del(key));
     }
 
 
     @Override
     public void expire(Duration ttl) throws NullPointerException {
         Objects.requireNonNull(ttl, "ttl is required");
-        jedis.expire(key, (int) ttl.getSeconds());
+        RedisUtils.run(jedisPool, jedis -> jedis.expire(key, (int) ttl.getSeconds()));
     }
 
     @Override
     public void persist() {
-        jedis.persist(key);
+        RedisUtils.run(jedisPool, jedis -> jedis.persist(key));
     }
 
     @Override
     public List<Ranking> range(long start, long end) {
-        return jedis.zrangeWithScores(key, start, end).stream()
+        return RedisUtils.execute(jedisPool, jedis -> jedis.zrangeWithScores(key, start, end)).stream()
                 .map(t -> new DefaultRanking(t.getElement(), t.getScore()))
                 .collect(toList());
     }
 
     @Override
     public List<Ranking> revRange(long start, long end) {
-        return jedis.zrevrangeWithScores(key, start, end).stream()
+        return RedisUtils.execute(jedisPool, jedis -> jedis.zrevrangeWithScores(key, start, end)).stream()
                 .map(t -> new DefaultRanking(t.getElement(), t.getScore()))
                 .collect(toList());
     }
@@ -127,7 +127,7 @@ class DefaultSortedSet implements SortedSet {
 
     @Override
     public void clear() {
-        jedis.del(key);
+        RedisUtils.run(jedisPool, jedis -> jedis.del(key));
     }
 
     @Override
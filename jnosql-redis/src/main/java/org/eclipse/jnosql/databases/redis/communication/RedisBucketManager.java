@@ -22,28 +22,43 @@ import org.eclipse.jnosql.communication.driver.ValueJSON;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.params.SetParams;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
-
-import static java.util.stream.Collectors.toList;
 
 /**
- * The redis implementation to {@link BucketManager}
+ * The redis implementation to {@link BucketManager}.
+ * The operations over several keys are sent in batches of, at most, {@link RedisConfigurations#BATCH_SIZE} keys:
+ * MSET, MGET and DEL with multiple keys, or a pipeline of SET with EX when there is a TTL.
  */
 public class RedisBucketManager implements BucketManager {
 
+    static final int DEFAULT_BATCH_SIZE = 1000;
+
     private final String nameSpace;
     private final Jsonb jsonB;
 
     private final Jedis jedis;
 
+    private final int batchSize;
+
     RedisBucketManager(String nameSpace, Jsonb provider, Jedis jedis) {
+        this(nameSpace, provider, jedis, DEFAULT_BATCH_SIZE);
+    }
+
+    RedisBucketManager(String nameSpace, Jsonb provider, Jedis jedis, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be greater than zero: " + batchSize);
+        }
         this.nameSpace = nameSpace;
         this.jsonB = provider;
         this.jedis = jedis;
+        this.batchSize = batchSize;
     }
 
     @Override
@@ -66,22 +81,52 @@ public class RedisBucketManager implements BucketManager {
 
     @Override
     public void put(KeyValueEntity entity, Duration ttl) throws NullPointerException, UnsupportedOperationException {
-        put(entity);
-        String valideKey = RedisUtils.createKeyWithNameSpace(entity.key().toString(), nameSpace);
-        jedis.expire(valideKey, (int) ttl.getSeconds());
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        if (isExpired(ttl)) {
+            jedis.del(key(entity.key()));
+            return;
+        }
+        jedis.set(key(entity.key()), json(entity.value()), SetParams.setParams().px(ttl.toMillis()));
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> entities) throws NullPointerException {
-        StreamSupport.stream(entities.spliterator(), false).forEach(this::put);
+        Objects.requireNonNull(entities, "entities is required");
+        List<String> keysValues = new ArrayList<>();
+        for (KeyValueEntity entity : entities) {
+            keysValues.add(key(entity.key()));
+            keysValues.add(json(entity.value()));
+            if (keysValues.size() == batchSize * 2) {
+                jedis.mset(keysValues.toArray(String[]::new));
+                keysValues.clear();
+            }
+        }
+        if (!keysValues.isEmpty()) {
+            jedis.mset(keysValues.toArray(String[]::new));
+        }
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> entities, Duration ttl) throws NullPointerException, UnsupportedOperationException {
-        StreamSupport.stream(entities.spliterator(), false).forEach(this::put);
-        StreamSupport.stream(entities.spliterator(), false).map(KeyValueEntity::key)
-                .map(k -> RedisUtils.createKeyWithNameSpace(k.toString(), nameSpace))
-                .forEach(k -> jedis.expire(k, (int) ttl.getSeconds()));
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        boolean expired = isExpired(ttl);
+        SetParams params = expired ? null : SetParams.setParams().px(ttl.toMillis());
+        try (Pipeline pipeline = jedis.pipelined()) {
+            int size = 0;
+            for (KeyValueEntity entity : entities) {
+                if (expired) {
+                    pipeline.del(key(entity.key()));
+                } else {
+                    pipeline.set(key(entity.key()), json(entity.value()), params);
+                }
+                if (++size % batchSize == 0) {
+                    pipeline.sync();
+                }
+            }
+            pipeline.sync();
+        }
     }
 
     @Override
@@ -95,10 +140,19 @@ public class RedisBucketManager implements BucketManager {
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        return StreamSupport.stream(keys.spliterator(), false)
-                .map(k -> jedis.get(RedisUtils.createKeyWithNameSpace(k.toString(), nameSpace)))
-                .filter(value -> value != null && !value.isEmpty())
-                .map(ValueJSON::of).collect(toList());
+        Objects.requireNonNull(keys, "keys is required");
+        List<Value> values = new ArrayList<>();
+        List<String> batch = new ArrayList<>();
+        for (K key : keys) {
+            batch.add(key(key));
+            if (batch.size() == batchSize) {
+                mget(batch, values);
+            }
+        }
+        if (!batch.isEmpty()) {
+            mget(batch, values);
+        }
+        return values;
     }
 
     @Override
@@ -108,11 +162,48 @@ public class RedisBucketManager implements BucketManager {
 
     @Override
     public <K> void delete(Iterable<K> keys) {
-        StreamSupport.stream(keys.spliterator(), false).forEach(this::delete);
+        Objects.requireNonNull(keys, "keys is required");
+        List<String> batch = new ArrayList<>();
+        for (K key : keys) {
+            batch.add(key(key));
+            if (batch.size() == batchSize) {
+                jedis.del(batch.toArray(String[]::new));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jedis.del(batch.toArray(String[]::new));
+        }
     }
 
     @Override
     public void close() {
         jedis.close();
     }
+
+    private void mget(List<String> keys, List<Value> values) {
+        for (String value : jedis.mget(keys.toArray(String[]::new))) {
+            if (value != null && !value.isEmpty()) {
+                values.add(ValueJSON.of(value));
+            }
+        }
+        keys.clear();
+    }
+
+    /**
+     * SET rejects a PX of zero, so a ttl below one millisecond, zero or negative, removes the key as EXPIRE does.
+     */
+    private static boolean isExpired(Duration ttl) {
+        return ttl.toMillis() <= 0;
+    }
+
+    private String key(Object key) {
+        Objects.requireNonNull(key, "key is required");
+        return RedisUtils.createKeyWithNameSpace(key.toString(), nameSpace);
+    }
+
+    private String json(Object value) {
+        Objects.requireNonNull(value, "Value is required");
+        return jsonB.toJson(value);
+    }
 }
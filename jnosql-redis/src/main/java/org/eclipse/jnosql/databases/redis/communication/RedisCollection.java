@@ -18,31 +18,41 @@ package org.eclipse.jnosql.databases.redis.communication;
 import jakarta.json.bind.Jsonb;
 import org.eclipse.jnosql.communication.driver.JsonbSupplier;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 abstract class RedisCollection<T> implements Collection<T> {
 
     protected static final  Jsonb JSONB = JsonbSupplier.getInstance().get();
 
+    /**
+     * The number of elements fetched with each {@code LRANGE} while iterating.
+     */
+    static final int PAGE_SIZE = 1000;
+
     protected final Class<T> clazz;
 
     protected final String keyWithNameSpace;
 
-    protected final Jedis jedis;
+    protected final JedisPool jedisPool;
 
     protected final boolean isString;
 
 
 
-    RedisCollection(Jedis jedis, Class<T> clazz, String keyWithNameSpace) {
+    RedisCollection(JedisPool jedisPool, Class<T> clazz, String keyWithNameSpace) {
         this.clazz = clazz;
         this.keyWithNameSpace = keyWithNameSpace;
-        this.jedis = jedis;
+        this.jedisPool = jedisPool;
         this.isString = String.class.equals(clazz);
     }
 
@@ -59,7 +69,7 @@ abstract class RedisCollection<T> implements Collection<T> {
 
     @Override
     public int size() {
-        return (int) jedis.llen(keyWithNameSpace);
+        return execute(jedis -> (int) jedis.llen(keyWithNameSpace));
     }
 
     @Override
@@ -74,7 +84,7 @@ abstract class RedisCollection<T> implements Collection<T> {
 
     @Override
     public Iterator<T> iterator() {
-        return toArrayList().iterator();
+        return new PageIterator();
     }
 
     @Override
@@ -124,24 +134,19 @@ abstract class RedisCollection<T> implements Collection<T> {
         if (!clazz.isInstance(o)) {
             throw new ClassCastException("The object required is " + clazz.getName());
         }
-        int index = indexOf(o);
-
-        if (index == -1) {
-            return false;
-        } else {
-            remove(index);
-        }
-
-        return true;
+        String value = serialize(o);
+        return execute(jedis -> jedis.lrem(keyWithNameSpace, 1, value)) > 0;
     }
 
     protected T remove(int index) {
-        String value = jedis.lindex(keyWithNameSpace, (long) index);
-        if (value != null && !value.isEmpty()) {
-            jedis.lrem(keyWithNameSpace, 1, value);
-            return serialize(value);
-        }
-        return null;
+        return execute(jedis -> {
+            String value = jedis.lindex(keyWithNameSpace, (long) index);
+            if (value != null && !value.isEmpty()) {
+                jedis.lrem(keyWithNameSpace, 1, value);
+                return serialize(value);
+            }
+            return null;
+        });
     }
 
 
@@ -151,35 +156,33 @@ abstract class RedisCollection<T> implements Collection<T> {
         }
 
         String value = serialize(o);
-        for (int index = 0; index < size(); index++) {
-            String findedValue = jedis.lindex(keyWithNameSpace, (long) index);
-            if (value.equals(findedValue)) {
-                return index;
-            }
-        }
-        return -1;
+        Long index = execute(jedis -> jedis.lpos(keyWithNameSpace, value));
+        return index == null ? -1 : index.intValue();
     }
 
 
     protected List<T> toArrayList() {
         List<T> list = new ArrayList<>();
-        for (int index = 0; index < size(); index++) {
-            T element = get(index);
-            if (element != null) {
-                list.add(element);
-            }
-        }
+        iterator().forEachRemaining(list::add);
         return list;
     }
 
     protected T get(int index) {
-        String value = jedis.lindex(keyWithNameSpace, index);
+        String value = execute(jedis -> jedis.lindex(keyWithNameSpace, index));
         if (value == null || value.isEmpty()) {
             return null;
         }
         return serialize(value);
     }
 
+    protected <R> R execute(Function<Jedis, R> operation) {
+        return RedisUtils.execute(jedisPool, operation);
+    }
+
+    protected void run(Consumer<Jedis> operation) {
+        RedisUtils.run(jedisPool, operation);
+    }
+
 
     protected T serialize(String value) {
         if(isString) {
@@ -196,6 +199,52 @@ abstract class RedisCollection<T> implements Collection<T> {
     }
 
 
+    /**
+     * Iterates over the list lazily, fetching {@link #PAGE_SIZE} elements per {@code LRANGE}.
+     */
+    private class PageIterator implements Iterator<T> {
+
+        private Iterator<String> page = Collections.emptyIterator();
+
+        private long start;
+
+        private boolean last;
+
+        private T next;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (!page.hasNext()) {
+                    if (last) {
+                        return false;
+                    }
+                    List<String> values = execute(jedis -> jedis.lrange(keyWithNameSpace, start,
+                            start + PAGE_SIZE - 1));
+                    start += values.size();
+                    last = values.size() < PAGE_SIZE;
+                    page = values.iterator();
+                    continue;
+                }
+                String value = page.next();
+                if (value != null && !value.isEmpty()) {
+                    next = serialize(value);
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There is no more elements at the " + keyWithNameSpace);
+            }
+            T element = next;
+            next = null;
+            return element;
+        }
+    }
+
     @Override
     public int hashCode() {
         return Objects.hashCode(keyWithNameSpace);
@@ -72,7 +72,10 @@ public final class RedisConfiguration implements KeyValueConfiguration {
 
         JedisPoolConfig poolConfig = getJedisPoolConfig(settings);
         JedisPool jedisPool = getJedisPool(settings, poolConfig);
-        return new DefaultRedisBucketManagerFactory(jedisPool);
+        Integer batchSize = settings.get(RedisConfigurations.BATCH_SIZE)
+                .map(Object::toString).map(Integer::parseInt)
+                .orElse(RedisBucketManager.DEFAULT_BATCH_SIZE);
+        return new DefaultRedisBucketManagerFactory(jedisPool, batchSize);
     }
 
 
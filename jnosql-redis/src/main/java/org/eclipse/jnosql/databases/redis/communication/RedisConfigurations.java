@@ -70,7 +70,12 @@ public enum RedisConfigurations implements Supplier<String> {
      * The value for the {@code maxWait} configuration attribute for pools created with this configuration instance.
      * The max wait on millis on {@link redis.clients.jedis.JedisPoolConfig}, the default value 3000
      */
-    MAX_WAIT_MILLIS("jnosql.redis.max.wait.millis");
+    MAX_WAIT_MILLIS("jnosql.redis.max.wait.millis"),
+    /**
+     * The maximum number of keys sent in a single MSET, MGET, DEL or pipeline when the
+     * {@link RedisBucketManager} handles several keys, the default value 1000
+     */
+    BATCH_SIZE("jnosql.redis.batch.size");
 
     private final String configuration;
 
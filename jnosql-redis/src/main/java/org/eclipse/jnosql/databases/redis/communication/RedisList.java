@@ -15,12 +15,12 @@
 
 package org.eclipse.jnosql.databases.redis.communication;
 
-import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.args.ListPosition;
+import redis.clients.jedis.params.LPosParams;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
@@ -28,13 +28,13 @@ import java.util.Objects;
 class RedisList<T> extends RedisCollection<T> implements List<T> {
 
 
-    RedisList(Jedis jedis, Class<T> clazz, String keyWithNameSpace) {
-        super(jedis, clazz, keyWithNameSpace);
+    RedisList(JedisPool jedisPool, Class<T> clazz, String keyWithNameSpace) {
+        super(jedisPool, clazz, keyWithNameSpace);
     }
 
     @Override
     public int size() {
-        return (int) jedis.llen(keyWithNameSpace);
+        return execute(jedis -> (int) jedis.llen(keyWithNameSpace));
     }
 
     @Override
@@ -53,30 +53,11 @@ class RedisList<T> extends RedisCollection<T> implements List<T> {
         return toArrayList().listIterator(index);
     }
 
-    @Override
-    public Iterator<T> iterator() {
-        return toArrayList().iterator();
-    }
-
     @Override
     public boolean add(T e) {
         Objects.requireNonNull(e);
-        int index = size();
-        if (index == 0) {
-            if(isString) {
-                jedis.lpush(keyWithNameSpace, e.toString());
-            } else {
-                jedis.lpush(keyWithNameSpace, JSONB.toJson(e));
-            }
-        } else {
-            String previewValue = jedis.lindex(keyWithNameSpace, index - 1);
-            if(isString) {
-                jedis.linsert(keyWithNameSpace, ListPosition.AFTER, previewValue, e.toString());
-            }else {
-                jedis.linsert(keyWithNameSpace, ListPosition.AFTER, previewValue,
-                        JSONB.toJson(e));
-            }
-        }
+        String value = serialize(e);
+        run(jedis -> jedis.rpush(keyWithNameSpace, value));
         return true;
     }
 
@@ -91,7 +72,7 @@ class RedisList<T> extends RedisCollection<T> implements List<T> {
 
     @Override
     public void clear() {
-        jedis.del(keyWithNameSpace);
+        run(jedis -> jedis.del(keyWithNameSpace));
     }
 
     @Override
@@ -102,30 +83,23 @@ class RedisList<T> extends RedisCollection<T> implements List<T> {
     @Override
     public T set(int index, T element) {
         Objects.requireNonNull(element);
-        if(isString) {
-            jedis.lset(keyWithNameSpace, index, element.toString());
-        } else {
-            jedis.lset(keyWithNameSpace, index, JSONB.toJson(element));
-        }
-
+        String value = serialize(element);
+        run(jedis -> jedis.lset(keyWithNameSpace, index, value));
         return element;
     }
 
     @Override
     public void add(int index, T element) {
         Objects.requireNonNull(element);
-        String previewValue = jedis.lindex(keyWithNameSpace, index);
-        if (previewValue != null && !previewValue.isEmpty()) {
-            if(isString) {
-                jedis.linsert(keyWithNameSpace, ListPosition.BEFORE, previewValue, element.toString());
+        String value = serialize(element);
+        run(jedis -> {
+            String previewValue = jedis.lindex(keyWithNameSpace, index);
+            if (previewValue != null && !previewValue.isEmpty()) {
+                jedis.linsert(keyWithNameSpace, ListPosition.BEFORE, previewValue, value);
             } else {
-                jedis.linsert(keyWithNameSpace, ListPosition.BEFORE, previewValue, JSONB.toJson(element));
+                jedis.rpush(keyWithNameSpace, value);
             }
-
-        } else {
-            add(element);
-        }
-
+        });
     }
 
     @Override
@@ -143,19 +117,14 @@ class RedisList<T> extends RedisCollection<T> implements List<T> {
         Objects.requireNonNull(o);
 
         String value = serialize(o);
-        for (int index = size(); index > 0; --index) {
-            String findedValue = jedis.lindex(keyWithNameSpace, (long) index);
-            if (value.equals(findedValue)) {
-                return index;
-            }
-        }
-        return -1;
+        Long index = execute(jedis -> jedis.lpos(keyWithNameSpace, value, LPosParams.lPosParams().rank(-1)));
+        return index == null ? -1 : index.intValue();
     }
 
     @Override
     public List<T> subList(int fromIndex, int toIndex) {
         List<T> subList = new ArrayList<>();
-        List<String> elements = jedis.lrange(keyWithNameSpace, fromIndex, toIndex);
+        List<String> elements = execute(jedis -> jedis.lrange(keyWithNameSpace, fromIndex, toIndex));
         for (String element : elements) {
             if(isString) {
                 subList.add((T) element);
@@ -18,14 +18,23 @@ package org.eclipse.jnosql.databases.redis.communication;
 import jakarta.json.bind.Jsonb;
 import org.eclipse.jnosql.communication.driver.JsonbSupplier;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
 
+import java.util.AbstractCollection;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 
@@ -34,31 +43,36 @@ class RedisMap<K, V> implements Map<K, V> {
 
     protected static final Jsonb JSONB = JsonbSupplier.getInstance().get();
 
+    /**
+     * The number of fields fetched with each {@code HSCAN} and sent with each {@code HSET}.
+     */
+    static final int PAGE_SIZE = 1000;
+
     private final Class<K> keyClass;
 
     private final Class<V> valueClass;
 
     private final String nameSpace;
 
-    private final Jedis jedis;
+    private final JedisPool jedisPool;
 
     private final boolean isKeyString;
 
     private final boolean isValueString;
 
 
-    RedisMap(Jedis jedis, Class<K> keyValue, Class<V> valueClass, String keyWithNameSpace) {
+    RedisMap(JedisPool jedisPool, Class<K> keyValue, Class<V> valueClass, String keyWithNameSpace) {
         this.keyClass = keyValue;
         this.valueClass = valueClass;
         this.nameSpace = keyWithNameSpace;
-        this.jedis = jedis;
+        this.jedisPool = jedisPool;
         this.isKeyString = String.class.equals(keyClass);
         this.isValueString = String.class.equals(valueClass);
     }
 
     @Override
     public int size() {
-        return jedis.hgetAll(nameSpace).size();
+        return execute(jedis -> (int) jedis.hlen(nameSpace));
     }
 
     @Override
@@ -69,11 +83,8 @@ class RedisMap<K, V> implements Map<K, V> {
     @Override
     public boolean containsKey(Object key) {
         requireNonNull(key, "key is required");
-        if (isKeyString) {
-            return jedis.hexists(nameSpace, key.toString());
-        } else {
-            return jedis.hexists(nameSpace, JSONB.toJson(key));
-        }
+        String field = toField(key);
+        return execute(jedis -> jedis.hexists(nameSpace, field));
     }
 
     @Override
@@ -86,27 +97,23 @@ class RedisMap<K, V> implements Map<K, V> {
             valueString = JSONB.toJson(value);
         }
 
-        Map<String, String> map = createRedisMap();
-        return map.containsValue(valueString);
+        Iterator<Entry<String, String>> entries = new ScanIterator();
+        while (entries.hasNext()) {
+            if (valueString.equals(entries.next().getValue())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public V get(Object key) {
         requireNonNull(key, "Key is required");
 
-        String value = jedis.hget(nameSpace, JSONB.toJson(key));
-        if (isKeyString) {
-            value = jedis.hget(nameSpace, key.toString());
-        } else {
-            value = jedis.hget(nameSpace, JSONB.toJson(key));
-        }
+        String field = toField(key);
+        String value = execute(jedis -> jedis.hget(nameSpace, field));
         if (value != null && !value.isEmpty()) {
-            if (isValueString) {
-                return (V) value;
-            } else {
-                return JSONB.fromJson(value, valueClass);
-            }
-
+            return toValue(value);
         }
         return null;
     }
@@ -116,12 +123,7 @@ class RedisMap<K, V> implements Map<K, V> {
         requireNonNull(value, "Value is required");
         requireNonNull(value, "Key is required");
 
-        String keyJson;
-        if(isKeyString) {
-            keyJson = key.toString();
-        } else {
-             keyJson = JSONB.toJson(key);
-        }
+        String keyJson = toField(key);
         String valueJSON;
 
         if(isValueString) {
@@ -129,22 +131,23 @@ class RedisMap<K, V> implements Map<K, V> {
         } else {
             valueJSON = JSONB.toJson(value);
         }
-        jedis.hset(nameSpace, keyJson, valueJSON);
+        run(jedis -> jedis.hset(nameSpace, keyJson, valueJSON));
         return value;
     }
 
     @Override
     public V remove(Object key) {
         requireNonNull(key, "Key is required");
-        V value = get(key);
-        if (value != null) {
-            if (isKeyString) {
-                jedis.hdel(nameSpace, key.toString());
-            } else {
-                jedis.hdel(nameSpace, JSONB.toJson(key));
+        String field = toField(key);
+        String value = execute(jedis -> {
+            String current = jedis.hget(nameSpace, field);
+            if (current != null) {
+                jedis.hdel(nameSpace, field);
             }
-
-            return value;
+            return current;
+        });
+        if (value != null && !value.isEmpty()) {
+            return toValue(value);
         }
         return null;
     }
@@ -153,60 +156,194 @@ class RedisMap<K, V> implements Map<K, V> {
     public void putAll(Map<? extends K, ? extends V> map) {
         requireNonNull(map, "map is required");
 
-        for (K key : map.keySet()) {
-            V value = map.get(key);
-            if (value != null) {
-                put(key, value);
+        Map<String, String> fields = new HashMap<>();
+        for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            if (entry.getValue() != null) {
+                fields.put(toField(entry.getKey()), isValueString ? entry.getValue().toString()
+                        : JSONB.toJson(entry.getValue()));
+            }
+            if (fields.size() == PAGE_SIZE) {
+                hset(fields);
             }
         }
+        hset(fields);
     }
 
     @Override
     public void clear() {
-        jedis.del(nameSpace);
+        run(jedis -> jedis.del(nameSpace));
     }
 
     @Override
     public Set<K> keySet() {
-        return createHashMap().keySet();
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<K> iterator() {
+                ScanIterator entries = new ScanIterator();
+                return new ViewIterator<>(entries, e -> toKey(e.getKey()));
+            }
+
+            @Override
+            public int size() {
+                return RedisMap.this.size();
+            }
+
+            @Override
+            public boolean contains(Object key) {
+                return containsKey(key);
+            }
+        };
     }
 
     @Override
     public Collection<V> values() {
-        return createHashMap().values();
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<V> iterator() {
+                ScanIterator entries = new ScanIterator();
+                return new ViewIterator<>(entries, e -> toValue(e.getValue()));
+            }
+
+            @Override
+            public int size() {
+                return RedisMap.this.size();
+            }
+        };
     }
 
     @Override
     public Set<Entry<K, V>> entrySet() {
-        return createHashMap().entrySet();
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                ScanIterator entries = new ScanIterator();
+                return new ViewIterator<>(entries, e -> new SimpleImmutableEntry<>(toKey(e.getKey()),
+                        toValue(e.getValue())));
+            }
+
+            @Override
+            public int size() {
+                return RedisMap.this.size();
+            }
+        };
+    }
+
+    private void hset(Map<String, String> fields) {
+        if (!fields.isEmpty()) {
+            run(jedis -> jedis.hset(nameSpace, fields));
+            fields.clear();
+        }
+    }
+
+    private String toField(Object key) {
+        return isKeyString ? key.toString() : JSONB.toJson(key);
     }
 
-    private Map<String, String> createRedisMap() {
-        Map<String, String> map = jedis.hgetAll(nameSpace);
-        return map;
+    @SuppressWarnings("unchecked")
+    private K toKey(String field) {
+        return isKeyString ? (K) field : JSONB.fromJson(field, keyClass);
     }
 
-    private Map<K, V> createHashMap() {
-        Map<K, V> values = new HashMap<>();
-        Map<String, String> redisMap = createRedisMap();
-        final Function<String, K> keyFunction = k -> {
-            if(isKeyString) {
-                return (K) k;
-            } else {
-                return JSONB.fromJson(k, keyClass);
+    @SuppressWarnings("unchecked")
+    private V toValue(String value) {
+        return isValueString ? (V) value : JSONB.fromJson(value, valueClass);
+    }
+
+    private <T> T execute(Function<Jedis, T> operation) {
+        return RedisUtils.execute(jedisPool, operation);
+    }
+
+    private void run(Consumer<Jedis> operation) {
+        RedisUtils.run(jedisPool, operation);
+    }
+
+    /**
+     * Iterates over the raw fields and values of the hash, fetching them lazily with {@code HSCAN}, so only a page
+     * is in memory. As documented for {@code HSCAN}, a field may be returned more than once when the hash is
+     * rehashed during the iteration, and a field added or removed meanwhile may or may not be returned.
+     */
+    private class ScanIterator implements Iterator<Entry<String, String>> {
+
+        private final ScanParams params = new ScanParams().count(PAGE_SIZE);
+
+        private Iterator<Entry<String, String>> page = Collections.emptyIterator();
+
+        private String cursor = ScanParams.SCAN_POINTER_START;
+
+        private boolean completed;
+
+        private Entry<String, String> next;
+
+        private String current;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (page.hasNext()) {
+                    next = page.next();
+                } else if (completed) {
+                    return false;
+                } else {
+                    ScanResult<Entry<String, String>> result = execute(jedis -> jedis.hscan(nameSpace, cursor, params));
+                    cursor = result.getCursor();
+                    completed = result.isCompleteIteration();
+                    page = result.getResult().iterator();
+                }
             }
-        };
-        final Function<String, V> valueFunction = k -> {
-            if(isValueString) {
-                return (V) redisMap.get(k);
-            } else {
-                return JSONB.fromJson(redisMap.get(k), valueClass);
+            return true;
+        }
+
+        @Override
+        public Entry<String, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There is no more entries at the " + nameSpace);
             }
-        };
-        return redisMap.keySet().stream().collect(Collectors
-                .toMap(keyFunction, valueFunction));
+            Entry<String, String> entry = next;
+            next = null;
+            current = entry.getKey();
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (current == null) {
+                throw new IllegalStateException("next() was not called");
+            }
+            String field = current;
+            run(jedis -> jedis.hdel(nameSpace, field));
+            current = null;
+        }
     }
 
+    /**
+     * Decodes the entries of the {@link ScanIterator} on demand.
+     */
+    private static class ViewIterator<E> implements Iterator<E> {
+
+        private final ScanIterator entries;
+
+        private final Function<Entry<String, String>, E> mapper;
+
+        ViewIterator(ScanIterator entries, Function<Entry<String, String>, E> mapper) {
+            this.entries = entries;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return entries.hasNext();
+        }
+
+        @Override
+        public E next() {
+            return mapper.apply(entries.next());
+        }
+
+        @Override
+        public void remove() {
+            entries.remove();
+        }
+    }
 
     @Override
     public String toString() {
@@ -214,7 +351,6 @@ class RedisMap<K, V> implements Map<K, V> {
         sb.append("keyClass=").append(keyClass);
         sb.append(", valueClass=").append(valueClass);
         sb.append(", nameSpace='").append(nameSpace).append('\'');
-        sb.append(", jedis=").append(jedis);
         sb.append(", JsonB=").append(JSONB);
         sb.append('}');
         return sb.toString();
@@ -15,7 +15,7 @@
 
 package org.eclipse.jnosql.databases.redis.communication;
 
-import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
 
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -23,23 +23,20 @@ import java.util.Queue;
 
 class RedisQueue<T> extends RedisCollection<T> implements Queue<T> {
 
-    RedisQueue(Jedis jedis, Class<T> clazz, String keyWithNameSpace) {
-        super(jedis, clazz, keyWithNameSpace);
+    RedisQueue(JedisPool jedisPool, Class<T> clazz, String keyWithNameSpace) {
+        super(jedisPool, clazz, keyWithNameSpace);
     }
 
     @Override
     public void clear() {
-        jedis.del(keyWithNameSpace);
+        run(jedis -> jedis.del(keyWithNameSpace));
     }
 
     @Override
     public boolean add(T e) {
         Objects.requireNonNull(e);
-        if(isString){
-            jedis.rpush(keyWithNameSpace, e.toString());
-        } else {
-            jedis.rpush(keyWithNameSpace, JSONB.toJson(e));
-        }
+        String value = serialize(e);
+        run(jedis -> jedis.rpush(keyWithNameSpace, value));
         return true;
     }
 
@@ -59,14 +56,9 @@ class RedisQueue<T> extends RedisCollection<T> implements Queue<T> {
 
     @Override
     public T poll() {
-        String value = jedis.lpop(keyWithNameSpace);
+        String value = execute(jedis -> jedis.lpop(keyWithNameSpace));
         if (value != null && !value.isEmpty()) {
-            if(isString){
-                return (T) value;
-            } else {
-                return JSONB.fromJson(value, clazz);
-            }
-
+            return serialize(value);
         }
         return null;
     }
@@ -82,17 +74,11 @@ class RedisQueue<T> extends RedisCollection<T> implements Queue<T> {
 
     @Override
     public T peek() {
-        int index = size();
-        if (index == 0) {
-            return null;
-        }
-        if(isString) {
-            return (T) jedis.lindex(keyWithNameSpace, (long) index - 1);
-        } else {
-            return JSONB.fromJson(jedis.lindex(keyWithNameSpace, (long) index - 1), clazz);
+        String value = execute(jedis -> jedis.lindex(keyWithNameSpace, -1L));
+        if (value != null && !value.isEmpty()) {
+            return serialize(value);
         }
-
-
+        return null;
     }
 
 }
@@ -15,38 +15,36 @@
 
 package org.eclipse.jnosql.databases.redis.communication;
 
-import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 class RedisSet<T> extends RedisCollection<T> implements Set<T> {
 
-    RedisSet(Jedis jedis, Class<T> clazz, String keyWithNameSpace) {
-        super(jedis, clazz, keyWithNameSpace);
+    RedisSet(JedisPool jedisPool, Class<T> clazz, String keyWithNameSpace) {
+        super(jedisPool, clazz, keyWithNameSpace);
     }
 
     @Override
     public boolean add(T e) {
         Objects.requireNonNull(e);
-        if (isString) {
-            jedis.sadd(keyWithNameSpace, e.toString());
-        } else {
-            jedis.sadd(keyWithNameSpace, JSONB.toJson(e));
-        }
+        String value = serialize(e);
+        run(jedis -> jedis.sadd(keyWithNameSpace, value));
         return true;
     }
 
     @Override
     public void clear() {
-        jedis.del(keyWithNameSpace);
+        run(jedis -> jedis.del(keyWithNameSpace));
     }
 
     @Override
     public int size() {
-        return (int) jedis.scard(keyWithNameSpace);
+        return execute(jedis -> (int) jedis.scard(keyWithNameSpace));
     }
 
     @Override
@@ -54,7 +52,7 @@ class RedisSet<T> extends RedisCollection<T> implements Set<T> {
         Objects.requireNonNull(o);
 
         String find = serialize(o);
-        Set<String> values = jedis.smembers(keyWithNameSpace);
+        Set<String> values = execute(jedis -> jedis.smembers(keyWithNameSpace));
         int index = 0;
         for (String value : values) {
             if (value.contains(find)) {
@@ -65,6 +63,11 @@ class RedisSet<T> extends RedisCollection<T> implements Set<T> {
         return -1;
     }
 
+    @Override
+    public Iterator<T> iterator() {
+        return toArrayList().iterator();
+    }
+
     @Override
     protected T remove(int index) {
         throw new UnsupportedOperationException("Remove with index is not supported on Redis Set");
@@ -76,19 +79,21 @@ class RedisSet<T> extends RedisCollection<T> implements Set<T> {
             throw new ClassCastException("The object required is " + clazz.getName());
         }
         String find = serialize(o);
-        Set<String> values = jedis.smembers(keyWithNameSpace);
-        for (String value : values) {
-            if (value.contains(find)) {
-                jedis.srem(keyWithNameSpace, value);
-                return true;
+        return execute(jedis -> {
+            Set<String> values = jedis.smembers(keyWithNameSpace);
+            for (String value : values) {
+                if (value.contains(find)) {
+                    jedis.srem(keyWithNameSpace, value);
+                    return true;
+                }
             }
-        }
-        return false;
+            return false;
+        });
     }
 
     @Override
     protected List<T> toArrayList() {
-        Set<String> redisValues = jedis.smembers(keyWithNameSpace);
+        Set<String> redisValues = execute(jedis -> jedis.smembers(keyWithNameSpace));
         List<T> list = new ArrayList<>();
         for (String redisValue : redisValues) {
             if (isString) {
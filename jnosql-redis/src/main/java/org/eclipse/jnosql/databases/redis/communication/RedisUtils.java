@@ -15,8 +15,30 @@
 
 package org.eclipse.jnosql.databases.redis.communication;
 
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
 abstract class RedisUtils {
 
+    /**
+     * Borrows a connection from the pool, runs the operation and returns the connection to the pool,
+     * so that the structures that use it can be shared across threads.
+     */
+    static <T> T execute(JedisPool jedisPool, Function<Jedis, T> operation) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            return operation.apply(jedis);
+        }
+    }
+
+    static void run(JedisPool jedisPool, Consumer<Jedis> operation) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            operation.accept(jedis);
+        }
+    }
+
 
     public static String createKeyWithNameSpace(String key, String nameSpace) {
         if (key == null || key.isEmpty()) {
@@ -25,10 +25,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
@@ -116,6 +118,68 @@ public class RedisBucketManagerTest {
         assertEquals(0L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
     }
 
+    @Test
+    public void shouldPutAndGetIterableLargerThanBatch() {
+        List<KeyValueEntity> entities = IntStream.range(0, 2500)
+                .mapToObj(i -> KeyValueEntity.of("user-" + i, new User("user-" + i)))
+                .collect(Collectors.toList());
+        List<String> keys = entities.stream().map(e -> e.key().toString()).collect(Collectors.toList());
+        keyValueEntityManager.put(entities);
+
+        Iterable<Value> values = keyValueEntityManager.get(keys);
+        assertEquals(2500L, StreamSupport.stream(values.spliterator(), false).count());
+
+        keyValueEntityManager.delete(keys);
+        assertEquals(0L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
+    }
+
+    @Test
+    public void shouldPutIterableWithTTL() throws InterruptedException {
+        keyValueEntityManager.put(asList(keyValueSoro, keyValueOtavio), Duration.ofSeconds(1L));
+        assertTrue(keyValueEntityManager.get("otavio").isPresent());
+        assertTrue(keyValueEntityManager.get("soro").isPresent());
+        Thread.sleep(2_000L);
+        assertFalse(keyValueEntityManager.get("otavio").isPresent());
+        assertFalse(keyValueEntityManager.get("soro").isPresent());
+    }
+
+    @Test
+    public void shouldPutWithTTL() throws InterruptedException {
+        keyValueEntityManager.put(keyValueOtavio, Duration.ofSeconds(1L));
+        assertTrue(keyValueEntityManager.get("otavio").isPresent());
+        Thread.sleep(2_000L);
+        assertFalse(keyValueEntityManager.get("otavio").isPresent());
+    }
+
+    @Test
+    public void shouldPutWithSubSecondTTL() throws InterruptedException {
+        keyValueEntityManager.put(keyValueOtavio, Duration.ofMillis(500L));
+        assertTrue(keyValueEntityManager.get("otavio").isPresent());
+        Thread.sleep(1_000L);
+        assertFalse(keyValueEntityManager.get("otavio").isPresent());
+    }
+
+    @Test
+    public void shouldPutIterableWithSubSecondTTL() throws InterruptedException {
+        keyValueEntityManager.put(asList(keyValueSoro, keyValueOtavio), Duration.ofMillis(500L));
+        assertTrue(keyValueEntityManager.get("otavio").isPresent());
+        assertTrue(keyValueEntityManager.get("soro").isPresent());
+        Thread.sleep(1_000L);
+        assertFalse(keyValueEntityManager.get("otavio").isPresent());
+        assertFalse(keyValueEntityManager.get("soro").isPresent());
+    }
+
+    @Test
+    public void shouldRemoveWhenTTLIsZero() {
+        keyValueEntityManager.put(keyValueOtavio);
+        keyValueEntityManager.put(keyValueOtavio, Duration.ZERO);
+        assertFalse(keyValueEntityManager.get("otavio").isPresent());
+
+        keyValueEntityManager.put(asList(keyValueSoro, keyValueOtavio), Duration.ofNanos(500L));
+        assertFalse(keyValueEntityManager.get("otavio").isPresent());
+        assertFalse(keyValueEntityManager.get("soro").isPresent());
+    }
+
     @AfterEach
     public void remove() {
         keyValueEntityManager.delete(Arrays.asList("otavio", "soro"));
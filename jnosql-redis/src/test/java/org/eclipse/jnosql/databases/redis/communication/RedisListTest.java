@@ -159,6 +159,21 @@ public class RedisListTest {
         assertEquals(0, count);
     }
 
+    @Test
+    public void shouldIterateMoreThanOnePage() {
+        int size = RedisCollection.PAGE_SIZE * 2 + 1;
+        for (int index = 0; index < size; index++) {
+            fruits.add(new ProductCart("fruit-" + index, BigDecimal.ONE));
+        }
+        int count = 0;
+        for (ProductCart fruit : fruits) {
+            assertEquals("fruit-" + count, fruit.getName());
+            count++;
+        }
+        assertEquals(size, count);
+        assertEquals(size, fruits.toArray().length);
+    }
+
     @Test
     public void shouldClear(){
         fruits.add(orange);
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.databases.redis.communication;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RedisMapScanTest {
+
+    private static final String NAME_SPACE = "map:fruits";
+
+    private Map<String, String> map;
+
+    @BeforeEach
+    public void setUp() {
+        JedisPool pool = mock(JedisPool.class);
+        Jedis jedis = mock(Jedis.class);
+        when(pool.getResource()).thenReturn(jedis);
+        when(jedis.hlen(NAME_SPACE)).thenReturn(3L);
+        when(jedis.hscan(eq(NAME_SPACE), eq(ScanParams.SCAN_POINTER_START), any(ScanParams.class)))
+                .thenReturn(new ScanResult<>("12", List.of(Map.entry("banana", "1"), Map.entry("apple", "2"))));
+        when(jedis.hscan(eq(NAME_SPACE), eq("12"), any(ScanParams.class)))
+                .thenReturn(new ScanResult<>(ScanParams.SCAN_POINTER_START,
+                        List.of(Map.entry("apple", "2"), Map.entry("orange", "3"))));
+        map = new RedisMap<>(pool, String.class, String.class, NAME_SPACE);
+    }
+
+    @Test
+    public void shouldNotRepeatKeys() {
+        List<String> keys = new ArrayList<>();
+        map.keySet().forEach(keys::add);
+        assertThat(keys).containsExactly("banana", "apple", "orange").hasSize(map.size());
+    }
+
+    @Test
+    public void shouldNotRepeatEntries() {
+        List<Map.Entry<String, String>> entries = new ArrayList<>();
+        map.entrySet().forEach(entries::add);
+        assertThat(entries).extracting(Map.Entry::getKey).containsExactly("banana", "apple", "orange");
+    }
+
+    @Test
+    public void shouldNotRepeatValues() {
+        assertThat(map.values()).containsExactly("1", "2", "3");
+    }
+}
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -71,6 +72,24 @@ public class RedisMapTest {
         assertEquals(2, vertebrates.size());
     }
 
+    @Test
+    public void shouldPutAllAndScanMoreThanOnePage() {
+        Map<String, Species> toPutAll = new HashMap<>();
+        int size = RedisMap.PAGE_SIZE * 2 + 1;
+        for (int index = 0; index < size; index++) {
+            toPutAll.put("species-" + index, new Species("animal-" + index));
+        }
+        vertebrates.putAll(toPutAll);
+
+        assertEquals(size, vertebrates.size());
+        assertEquals(toPutAll.keySet(), new HashSet<>(vertebrates.keySet()));
+        assertEquals(size, vertebrates.values().stream().count());
+        for (Map.Entry<String, Species> entry : vertebrates.entrySet()) {
+            assertEquals(toPutAll.get(entry.getKey()).getAnimals(), entry.getValue().getAnimals());
+        }
+        assertTrue(vertebrates.containsValue(toPutAll.get("species-" + (size - 1))));
+    }
+
     @Test
     public void shouldVerifyExist() {
         vertebrates.put("mammals", mammals);
@@ -24,6 +24,9 @@ import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 
 import java.util.NoSuchElementException;
 import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.eclipse.jnosql.communication.driver.IntegrationTest.MATCHES;
 import static org.eclipse.jnosql.communication.driver.IntegrationTest.NAMED;
@@ -114,6 +117,18 @@ public class RedisQueueTest {
         assertTrue(lineBank.isEmpty());
     }
 
+    @Test
+    public void shouldShareTheLineAcrossThreads() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int index = 0; index < 100; index++) {
+            int age = index;
+            executor.submit(() -> lineBank.add(new LineBank("Otavio", age)));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        assertEquals(100, lineBank.size());
+    }
+
     @AfterEach
     public void dispose() {
         lineBank.clear();